@@ -0,0 +1,43 @@
+#!/usr/bin/env bash
+#
+# Hot-path JMH suites with the GC profiler, compared against a stored baseline.
+#
+#   hotpaths.sh compare [jmh args...]   run, then fail on regressions vs the baseline
+#   hotpaths.sh record  [jmh args...]   run and store the result as the new baseline
+#
+# Build first: mvn -f ../pom.xml install -DskipTests && mvn package
+# Extra arguments go to JMH, e.g. "hotpaths.sh compare -f 3" or a narrower
+# benchmark regex. Thresholds: TIME_THRESHOLD and ALLOC_THRESHOLD (percent).
+
+set -euo pipefail
+
+DIR="$(cd "$(dirname "$0")" && pwd)"
+JAR="$DIR/target/benchmarks.jar"
+BASELINE="$DIR/baselines/hotpaths.json"
+RESULT="$DIR/target/hotpaths.json"
+SUITES='\.(JwtService|Email|TaskMapper|TaskPageSerialization|TaskStatusTransition|ValueObject)Benchmark\.'
+
+ACTION="${1:-compare}"
+shift || true
+[[ -f "$JAR" ]] || { echo "$JAR missing: run mvn package" >&2; exit 1; }
+
+if [[ $# -gt 0 && "$1" != -* ]]; then
+    SUITES="$1"
+    shift
+fi
+java -jar "$JAR" -prof gc -rf json -rff "$RESULT" "$SUITES" "$@"
+
+case "$ACTION" in
+    record)
+        cp "$RESULT" "$BASELINE"
+        echo "Baseline written to $BASELINE"
+        ;;
+    compare)
+        java -cp "$JAR" com.demo.copilot.taskmanager.benchmarks.BaselineComparison \
+            "$BASELINE" "$RESULT" "${TIME_THRESHOLD:-10}" "${ALLOC_THRESHOLD:-10}"
+        ;;
+    *)
+        echo "unknown action: $ACTION (compare or record)" >&2
+        exit 1
+        ;;
+esac
@@ -0,0 +1,164 @@
+package com.demo.copilot.taskmanager.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result ({@code -rf json}) with a stored baseline and
+ * fails when a benchmark got slower or allocates more.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.demo.copilot.taskmanager.benchmarks.BaselineComparison \
+ *     baselines/hotpaths.json target/hotpaths.json [time-threshold-%] [alloc-threshold-%]
+ * </pre>
+ *
+ * A time regression must exceed the threshold (default 10%) and the error
+ * intervals must not overlap, so noise alone does not fail the comparison.
+ * An allocation regression compares {@code gc.alloc.rate.norm} (bytes per
+ * operation, from {@code -prof gc}); it must exceed its threshold (default
+ * 10%) and 16 bytes. Benchmarks missing from either file are listed but do
+ * not fail. Exit status is 1 when anything regressed.
+ */
+public final class BaselineComparison {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+    private static final double MIN_ALLOC_DELTA = 16;
+
+    private BaselineComparison() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <current.json> [time-threshold-%] [alloc-threshold-%]");
+            System.exit(2);
+        }
+        double timeThreshold = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.10;
+        double allocThreshold = args.length > 3 ? Double.parseDouble(args[3]) / 100 : 0.10;
+
+        Map<String, Result> baseline = read(new File(args[0]));
+        Map<String, Result> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %8s %12s %12s %8s%n",
+                "Benchmark", "baseline", "current", "change", "base B/op", "cur B/op", "change");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %14s %14s%n", entry.getKey(), "-", format(now.score, now.unit));
+                continue;
+            }
+            double timeChange = change(before.score, now.score, now.higherIsBetter);
+            boolean slower = timeChange > timeThreshold && !overlaps(before, now);
+            double allocChange = change(before.alloc, now.alloc, false);
+            boolean allocates = !Double.isNaN(allocChange) && allocChange > allocThreshold
+                    && now.alloc - before.alloc > MIN_ALLOC_DELTA;
+            if (slower || allocates) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14s %14s %7.1f%%%s %12s %12s %7.1f%%%s%n",
+                    entry.getKey(),
+                    format(before.score, before.unit), format(now.score, now.unit),
+                    timeChange * 100, slower ? "!" : " ",
+                    format(before.alloc), format(now.alloc),
+                    Double.isNaN(allocChange) ? 0 : allocChange * 100, allocates ? "!" : " ");
+        }
+        for (String name : baseline.keySet()) {
+            if (!current.containsKey(name)) {
+                System.out.printf("%-70s (not run)%n", name);
+            }
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%n%d benchmark(s) regressed (marked !)%n", regressions);
+            System.exit(1);
+        }
+        System.out.printf("%nNo regressions%n");
+    }
+
+    /**
+     * Relative change where positive means worse.
+     */
+    private static double change(double before, double now, boolean higherIsBetter) {
+        if (Double.isNaN(before) || Double.isNaN(now) || before == 0) {
+            return Double.NaN;
+        }
+        double ratio = (now - before) / before;
+        return higherIsBetter ? -ratio : ratio;
+    }
+
+    private static boolean overlaps(Result a, Result b) {
+        return a.score - a.error <= b.score + b.error && b.score - b.error <= a.score + a.error;
+    }
+
+    private static String format(double score, String unit) {
+        return String.format("%.3f %s", score, unit);
+    }
+
+    private static String format(double bytes) {
+        return Double.isNaN(bytes) ? "-" : String.format("%.0f", bytes);
+    }
+
+    private static Map<String, Result> read(File file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder name = new StringBuilder(shortName(run.path("benchmark").asText()));
+            Map<String, String> params = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = run.path("params").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> param = fields.next();
+                params.put(param.getKey(), param.getValue().asText());
+            }
+            params.forEach((key, value) -> name.append(' ').append(key).append('=').append(value));
+
+            JsonNode primary = run.path("primaryMetric");
+            JsonNode alloc = allocNorm(run.path("secondaryMetrics"));
+            results.put(name.toString(), new Result(
+                    primary.path("score").asDouble(),
+                    primary.path("scoreError").asDouble(0),
+                    primary.path("scoreUnit").asText(),
+                    "thrpt".equals(run.path("mode").asText()),
+                    alloc == null ? Double.NaN : alloc.path("score").asDouble()));
+        }
+        return results;
+    }
+
+    // Older JMH versions prefix secondary metric names with a middle dot
+    private static JsonNode allocNorm(JsonNode secondary) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = secondary.fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().endsWith(ALLOC_NORM)) {
+                return metric.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String shortName(String benchmark) {
+        String prefix = BaselineComparison.class.getPackageName() + ".";
+        return benchmark.startsWith(prefix) ? benchmark.substring(prefix.length()) : benchmark;
+    }
+
+    private static final class Result {
+        final double score;
+        final double error;
+        final String unit;
+        final boolean higherIsBetter;
+        final double alloc;
+
+        Result(double score, double error, String unit, boolean higherIsBetter, double alloc) {
+            this.score = score;
+            this.error = Double.isNaN(error) ? 0 : error;
+            this.unit = unit;
+            this.higherIsBetter = higherIsBetter;
+            this.alloc = alloc;
+        }
+    }
+}
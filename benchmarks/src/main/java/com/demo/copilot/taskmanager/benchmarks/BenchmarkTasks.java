@@ -0,0 +1,67 @@
+package com.demo.copilot.taskmanager.benchmarks;
+
+import com.demo.copilot.taskmanager.domain.entity.Task;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskCategory;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskId;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskPriority;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+import com.demo.copilot.taskmanager.domain.valueobject.UserId;
+
+import java.lang.reflect.Field;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fully populated tasks, as loaded from the database, for the mapping and
+ * serialization benchmarks. Seeded, so every run sees the same data.
+ */
+final class BenchmarkTasks {
+
+    private BenchmarkTasks() {}
+
+    static List<Task> create(int count) {
+        Random random = new Random(42);
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        TaskCategory[] categories = TaskCategory.values();
+        UserId creator = UserId.generate();
+        OffsetDateTime base = OffsetDateTime.of(2024, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OffsetDateTime createdAt = base.plusMinutes(random.nextInt(500_000));
+            Task task = new Task.Builder()
+                    .id(TaskId.generate())
+                    .taskKey("TM-" + (i + 1))
+                    .title("Task " + (i + 1) + ": review the quarterly planning document")
+                    .description("Go through the document, leave comments on open questions and "
+                            + "agree on owners for each follow-up item before the planning meeting.")
+                    .status(statuses[random.nextInt(statuses.length)])
+                    .priority(priorities[random.nextInt(priorities.length)])
+                    .category(categories[random.nextInt(categories.length)])
+                    .assignedTo(UserId.generate())
+                    .createdBy(creator)
+                    .dueDate(createdAt.plusDays(1 + random.nextInt(30)))
+                    .estimatedHours(1 + random.nextInt(40))
+                    .build();
+            set(task, "createdAt", createdAt);
+            set(task, "updatedAt", createdAt.plusHours(random.nextInt(72)));
+            set(task, "version", (long) random.nextInt(5));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static void set(Task task, String field, Object value) {
+        try {
+            Field f = Task.class.getDeclaredField(field);
+            f.setAccessible(true);
+            f.set(task, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set Task." + field, e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.demo.copilot.taskmanager.benchmarks;
+
+import com.demo.copilot.taskmanager.domain.valueobject.UuidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk insert throughput into a table keyed like {@code tasks}, per identifier strategy.
+ *
+ * The table is preloaded so the primary key and the secondary index leading
+ * with {@code id} are several levels deep before measurement starts. Defaults
+ * to an in-memory H2 database; point it at PostgreSQL for meaningful numbers:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar BulkInsertBenchmark \
+ *     -p jdbcUrl=jdbc:postgresql://localhost:5432/taskmanager -p user=taskmanager -p password=...
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO bench_tasks (id, title, status, created_at) VALUES (?, ?, ?, ?)";
+
+    @Param({"RANDOM", "V7"})
+    public UuidGenerator.Strategy strategy;
+
+    @Param({"jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1"})
+    public String jdbcUrl;
+
+    @Param({"sa"})
+    public String user;
+
+    @Param({""})
+    public String password;
+
+    @Param({"200000"})
+    public int preloadRows;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        UuidGenerator.useStrategy(strategy);
+        connection = DriverManager.getConnection(jdbcUrl, user, password);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_tasks");
+            statement.execute("CREATE TABLE bench_tasks (" +
+                    "id UUID PRIMARY KEY, title VARCHAR(200) NOT NULL, " +
+                    "status VARCHAR(20) NOT NULL, created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX idx_bench_tasks_id_status ON bench_tasks (id, status)");
+        }
+        connection.commit();
+        for (int loaded = 0; loaded < preloadRows; loaded += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_tasks");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                statement.setObject(1, UuidGenerator.next());
+                statement.setString(2, "Benchmark task");
+                statement.setString(3, "TODO");
+                statement.setTimestamp(4, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+}
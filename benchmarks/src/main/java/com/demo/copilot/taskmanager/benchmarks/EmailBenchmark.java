@@ -0,0 +1,52 @@
+package com.demo.copilot.taskmanager.benchmarks;
+
+import com.demo.copilot.taskmanager.domain.valueobject.Email;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Email#of} validation and normalisation, run for every login,
+ * registration and user lookup by email.
+ *
+ * {@code invalid} covers the rejection path, which builds an exception.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailBenchmark {
+
+    public String normalized = "alice.smith@example.com";
+    public String mixedCase = "  Alice.Smith@Example.COM ";
+    public String malformed = "alice.smith@example";
+
+    @Benchmark
+    public Email normalized() {
+        return Email.of(normalized);
+    }
+
+    @Benchmark
+    public Email mixedCase() {
+        return Email.of(mixedCase);
+    }
+
+    @Benchmark
+    public Object invalid() {
+        try {
+            return Email.of(malformed);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
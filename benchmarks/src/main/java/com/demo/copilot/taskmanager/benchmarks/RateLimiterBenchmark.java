@@ -0,0 +1,64 @@
+package com.demo.copilot.taskmanager.benchmarks;
+
+import com.demo.copilot.taskmanager.infrastructure.ratelimit.GcraRateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the rate limiter.
+ *
+ * {@code hotKey} has every thread hit the same bucket, the worst case for
+ * compare-and-set contention; {@code spreadKeys} picks one of {@code keys}
+ * buckets at random, like many users sharing a node. The policy is generous
+ * enough that every request is admitted, so only the bookkeeping is measured.
+ * Run with {@code -t 1} and {@code -t max}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    @Param({"10000"})
+    public int keys;
+
+    private GcraRateLimiter limiter;
+    private GcraRateLimiter.Policy policy;
+    private String[] keyNames;
+
+    @Setup
+    public void setUp() {
+        limiter = new GcraRateLimiter(keys * 2L, Duration.ofMinutes(10));
+        policy = new GcraRateLimiter.Policy(1_000_000_000, Duration.ofSeconds(1), 1_000_000_000);
+        keyNames = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            keyNames[i] = "LIST:user:user-" + i;
+            limiter.tryAcquire(keyNames[i], policy);
+        }
+    }
+
+    @Benchmark
+    public boolean hotKey() {
+        return limiter.tryAcquire(keyNames[0], policy).isAllowed();
+    }
+
+    @Benchmark
+    public boolean spreadKeys() {
+        return limiter.tryAcquire(keyNames[ThreadLocalRandom.current().nextInt(keys)], policy).isAllowed();
+    }
+}
@@ -0,0 +1,120 @@
+package com.demo.copilot.taskmanager.benchmarks;
+
+import com.demo.copilot.taskmanager.domain.valueobject.UuidGenerator;
+import com.demo.copilot.taskmanager.infrastructure.sequence.TaskKeyAllocator;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task insert latency with and without a key, per key source.
+ *
+ * <ul>
+ *   <li>{@code NONE}: plain insert, the baseline</li>
+ *   <li>{@code SEQUENCE}: one {@code nextval} round trip before every insert</li>
+ *   <li>{@code BLOCK}: keys from {@link TaskKeyAllocator}, one round trip per block</li>
+ * </ul>
+ *
+ * Run with {@code -t 8} or more to see whether key allocation serializes
+ * concurrent inserts. Defaults to in-memory H2; pass {@code -p jdbcUrl=...}
+ * for PostgreSQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class TaskKeyInsertBenchmark {
+
+    public enum KeySource {
+        NONE,
+        SEQUENCE,
+        BLOCK
+    }
+
+    private static final String INSERT_SQL = "INSERT INTO bench_keyed_tasks (id, task_key, title) VALUES (?, ?, ?)";
+
+    @Param({"NONE", "SEQUENCE", "BLOCK"})
+    public KeySource keySource;
+
+    @Param({"1000"})
+    public int blockSize;
+
+    @Param({"jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1"})
+    public String jdbcUrl;
+
+    @Param({"sa"})
+    public String user;
+
+    @Param({""})
+    public String password;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TaskKeyAllocator allocator;
+    private String nextvalSql;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(user);
+        config.setPassword(password);
+        config.setMaximumPoolSize(Runtime.getRuntime().availableProcessors() * 2 + 1);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_keyed_tasks");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS key_blocks");
+        jdbcTemplate.execute("DROP SEQUENCE IF EXISTS bench_task_key_seq");
+        jdbcTemplate.execute("CREATE TABLE bench_keyed_tasks (" +
+                "id UUID PRIMARY KEY, task_key VARCHAR(32), title VARCHAR(200) NOT NULL)");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX idx_bench_keyed_tasks_key ON bench_keyed_tasks (task_key)");
+        jdbcTemplate.execute("CREATE TABLE key_blocks (name VARCHAR(50) PRIMARY KEY, next_value BIGINT NOT NULL)");
+        jdbcTemplate.execute("CREATE SEQUENCE bench_task_key_seq");
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean postgres = "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+            nextvalSql = postgres
+                    ? "SELECT nextval('bench_task_key_seq')"
+                    : "SELECT NEXT VALUE FOR bench_task_key_seq";
+        }
+        allocator = new TaskKeyAllocator(dataSource, "TM", blockSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_keyed_tasks");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS key_blocks");
+        jdbcTemplate.execute("DROP SEQUENCE IF EXISTS bench_task_key_seq");
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int insert() {
+        String key = switch (keySource) {
+            case NONE -> null;
+            case SEQUENCE -> "TM-" + jdbcTemplate.queryForObject(nextvalSql, Long.class);
+            case BLOCK -> allocator.nextKey();
+        };
+        return jdbcTemplate.update(INSERT_SQL, UuidGenerator.nextV7(), key, "Benchmark task");
+    }
+}
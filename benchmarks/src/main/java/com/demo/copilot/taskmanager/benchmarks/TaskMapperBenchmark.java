@@ -0,0 +1,62 @@
+package com.demo.copilot.taskmanager.benchmarks;
+
+import com.demo.copilot.taskmanager.application.dto.task.TaskResponse;
+import com.demo.copilot.taskmanager.application.dto.task.TaskSummaryResponse;
+import com.demo.copilot.taskmanager.application.mapper.TaskMapper;
+import com.demo.copilot.taskmanager.application.mapper.TaskMapperImpl;
+import com.demo.copilot.taskmanager.domain.entity.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping by the generated {@link TaskMapper}, once per task
+ * in every response. Cycles through 1024 distinct tasks so the mapper does
+ * not keep seeing the same object.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    private static final int TASKS = 1024;
+
+    private final TaskMapper mapper = new TaskMapperImpl();
+    private Task[] tasks;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<Task> created = BenchmarkTasks.create(TASKS);
+        tasks = created.toArray(new Task[0]);
+    }
+
+    @Benchmark
+    public TaskResponse toResponse() {
+        return mapper.toResponse(nextTask());
+    }
+
+    @Benchmark
+    public TaskSummaryResponse toSummaryResponse() {
+        return mapper.toSummaryResponse(nextTask());
+    }
+
+    private Task nextTask() {
+        Task task = tasks[next];
+        next = (next + 1) & (TASKS - 1);
+        return task;
+    }
+}
@@ -0,0 +1,73 @@
+package com.demo.copilot.taskmanager.benchmarks;
+
+import com.demo.copilot.taskmanager.application.dto.task.TaskResponse;
+import com.demo.copilot.taskmanager.application.dto.task.TaskSummaryResponse;
+import com.demo.copilot.taskmanager.application.mapper.TaskMapper;
+import com.demo.copilot.taskmanager.application.mapper.TaskMapperImpl;
+import com.demo.copilot.taskmanager.domain.entity.Task;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of task pages as the list endpoints return them.
+ *
+ * The {@link ObjectMapper} is configured like Spring Boot's default one
+ * (Java time module, ISO dates), and the page is a {@link PageImpl} as
+ * returned by the controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskPageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<TaskResponse> responsePage;
+    private Page<TaskSummaryResponse> summaryPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        TaskMapper mapper = new TaskMapperImpl();
+        List<Task> tasks = BenchmarkTasks.create(pageSize);
+        PageRequest pageable = PageRequest.of(0, pageSize);
+        responsePage = new PageImpl<>(tasks.stream().map(mapper::toResponse).toList(), pageable, 10_000);
+        summaryPage = new PageImpl<>(tasks.stream().map(mapper::toSummaryResponse).toList(), pageable, 10_000);
+    }
+
+    @Benchmark
+    public byte[] responsePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responsePage);
+    }
+
+    @Benchmark
+    public byte[] summaryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaryPage);
+    }
+}
@@ -0,0 +1,43 @@
+package com.demo.copilot.taskmanager.benchmarks;
+
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskStatus#canTransitionTo}, checked on every status update.
+ * One operation is one check; each invocation checks all status pairs so the
+ * branch pattern is not trivially predictable.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskStatusTransitionBenchmark {
+
+    // Five statuses, hence 25 operations per invocation
+    private final TaskStatus[] statuses = TaskStatus.values();
+
+    @Benchmark
+    @OperationsPerInvocation(25)
+    public void allTransitions(Blackhole bh) {
+        for (TaskStatus from : statuses) {
+            for (TaskStatus to : statuses) {
+                bh.consume(from.canTransitionTo(to));
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.demo.copilot.taskmanager.benchmarks;
+
+import com.demo.copilot.taskmanager.domain.valueobject.Email;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskId;
+import com.demo.copilot.taskmanager.domain.valueobject.UserId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Equality and hashing of the identifier value objects, which Hibernate's
+ * persistence context, caches and collection lookups do constantly.
+ *
+ * Comparisons use equal but distinct instances, as happens when an id
+ * parsed from a request is compared with one loaded from the database.
+ * {@code mapLookup} looks up one of {@code size} task ids in a {@link HashMap}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValueObjectBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    private TaskId taskId;
+    private TaskId sameTaskId;
+    private UserId userId;
+    private UserId sameUserId;
+    private Email email;
+    private Email sameEmail;
+    private Map<TaskId, Integer> tasks;
+    private TaskId[] lookups;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        UUID uuid = UUID.randomUUID();
+        taskId = TaskId.of(uuid);
+        sameTaskId = TaskId.of(uuid.toString());
+        userId = UserId.of(uuid);
+        sameUserId = UserId.of(uuid.toString());
+        email = Email.of("alice.smith@example.com");
+        sameEmail = Email.of("Alice.Smith@example.com");
+
+        tasks = new HashMap<>();
+        lookups = new TaskId[size];
+        for (int i = 0; i < size; i++) {
+            UUID id = UUID.randomUUID();
+            tasks.put(TaskId.of(id), i);
+            lookups[i] = TaskId.of(id);
+        }
+    }
+
+    @Benchmark
+    public boolean taskIdEquals() {
+        return taskId.equals(sameTaskId);
+    }
+
+    @Benchmark
+    public int taskIdHashCode() {
+        return taskId.hashCode();
+    }
+
+    @Benchmark
+    public boolean userIdEquals() {
+        return userId.equals(sameUserId);
+    }
+
+    @Benchmark
+    public int userIdHashCode() {
+        return userId.hashCode();
+    }
+
+    @Benchmark
+    public boolean emailEquals() {
+        return email.equals(sameEmail);
+    }
+
+    @Benchmark
+    public int emailHashCode() {
+        return email.hashCode();
+    }
+
+    @Benchmark
+    public Integer mapLookup() {
+        TaskId id = lookups[next];
+        next = next + 1 == size ? 0 : next + 1;
+        return tasks.get(id);
+    }
+}
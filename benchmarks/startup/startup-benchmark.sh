@@ -0,0 +1,101 @@
+#!/usr/bin/env bash
+#
+# Time-to-ready and resident memory of the task manager per startup mode.
+#
+#   jar      executable jar, default JIT startup
+#   aot      plain jar + target/lib with Spring AOT (-Dspring.aot.enabled=true)
+#   aot-cds  as aot, plus an AppCDS archive from a training run
+#   native   GraalVM native executable target/taskmanager
+#
+# Build first from the repository root:
+#   mvn -Pfast-start package -DskipTests          # jar, aot, aot-cds
+#   mvn -Pfast-start,native package -DskipTests   # all modes, needs GraalVM
+#
+# Usage: benchmarks/startup/startup-benchmark.sh [runs] [modes...]
+# Runs against in-memory H2 (the test profile), so no database is needed.
+# Prints one line per run and a Markdown summary with medians.
+
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+TARGET="$ROOT/target"
+RUNS="${1:-5}"
+shift || true
+MODES=("${@:-jar aot aot-cds}")
+MODES=(${MODES[*]})
+PORT="${PORT:-18090}"
+JSA="$TARGET/app.jsa"
+COMMON_ARGS=(--server.port="$PORT" --spring.flyway.locations=classpath:db/none)
+
+EXEC_JAR="$(ls "$TARGET"/taskmanager-*-exec.jar)"
+PLAIN_JAR="$(ls "$TARGET"/taskmanager-*.jar | grep -v -- '-exec.jar' | head -1)"
+[[ -d "$TARGET/lib" ]] || { echo "target/lib missing: build with mvn -Pfast-start package" >&2; exit 1; }
+
+command_for() {
+    case "$1" in
+        jar)     echo java -jar "$EXEC_JAR" --spring.profiles.active=test ;;
+        aot)     echo java -Dspring.aot.enabled=true -jar "$PLAIN_JAR" --spring.profiles.active=fast-start,test ;;
+        aot-cds) echo java -XX:SharedArchiveFile="$JSA" -Dspring.aot.enabled=true -jar "$PLAIN_JAR" --spring.profiles.active=fast-start,test ;;
+        native)  echo "$TARGET/taskmanager" --spring.profiles.active=fast-start,test ;;
+        *)       echo "unknown mode: $1" >&2; exit 1 ;;
+    esac
+}
+
+train_cds() {
+    echo "Training AppCDS archive -> $JSA" >&2
+    (cd "$TARGET" && java -XX:ArchiveClassesAtExit="$JSA" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+        -jar "$PLAIN_JAR" --spring.profiles.active=fast-start,test "${COMMON_ARGS[@]}" > /dev/null 2>&1)
+}
+
+now_ms() { date +%s%3N; }
+
+# Prints "<ms-to-ready> <rss-kb>" for one start of the given mode.
+measure() {
+    local log start pid ready rss
+    log="$(mktemp)"
+    start="$(now_ms)"
+    (cd "$TARGET" && exec $(command_for "$1") "${COMMON_ARGS[@]}") > "$log" 2>&1 &
+    pid=$!
+    until curl -sf "http://localhost:$PORT/api/actuator/health" > /dev/null 2>&1; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "$1 exited before becoming ready, see $log" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+    ready=$(( $(now_ms) - start ))
+    rss="$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")"
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    rm -f "$log"
+    echo "$ready $rss"
+}
+
+median() { sort -n | awk '{a[NR]=$1} END {print (NR % 2) ? a[(NR+1)/2] : int((a[NR/2] + a[NR/2+1]) / 2)}'; }
+
+if [[ " ${MODES[*]} " == *" native "* && ! -x "$TARGET/taskmanager" ]]; then
+    echo "target/taskmanager missing: build with mvn -Pfast-start,native package" >&2
+    exit 1
+fi
+if [[ " ${MODES[*]} " == *" aot-cds "* && ! -f "$JSA" ]]; then
+    train_cds
+fi
+
+declare -A READY RSS
+for mode in "${MODES[@]}"; do
+    for ((i = 1; i <= RUNS; i++)); do
+        read -r ready rss < <(measure "$mode")
+        echo "$mode run $i: ready ${ready} ms, RSS $((rss / 1024)) MB" >&2
+        READY[$mode]+="$ready"$'\n'
+        RSS[$mode]+="$rss"$'\n'
+    done
+done
+
+echo
+echo "| Mode | Time to ready (median ms) | RSS after ready (median MB) |"
+echo "|------|---------------------------|-----------------------------|"
+for mode in "${MODES[@]}"; do
+    ready="$(printf '%s' "${READY[$mode]}" | median)"
+    rss="$(printf '%s' "${RSS[$mode]}" | median)"
+    echo "| $mode | $ready | $((rss / 1024)) |"
+done
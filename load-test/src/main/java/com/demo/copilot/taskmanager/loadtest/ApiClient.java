@@ -0,0 +1,82 @@
+package com.demo.copilot.taskmanager.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * JSON over HTTP/1.1 against the task manager API, asynchronous so the
+ * arrival schedule never waits for a response. GET requests may go to a
+ * separate read API sharing the same database and token secret.
+ */
+final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final String readBaseUrl;
+
+    ApiClient(String baseUrl) {
+        this(baseUrl, baseUrl);
+    }
+
+    ApiClient(String baseUrl, String readBaseUrl) {
+        this.baseUrl = baseUrl;
+        this.readBaseUrl = readBaseUrl;
+    }
+
+    CompletableFuture<HttpResponse<String>> get(String path, String token) {
+        return send(request(readBaseUrl, path, token).GET());
+    }
+
+    CompletableFuture<HttpResponse<String>> post(String path, String token, Object body) {
+        return send(request(baseUrl, path, token).header("Content-Type", "application/json").POST(json(body)));
+    }
+
+    CompletableFuture<HttpResponse<String>> put(String path, String token, Object body) {
+        return send(request(baseUrl, path, token).header("Content-Type", "application/json").PUT(json(body)));
+    }
+
+    JsonNode read(HttpResponse<String> response) {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest.Builder request) {
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String base, String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(base + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
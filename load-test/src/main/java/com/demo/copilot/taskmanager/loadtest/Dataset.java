@@ -0,0 +1,58 @@
+package com.demo.copilot.taskmanager.loadtest;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Seeded accounts and the tasks each one owns, shared by the request
+ * callbacks. Tokens and task statuses are updated from responses.
+ */
+final class Dataset {
+
+    private final List<VirtualUser> users;
+
+    Dataset(List<VirtualUser> users) {
+        this.users = List.copyOf(users);
+    }
+
+    VirtualUser randomUser(Random random) {
+        return users.get(random.nextInt(users.size()));
+    }
+
+    int userCount() {
+        return users.size();
+    }
+
+    int taskCount() {
+        return users.stream().mapToInt(user -> user.tasks.size()).sum();
+    }
+
+    static final class VirtualUser {
+        final String email;
+        final String password;
+        final List<TaskRef> tasks = new CopyOnWriteArrayList<>();
+        volatile String token;
+
+        VirtualUser(String email, String password, String token) {
+            this.email = email;
+            this.password = password;
+            this.token = token;
+        }
+
+        TaskRef randomTask(Random random) {
+            List<TaskRef> snapshot = tasks;
+            return snapshot.isEmpty() ? null : snapshot.get(random.nextInt(snapshot.size()));
+        }
+    }
+
+    static final class TaskRef {
+        final String id;
+        volatile String status;
+
+        TaskRef(String id, String status) {
+            this.id = id;
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.demo.copilot.taskmanager.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Entry point: starts or connects to the application, seeds it, runs an
+ * unmeasured warm-up and then the measured run, and writes the reports.
+ * Log events written and suppressed during the measured run are read from
+ * the application's metrics on either side of it.
+ * See {@link LoadTestOptions#USAGE} for options.
+ */
+public final class LoadTest {
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            if (!e.getMessage().isEmpty()) {
+                System.err.println(e.getMessage());
+            }
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        OperationMix mix = new OperationMix(options.mix);
+        Path out = Files.createDirectories(options.out);
+        Random random = new Random(options.seed);
+
+        TargetApplication app = null;
+        try {
+            String baseUrl = options.target;
+            if (baseUrl == null) {
+                System.out.println("Starting " + options.appJar + " (log: " + out.resolve("application.log") + ")");
+                app = TargetApplication.start(options, out.resolve("application.log"));
+                baseUrl = app.baseUrl();
+            }
+            ApiClient targetApi = new ApiClient(baseUrl);
+            ApiClient api = options.readTarget == null ? targetApi : new ApiClient(baseUrl, options.readTarget);
+
+            System.out.printf("Seeding %d users with %d tasks each%n", options.users, options.tasksPerUser);
+            Dataset dataset = new Seeder(api, options.seedThreads).seed(options.users, options.tasksPerUser, random);
+
+            OpenModelDriver driver = new OpenModelDriver(api, dataset, mix, options.rate, options.poisson, options.maxOutstanding);
+            if (!options.warmup.isZero()) {
+                System.out.printf("Warming up for %s at %.1f req/s%n", options.warmup, options.rate);
+                driver.run(options.warmup, random, null);
+            }
+            System.out.printf("Measuring for %s at %.1f req/s%n", options.duration, options.rate);
+            LogActivity logsBefore = LogActivity.sample(targetApi);
+            OpenModelDriver.RunResult result = driver.run(options.duration, random, out);
+            LogActivity logsAfter = LogActivity.sample(targetApi);
+            LogActivity logs = logsBefore == null || logsAfter == null ? null : logsAfter.minus(logsBefore);
+
+            Reports.write(result, options, dataset, logs, out);
+            System.out.println("\nReport: " + out.resolve("summary.html").toAbsolutePath());
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+        // HttpClient selector threads are not daemons
+        System.exit(0);
+    }
+}
@@ -0,0 +1,135 @@
+package com.demo.copilot.taskmanager.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command line options, all given as {@code --name=value}.
+ * {@code --app-arg} may be repeated.
+ */
+final class LoadTestOptions {
+
+    static final String USAGE = """
+            Usage: java -jar target/load-test.jar [options]
+
+            Target
+              --target=URL            running instance, e.g. http://localhost:8080/api
+                                      (default: start --app-jar on a free port)
+              --app-jar=PATH          executable jar (default ../target/taskmanager-1.0.0-exec.jar)
+              --profiles=LIST         Spring profiles of the started app (default test, in-memory H2)
+              --jvm-args=ARGS         JVM options of the started app, space separated
+              --app-arg=ARG           extra application argument, repeatable
+              --read-target=URL       send list and get requests here instead, e.g. the
+                                      reactive read API on the same database
+
+            Dataset
+              --users=N               seeded users (default 50)
+              --tasks-per-user=N      seeded tasks per user (default 20)
+              --seed-threads=N        parallel seeding requests (default 4)
+
+            Load
+              --rate=N                arrivals per second (default 50)
+              --duration=D            measured run, e.g. 90s or 5m (default 60s)
+              --warmup=D              unmeasured run before it (default 15s)
+              --arrivals=MODE         poisson or uniform (default poisson)
+              --mix=OP:W,...          weights of login, list, get, create, update, transition
+                                      (default login:2,list:30,get:40,create:10,update:10,transition:8)
+              --max-outstanding=N     in-flight cap; arrivals beyond it are dropped (default 5000)
+              --seed=N                random seed (default 42)
+
+            Output
+              --out=DIR               report directory (default target/load-test/<timestamp>)
+            """;
+
+    String target;
+    String readTarget;
+    String appJar = "../target/taskmanager-1.0.0-exec.jar";
+    String profiles = "test";
+    String jvmArgs = "";
+    final List<String> appArgs = new ArrayList<>();
+
+    int users = 50;
+    int tasksPerUser = 20;
+    int seedThreads = 4;
+
+    double rate = 50;
+    Duration duration = Duration.ofSeconds(60);
+    Duration warmup = Duration.ofSeconds(15);
+    boolean poisson = true;
+    String mix = "login:2,list:30,get:40,create:10,update:10,transition:8";
+    int maxOutstanding = 5000;
+    long seed = 42;
+
+    Path out = Path.of("target", "load-test", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (arg.equals("--help") || arg.equals("-h")) {
+                throw new IllegalArgumentException("");
+            }
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            String name = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (name) {
+                case "target" -> options.target = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "read-target" -> options.readTarget = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "app-jar" -> options.appJar = value;
+                case "profiles" -> options.profiles = value;
+                case "jvm-args" -> options.jvmArgs = value;
+                case "app-arg" -> options.appArgs.add(value);
+                case "users" -> options.users = Integer.parseInt(value);
+                case "tasks-per-user" -> options.tasksPerUser = Integer.parseInt(value);
+                case "seed-threads" -> options.seedThreads = Integer.parseInt(value);
+                case "rate" -> options.rate = Double.parseDouble(value);
+                case "duration" -> options.duration = duration(value);
+                case "warmup" -> options.warmup = duration(value);
+                case "arrivals" -> options.poisson = switch (value) {
+                    case "poisson" -> true;
+                    case "uniform" -> false;
+                    default -> throw new IllegalArgumentException("--arrivals must be poisson or uniform");
+                };
+                case "mix" -> options.mix = value;
+                case "max-outstanding" -> options.maxOutstanding = Integer.parseInt(value);
+                case "seed" -> options.seed = Long.parseLong(value);
+                case "out" -> options.out = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        if (options.users < 1 || options.rate <= 0) {
+            throw new IllegalArgumentException("--users and --rate must be positive");
+        }
+        return options;
+    }
+
+    /**
+     * Parses {@code 500ms}, {@code 90s}, {@code 5m} or a plain number of seconds.
+     */
+    static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    String describe() {
+        return String.format("target=%s read-target=%s profiles=%s app-args=%s users=%d tasks-per-user=%d rate=%.1f/s "
+                        + "arrivals=%s duration=%s warmup=%s mix=%s",
+                target == null ? appJar : target, readTarget == null ? "-" : readTarget,
+                target == null ? profiles : "-", appArgs, users, tasksPerUser,
+                rate, poisson ? "poisson" : "uniform", duration, warmup, mix);
+    }
+}
@@ -0,0 +1,84 @@
+package com.demo.copilot.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Log events the application wrote by level ({@code logback.events}) and
+ * dropped by category ({@code taskmanager.logging.suppressed}), read from
+ * the actuator metrics endpoint. Taken before and after the measured run,
+ * the difference is the logging load that run produced.
+ */
+final class LogActivity {
+
+    private static final String[] LEVELS = {"error", "warn", "info", "debug", "trace"};
+
+    final Map<String, Long> written;
+    final Map<String, Long> suppressed;
+
+    private LogActivity(Map<String, Long> written, Map<String, Long> suppressed) {
+        this.written = written;
+        this.suppressed = suppressed;
+    }
+
+    /**
+     * Current counts, or {@code null} when the target does not expose them.
+     */
+    static LogActivity sample(ApiClient api) {
+        Map<String, Long> written = new LinkedHashMap<>();
+        for (String level : LEVELS) {
+            JsonNode metric = metric(api, "logback.events?tag=level:" + level);
+            if (metric == null) {
+                return null;
+            }
+            written.put(level, count(metric));
+        }
+        Map<String, Long> suppressed = new TreeMap<>();
+        JsonNode metric = metric(api, "taskmanager.logging.suppressed");
+        if (metric != null) {
+            for (JsonNode tag : metric.path("availableTags")) {
+                if (tag.path("tag").asText().equals("category")) {
+                    for (JsonNode category : tag.path("values")) {
+                        JsonNode byCategory = metric(api, "taskmanager.logging.suppressed?tag=category:" + category.asText());
+                        suppressed.put(category.asText(), byCategory == null ? 0 : count(byCategory));
+                    }
+                }
+            }
+        }
+        return new LogActivity(written, suppressed);
+    }
+
+    LogActivity minus(LogActivity before) {
+        Map<String, Long> written = new LinkedHashMap<>();
+        this.written.forEach((level, count) -> written.put(level, count - before.written.getOrDefault(level, 0L)));
+        Map<String, Long> suppressed = new TreeMap<>();
+        this.suppressed.forEach((category, count) -> suppressed.put(category, count - before.suppressed.getOrDefault(category, 0L)));
+        return new LogActivity(written, suppressed);
+    }
+
+    long totalWritten() {
+        return written.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    long totalSuppressed() {
+        return suppressed.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static JsonNode metric(ApiClient api, String path) {
+        HttpResponse<String> response = api.get("/actuator/metrics/" + path, null).join();
+        return response.statusCode() == 200 ? api.read(response) : null;
+    }
+
+    private static long count(JsonNode metric) {
+        for (JsonNode measurement : metric.path("measurements")) {
+            if (measurement.path("statistic").asText().equals("COUNT")) {
+                return measurement.path("value").asLong();
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,200 @@
+package com.demo.copilot.taskmanager.loadtest;
+
+import com.demo.copilot.taskmanager.loadtest.Dataset.VirtualUser;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Issues requests at a fixed arrival rate regardless of how fast
+ * responses come back (an open workload model, like real users).
+ *
+ * Latency is measured from each request's intended start time, not from
+ * when it was actually sent, so a stalled server shows up as the latency
+ * its waiting users see instead of as fewer, faster samples (coordinated
+ * omission). Arrivals beyond {@code maxOutstanding} in-flight requests are
+ * dropped and reported, to keep a saturated server from exhausting the
+ * load generator.
+ */
+final class OpenModelDriver {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(90);
+
+    private final ApiClient api;
+    private final Dataset dataset;
+    private final OperationMix mix;
+    private final double rate;
+    private final boolean poisson;
+    private final int maxOutstanding;
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    OpenModelDriver(ApiClient api, Dataset dataset, OperationMix mix, double rate, boolean poisson, int maxOutstanding) {
+        this.api = api;
+        this.dataset = dataset;
+        this.mix = mix;
+        this.rate = rate;
+        this.poisson = poisson;
+        this.maxOutstanding = maxOutstanding;
+    }
+
+    /**
+     * Runs the mix for {@code duration}. With a {@code logDir}, every
+     * operation's one-second interval histograms are written to
+     * {@code <operation>.hlog} (values in microseconds).
+     */
+    RunResult run(Duration duration, Random random, Path logDir) throws FileNotFoundException, InterruptedException {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Map.Entry<Operation, Integer> weight : mix.weights().entrySet()) {
+            if (weight.getValue() > 0) {
+                stats.put(weight.getKey(), new OperationStats(weight.getKey(), logDir));
+            }
+        }
+        ScheduledExecutorService intervals = Executors.newSingleThreadScheduledExecutor();
+        intervals.scheduleAtFixedRate(() -> stats.values().forEach(OperationStats::rollInterval), 1, 1, TimeUnit.SECONDS);
+
+        double meanInterval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        double next = start;
+        while (true) {
+            next += poisson ? -Math.log(1 - random.nextDouble()) * meanInterval : meanInterval;
+            long intended = (long) next;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            OperationStats operation = stats.get(mix.next(random));
+            if (outstanding.get() >= maxOutstanding) {
+                operation.dropped.increment();
+                continue;
+            }
+            outstanding.incrementAndGet();
+            VirtualUser user = dataset.randomUser(random);
+            CompletableFuture<Integer> response;
+            try {
+                response = operation.operation.execute(api, user, random);
+            } catch (RuntimeException e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            response.whenComplete((status, error) -> {
+                operation.record(System.nanoTime() - intended, status, error);
+                outstanding.decrementAndGet();
+            });
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        intervals.shutdown();
+        intervals.awaitTermination(5, TimeUnit.SECONDS);
+        stats.values().forEach(OperationStats::close);
+        return new RunResult(stats, Duration.ofNanos(elapsed), outstanding.get());
+    }
+
+    static final class OperationStats {
+        final Operation operation;
+        final Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final Map<String, LongAdder> errorCauses = new ConcurrentHashMap<>();
+
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        private final HistogramLogWriter log;
+        private Histogram interval;
+
+        OperationStats(Operation operation, Path logDir) throws FileNotFoundException {
+            this.operation = operation;
+            if (logDir == null) {
+                this.log = null;
+            } else {
+                long now = System.currentTimeMillis();
+                this.log = new HistogramLogWriter(logDir.resolve(operation.label() + ".hlog").toFile());
+                log.outputComment("Response time of " + operation.label() + " in microseconds from intended start");
+                log.outputLogFormatVersion();
+                log.outputStartTime(now);
+                log.setBaseTime(now);
+                log.outputLegend();
+            }
+        }
+
+        void record(long latencyNanos, Integer status, Throwable error) {
+            recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+            String cause = null;
+            if (error != null) {
+                Throwable root = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                cause = root.getClass().getSimpleName();
+            } else if (status >= 400) {
+                cause = "HTTP " + status;
+            }
+            if (cause != null) {
+                errors.increment();
+                errorCauses.computeIfAbsent(cause, key -> new LongAdder()).increment();
+            }
+        }
+
+        synchronized void rollInterval() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+            if (log != null && interval.getTotalCount() > 0) {
+                log.outputIntervalHistogram(interval);
+            }
+        }
+
+        synchronized void close() {
+            rollInterval();
+            if (log != null) {
+                log.close();
+            }
+        }
+
+        Map<String, Long> errorCauses() {
+            Map<String, Long> causes = new TreeMap<>();
+            errorCauses.forEach((cause, count) -> causes.put(cause, count.sum()));
+            return causes;
+        }
+    }
+
+    static final class RunResult {
+        final Map<Operation, OperationStats> operations;
+        final Duration elapsed;
+        final int unfinished;
+
+        RunResult(Map<Operation, OperationStats> operations, Duration elapsed, int unfinished) {
+            this.operations = Collections.unmodifiableMap(operations);
+            this.elapsed = elapsed;
+            this.unfinished = unfinished;
+        }
+
+        Histogram combined() {
+            Histogram all = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+            operations.values().forEach(stats -> all.add(stats.total));
+            return all;
+        }
+    }
+}
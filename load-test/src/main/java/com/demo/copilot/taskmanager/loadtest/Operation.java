@@ -0,0 +1,154 @@
+package com.demo.copilot.taskmanager.loadtest;
+
+import com.demo.copilot.taskmanager.loadtest.Dataset.TaskRef;
+import com.demo.copilot.taskmanager.loadtest.Dataset.VirtualUser;
+
+import java.net.http.HttpResponse;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The request types of the load mix. Each builds its request on the
+ * scheduling thread, where the random source lives, and applies the
+ * response to the dataset when it completes.
+ */
+enum Operation {
+
+    LOGIN {
+        @Override
+        CompletableFuture<Integer> execute(ApiClient api, VirtualUser user, Random random) {
+            return api.post("/auth/login", null, Map.of("email", user.email, "password", user.password))
+                    .thenApply(response -> {
+                        if (response.statusCode() == 200) {
+                            user.token = api.read(response).path("token").asText();
+                        }
+                        return response.statusCode();
+                    });
+        }
+    },
+
+    LIST {
+        @Override
+        CompletableFuture<Integer> execute(ApiClient api, VirtualUser user, Random random) {
+            return status(api.get("/tasks?size=20&page=" + random.nextInt(3), user.token));
+        }
+    },
+
+    GET {
+        @Override
+        CompletableFuture<Integer> execute(ApiClient api, VirtualUser user, Random random) {
+            TaskRef task = user.randomTask(random);
+            if (task == null) {
+                return LIST.execute(api, user, random);
+            }
+            return status(api.get("/tasks/" + task.id, user.token));
+        }
+    },
+
+    CREATE {
+        @Override
+        CompletableFuture<Integer> execute(ApiClient api, VirtualUser user, Random random) {
+            return api.post("/tasks", user.token, newTask(random))
+                    .thenApply(response -> {
+                        if (response.statusCode() == 201) {
+                            user.tasks.add(new TaskRef(api.read(response).path("id").asText(), "TODO"));
+                        }
+                        return response.statusCode();
+                    });
+        }
+    },
+
+    UPDATE {
+        @Override
+        CompletableFuture<Integer> execute(ApiClient api, VirtualUser user, Random random) {
+            TaskRef task = user.randomTask(random);
+            if (task == null) {
+                return CREATE.execute(api, user, random);
+            }
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("title", "Updated task " + random.nextInt(1_000_000));
+            body.put("description", DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]);
+            body.put("priority", PRIORITIES[random.nextInt(PRIORITIES.length)]);
+            return status(api.put("/tasks/" + task.id, user.token, body));
+        }
+    },
+
+    TRANSITION {
+        @Override
+        CompletableFuture<Integer> execute(ApiClient api, VirtualUser user, Random random) {
+            TaskRef task = user.randomTask(random);
+            if (task == null) {
+                return CREATE.execute(api, user, random);
+            }
+            String next = nextStatus(task.status, random);
+            return api.put("/tasks/" + task.id, user.token, Map.of("status", next))
+                    .thenApply(response -> {
+                        if (response.statusCode() == 200) {
+                            task.status = next;
+                        }
+                        return response.statusCode();
+                    });
+        }
+    };
+
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "MEDIUM", "HIGH", "URGENT"};
+    private static final String[] CATEGORIES = {"WORK", "DEVELOPMENT", "TESTING", "DOCUMENTATION", "MEETING"};
+    private static final String[] DESCRIPTIONS = {
+        "",
+        "Follow up with the team.",
+        "Go through the document, leave comments on open questions and agree on owners "
+                + "for each follow-up item before the planning meeting.",
+        "Reproduce the issue on staging, capture logs and attach them to the ticket. "
+                + "Check whether the latest release changed the affected code path and list "
+                + "the customers that reported it."
+    };
+    private static final DateTimeFormatter DUE_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX");
+
+    abstract CompletableFuture<Integer> execute(ApiClient api, VirtualUser user, Random random);
+
+    /**
+     * Lower-case name used in {@code --mix}, file names and reports.
+     */
+    String label() {
+        return name().toLowerCase();
+    }
+
+    static Map<String, Object> newTask(Random random) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("title", "Load test task " + random.nextInt(1_000_000));
+        body.put("description", DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]);
+        body.put("priority", PRIORITIES[random.nextInt(PRIORITIES.length)]);
+        body.put("category", CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        if (random.nextInt(10) < 7) {
+            body.put("dueDate", OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS)
+                    .plusHours(1 + random.nextInt(24 * 30)).format(DUE_DATE));
+        }
+        body.put("estimatedHours", 1 + random.nextInt(40));
+        return body;
+    }
+
+    /**
+     * Mostly moves a task forward through its workflow; occasionally sends
+     * it back, reopens it or cancels it.
+     */
+    static String nextStatus(String current, Random random) {
+        int roll = random.nextInt(10);
+        return switch (current) {
+            case "TODO" -> roll == 0 ? "CANCELLED" : "IN_PROGRESS";
+            case "IN_PROGRESS" -> roll == 0 ? "TODO" : "IN_REVIEW";
+            case "IN_REVIEW" -> roll < 2 ? "IN_PROGRESS" : "COMPLETED";
+            case "COMPLETED" -> "IN_PROGRESS";
+            default -> "TODO";
+        };
+    }
+
+    private static CompletableFuture<Integer> status(CompletableFuture<HttpResponse<String>> response) {
+        return response.thenApply(HttpResponse::statusCode);
+    }
+}
@@ -0,0 +1,57 @@
+package com.demo.copilot.taskmanager.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Weighted choice of the next operation, parsed from
+ * {@code login:2,list:30,get:40,...}. Operations left out get weight 0.
+ */
+final class OperationMix {
+
+    private final Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    private final Operation[] operations;
+    private final int[] cumulative;
+    private final int total;
+
+    OperationMix(String spec) {
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight in --mix, got " + part);
+            }
+            Operation operation = Operation.valueOf(pair[0].trim().toUpperCase());
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + operation.label());
+            }
+            weights.put(operation, weight);
+        }
+        operations = weights.keySet().toArray(new Operation[0]);
+        cumulative = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += weights.get(operations[i]);
+            cumulative[i] = sum;
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("--mix has no positive weight");
+        }
+        total = sum;
+    }
+
+    Operation next(Random random) {
+        int roll = random.nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (roll < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    Map<Operation, Integer> weights() {
+        return weights;
+    }
+}
@@ -0,0 +1,206 @@
+package com.demo.copilot.taskmanager.loadtest;
+
+import com.demo.copilot.taskmanager.loadtest.OpenModelDriver.OperationStats;
+import com.demo.copilot.taskmanager.loadtest.OpenModelDriver.RunResult;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes the results of a measured run: a text summary on stdout,
+ * {@code <operation>.hgrm} percentile distributions (milliseconds, the
+ * format HdrHistogram's plotter reads) and {@code summary.html}, including
+ * the logging load of the run when the application reports it.
+ */
+final class Reports {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final String[] COLORS = {"#1f77b4", "#ff7f0e", "#2ca02c", "#d62728", "#9467bd", "#8c564b", "#444444"};
+
+    // Chart geometry; x is log10(1 / (1 - percentile)), from 0% to 99.99%
+    private static final int WIDTH = 760;
+    private static final int HEIGHT = 360;
+    private static final int MARGIN = 50;
+    private static final double MAX_NINES = 4;
+
+    private Reports() {}
+
+    static void write(RunResult result, LoadTestOptions options, Dataset dataset, LogActivity logs, Path out)
+            throws IOException {
+        Map<String, Row> rows = rows(result);
+        for (Map.Entry<String, Row> row : rows.entrySet()) {
+            try (PrintStream hgrm = new PrintStream(out.resolve(row.getKey() + ".hgrm").toFile(), StandardCharsets.UTF_8)) {
+                row.getValue().histogram.outputPercentileDistribution(hgrm, MICROS_PER_MILLI);
+            }
+        }
+        printSummary(rows, result, logs);
+        Files.writeString(out.resolve("summary.html"), html(rows, result, options, dataset, logs));
+    }
+
+    private static Map<String, Row> rows(RunResult result) {
+        double seconds = result.elapsed.toNanos() / 1e9;
+        Map<String, Row> rows = new LinkedHashMap<>();
+        long errors = 0;
+        long dropped = 0;
+        for (OperationStats stats : result.operations.values()) {
+            rows.put(stats.operation.label(), new Row(stats.total, stats.errors.sum(), stats.dropped.sum(),
+                    stats.errorCauses().toString(), seconds));
+            errors += stats.errors.sum();
+            dropped += stats.dropped.sum();
+        }
+        rows.put("all", new Row(result.combined(), errors, dropped, "", seconds));
+        return rows;
+    }
+
+    private static void printSummary(Map<String, Row> rows, RunResult result, LogActivity logs) {
+        System.out.printf("%n%-12s %9s %9s %8s %8s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "req/s", "errors", "dropped", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        rows.forEach((name, row) -> System.out.printf(Locale.ROOT, "%-12s %9d %9.1f %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, row.histogram.getTotalCount(), row.throughput, row.errors, row.dropped,
+                row.percentile(50), row.percentile(90), row.percentile(99), row.percentile(99.9), row.max()));
+        if (result.unfinished > 0) {
+            System.out.printf("%d requests still outstanding at the end were not recorded%n", result.unfinished);
+        }
+        if (logs != null) {
+            double seconds = result.elapsed.toNanos() / 1e9;
+            System.out.printf(Locale.ROOT, "log events: %d written (%.1f/s) %s, %d suppressed %s%n",
+                    logs.totalWritten(), logs.totalWritten() / seconds, logs.written,
+                    logs.totalSuppressed(), logs.suppressed);
+        }
+    }
+
+    private static String html(Map<String, Row> rows, RunResult result, LoadTestOptions options, Dataset dataset,
+                               LogActivity logs) {
+        StringBuilder html = new StringBuilder();
+        html.append("""
+                <!DOCTYPE html>
+                <html lang="en"><head><meta charset="utf-8"><title>Task Manager load test</title>
+                <style>
+                body { font-family: sans-serif; margin: 2em; color: #222; }
+                table { border-collapse: collapse; margin: 1em 0; }
+                th, td { border: 1px solid #ccc; padding: 4px 10px; text-align: right; }
+                th:first-child, td:first-child, td.causes { text-align: left; }
+                tr.all { font-weight: bold; }
+                code { background: #f4f4f4; padding: 2px 4px; }
+                </style></head><body>
+                <h1>Task Manager load test</h1>
+                """);
+        html.append("<p>").append(escape(OffsetDateTime.now().toString())).append("<br><code>")
+                .append(escape(options.describe())).append("</code><br>")
+                .append(String.format(Locale.ROOT, "Dataset: %d users, %d tasks. Measured for %.1f s. ",
+                        dataset.userCount(), dataset.taskCount(), result.elapsed.toNanos() / 1e9))
+                .append("Latency is measured from each request's intended start time.</p>\n");
+
+        html.append("<table><tr><th>Operation</th><th>Requests</th><th>req/s</th><th>Errors</th><th>Dropped</th>")
+                .append("<th>p50 ms</th><th>p90 ms</th><th>p99 ms</th><th>p99.9 ms</th><th>max ms</th><th>Error causes</th></tr>\n");
+        rows.forEach((name, row) -> html.append(String.format(Locale.ROOT,
+                "<tr%s><td>%s</td><td>%d</td><td>%.1f</td><td>%d</td><td>%d</td>"
+                        + "<td>%.2f</td><td>%.2f</td><td>%.2f</td><td>%.2f</td><td>%.2f</td><td class=\"causes\">%s</td></tr>%n",
+                name.equals("all") ? " class=\"all\"" : "", escape(name), row.histogram.getTotalCount(), row.throughput,
+                row.errors, row.dropped, row.percentile(50), row.percentile(90), row.percentile(99),
+                row.percentile(99.9), row.max(), escape(row.causes))));
+        html.append("</table>\n");
+        if (result.unfinished > 0) {
+            html.append("<p>").append(result.unfinished).append(" requests were still outstanding at the end and are not included.</p>\n");
+        }
+
+        if (logs != null) {
+            html.append(logTable(logs, result.elapsed.toNanos() / 1e9));
+        }
+
+        html.append("<h2>Latency by percentile</h2>\n").append(chart(rows));
+        html.append("<p>Interval histograms: <code>&lt;operation&gt;.hlog</code> (microseconds). ")
+                .append("Percentile distributions: <code>&lt;operation&gt;.hgrm</code> (milliseconds).</p>\n");
+        return html.append("</body></html>\n").toString();
+    }
+
+    private static String logTable(LogActivity logs, double seconds) {
+        StringBuilder html = new StringBuilder("<h2>Logging</h2>\n<table><tr><th>Events</th><th>Count</th><th>per s</th></tr>\n");
+        logs.written.forEach((level, count) -> html.append(String.format(Locale.ROOT,
+                "<tr><td>written, %s</td><td>%d</td><td>%.1f</td></tr>%n", escape(level), count, count / seconds)));
+        logs.suppressed.forEach((category, count) -> html.append(String.format(Locale.ROOT,
+                "<tr><td>suppressed, %s</td><td>%d</td><td>%.1f</td></tr>%n", escape(category), count, count / seconds)));
+        return html.append("</table>\n").toString();
+    }
+
+    private static String chart(Map<String, Row> rows) {
+        double maxMillis = rows.values().stream().mapToDouble(row -> row.percentile(99.99)).max().orElse(1);
+        maxMillis = Math.max(maxMillis, 0.001) * 1.05;
+        int plotWidth = WIDTH - 2 * MARGIN;
+        int plotHeight = HEIGHT - 2 * MARGIN;
+
+        StringBuilder svg = new StringBuilder(String.format(Locale.ROOT,
+                "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"%d\" height=\"%d\" font-size=\"11\">%n", WIDTH + 140, HEIGHT));
+        svg.append(String.format(Locale.ROOT, "<rect x=\"%d\" y=\"%d\" width=\"%d\" height=\"%d\" fill=\"none\" stroke=\"#999\"/>%n",
+                MARGIN, MARGIN, plotWidth, plotHeight));
+        String[] labels = {"0%", "90%", "99%", "99.9%", "99.99%"};
+        for (int nines = 0; nines <= MAX_NINES; nines++) {
+            double x = MARGIN + plotWidth * nines / MAX_NINES;
+            svg.append(String.format(Locale.ROOT, "<line x1=\"%.1f\" y1=\"%d\" x2=\"%.1f\" y2=\"%d\" stroke=\"#eee\"/>"
+                            + "<text x=\"%.1f\" y=\"%d\" text-anchor=\"middle\">%s</text>%n",
+                    x, MARGIN, x, HEIGHT - MARGIN, x, HEIGHT - MARGIN + 16, labels[nines]));
+        }
+        for (int tick = 0; tick <= 4; tick++) {
+            double y = HEIGHT - MARGIN - plotHeight * tick / 4.0;
+            svg.append(String.format(Locale.ROOT, "<text x=\"%d\" y=\"%.1f\" text-anchor=\"end\">%.1f ms</text>%n",
+                    MARGIN - 4, y + 4, maxMillis * tick / 4));
+        }
+
+        int series = 0;
+        for (Map.Entry<String, Row> row : rows.entrySet()) {
+            String color = COLORS[series % COLORS.length];
+            List<String> points = new ArrayList<>();
+            for (double nines = 0; nines <= MAX_NINES + 1e-9; nines += 0.05) {
+                double percentile = 100 * (1 - Math.pow(10, -nines));
+                double x = MARGIN + plotWidth * nines / MAX_NINES;
+                double y = HEIGHT - MARGIN - plotHeight * Math.min(row.getValue().percentile(percentile) / maxMillis, 1);
+                points.add(String.format(Locale.ROOT, "%.1f,%.1f", x, y));
+            }
+            svg.append(String.format(Locale.ROOT, "<polyline fill=\"none\" stroke=\"%s\" stroke-width=\"%s\" points=\"%s\"/>%n",
+                    color, row.getKey().equals("all") ? "3" : "1.5", String.join(" ", points)));
+            svg.append(String.format(Locale.ROOT, "<text x=\"%d\" y=\"%d\" fill=\"%s\">%s</text>%n",
+                    WIDTH - MARGIN + 20, MARGIN + 14 * series + 10, color, escape(row.getKey())));
+            series++;
+        }
+        return svg.append("</svg>\n").toString();
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static final class Row {
+        final Histogram histogram;
+        final long errors;
+        final long dropped;
+        final String causes;
+        final double throughput;
+
+        Row(Histogram histogram, long errors, long dropped, String causes, double seconds) {
+            this.histogram = histogram;
+            this.errors = errors;
+            this.dropped = dropped;
+            this.causes = causes.equals("{}") ? "" : causes;
+            this.throughput = histogram.getTotalCount() / seconds;
+        }
+
+        double percentile(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+        }
+
+        double max() {
+            return histogram.getMaxValue() / MICROS_PER_MILLI;
+        }
+    }
+}
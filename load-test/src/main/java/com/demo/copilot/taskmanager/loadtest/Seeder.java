@@ -0,0 +1,86 @@
+package com.demo.copilot.taskmanager.loadtest;
+
+import com.demo.copilot.taskmanager.loadtest.Dataset.VirtualUser;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the accounts and tasks the load runs against, through the same
+ * API the load uses. Accounts that already exist (a reused database) are
+ * logged in instead of registered.
+ */
+final class Seeder {
+
+    private static final String PASSWORD = "Load@Pass1";
+
+    private final ApiClient api;
+    private final Semaphore permits;
+
+    Seeder(ApiClient api, int parallelism) {
+        this.api = api;
+        this.permits = new Semaphore(parallelism);
+    }
+
+    Dataset seed(int userCount, int tasksPerUser, Random random) throws InterruptedException {
+        List<VirtualUser> users = new ArrayList<>();
+        List<CompletableFuture<VirtualUser>> registrations = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            permits.acquire();
+            registrations.add(register(i).whenComplete((user, error) -> permits.release()));
+        }
+        for (CompletableFuture<VirtualUser> registration : registrations) {
+            users.add(registration.join());
+        }
+
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<Integer>> creates = new ArrayList<>();
+        for (int i = 0; i < tasksPerUser; i++) {
+            for (VirtualUser user : users) {
+                permits.acquire();
+                creates.add(Operation.CREATE.execute(api, user, random).whenComplete((status, error) -> {
+                    permits.release();
+                    if (error != null || status != 201) {
+                        failed.incrementAndGet();
+                    }
+                }));
+            }
+        }
+        CompletableFuture.allOf(creates.toArray(new CompletableFuture[0])).exceptionally(error -> null).join();
+        if (failed.get() > 0) {
+            throw new IllegalStateException(failed.get() + " of " + creates.size() + " seed tasks could not be created");
+        }
+        return new Dataset(users);
+    }
+
+    private CompletableFuture<VirtualUser> register(int index) {
+        String email = "load.user." + index + "@loadtest.example";
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("username", "load_user_" + index);
+        body.put("email", email);
+        body.put("password", PASSWORD);
+        body.put("firstName", "Load");
+        body.put("lastName", "User " + index);
+        body.put("role", "USER");
+
+        return api.post("/auth/register", null, body).thenCompose(response -> response.statusCode() == 201
+                ? CompletableFuture.completedFuture(response)
+                : api.post("/auth/login", null, Map.of("email", email, "password", PASSWORD)))
+                .thenApply(response -> new VirtualUser(email, PASSWORD, token(response, email)));
+    }
+
+    private String token(HttpResponse<String> response, String email) {
+        if (response.statusCode() != 200 && response.statusCode() != 201) {
+            throw new IllegalStateException("Cannot register or log in " + email + ": HTTP "
+                    + response.statusCode() + " " + response.body());
+        }
+        return api.read(response).path("token").asText();
+    }
+}
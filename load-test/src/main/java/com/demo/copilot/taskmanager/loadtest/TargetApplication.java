@@ -0,0 +1,96 @@
+package com.demo.copilot.taskmanager.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The application under test, started as a separate JVM so that its
+ * CPU and heap are not shared with the load generator.
+ *
+ * Rate limiting and login throttling are switched off: every request
+ * comes from one client address and a few hundred accounts, which those
+ * filters would rightly reject. The adaptive concurrency limit stays on,
+ * as it is part of the node's real capacity; its 503s count as errors.
+ */
+final class TargetApplication implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(5);
+
+    private final Process process;
+    private final String baseUrl;
+
+    private TargetApplication(Process process, String baseUrl) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+    }
+
+    static TargetApplication start(LoadTestOptions options, Path log) throws IOException, InterruptedException {
+        Path jar = Path.of(options.appJar);
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException(jar.toAbsolutePath() + " not found: build it with mvn -f ../pom.xml package");
+        }
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (!options.jvmArgs.isBlank()) {
+            command.addAll(Arrays.asList(options.jvmArgs.trim().split("\\s+")));
+        }
+        command.addAll(List.of("-jar", jar.toString(),
+                "--spring.profiles.active=" + options.profiles,
+                "--server.port=" + port,
+                "--app.rate-limit.enabled=false",
+                "--app.auth.throttle.enabled=false",
+                "--logging.file.name=" + log.resolveSibling("application-json.log")));
+        command.addAll(options.appArgs);
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        TargetApplication app = new TargetApplication(process, "http://localhost:" + port + "/api");
+        app.awaitReady(log);
+        return app;
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    private void awaitReady(Path log) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited during startup, see " + log);
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(200);
+        }
+        close();
+        throw new IllegalStateException("Application not ready within " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        process.waitFor();
+    }
+}
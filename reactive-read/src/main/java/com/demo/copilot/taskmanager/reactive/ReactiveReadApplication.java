@@ -0,0 +1,19 @@
+package com.demo.copilot.taskmanager.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Read-only task API on WebFlux and R2DBC.
+ *
+ * Serves the GET endpoints of the blocking API from the same database with
+ * the same JWTs and visibility rules, on a small number of event-loop threads
+ * and a small R2DBC connection pool.
+ */
+@SpringBootApplication
+public class ReactiveReadApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveReadApplication.class, args);
+    }
+}
@@ -0,0 +1,97 @@
+package com.demo.copilot.taskmanager.reactive.controller;
+
+import com.demo.copilot.taskmanager.application.dto.task.TaskCountersResponse;
+import com.demo.copilot.taskmanager.application.dto.task.TaskResponse;
+import com.demo.copilot.taskmanager.application.dto.task.TaskStatsResponse;
+import com.demo.copilot.taskmanager.application.dto.task.TaskSummaryResponse;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+import com.demo.copilot.taskmanager.reactive.service.TaskReadService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only task endpoints, path- and payload-compatible with the GET
+ * endpoints of the blocking {@code TaskController}.
+ *
+ * Listings can also be requested as {@code application/x-ndjson}, in which
+ * case rows are written as they arrive from the database instead of being
+ * collected into a page.
+ */
+@RestController
+@RequestMapping("/tasks")
+public class TaskReadController {
+
+    private final TaskReadService taskReadService;
+
+    public TaskReadController(TaskReadService taskReadService) {
+        this.taskReadService = taskReadService;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<TaskResponse> getTaskById(@PathVariable UUID id) {
+        return taskReadService.getTaskById(id);
+    }
+
+    @GetMapping("/key/{key}")
+    public Mono<TaskResponse> getTaskByKey(@PathVariable String key) {
+        return taskReadService.getTaskByKey(key);
+    }
+
+    @GetMapping
+    public Mono<Page<TaskSummaryResponse>> getAllTasks(
+            @PageableDefault(size = 20, sort = {"createdAt"}) Pageable pageable,
+            @RequestParam(required = false) TaskStatus status) {
+        if (status != null) {
+            return taskReadService.getTasksByStatus(status, pageable);
+        }
+        return taskReadService.getAllTasks(pageable);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskSummaryResponse> streamAllTasks(
+            @PageableDefault(size = 20, sort = {"createdAt"}) Pageable pageable) {
+        return taskReadService.streamAllTasks(pageable);
+    }
+
+    @GetMapping(value = "/changes", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<TaskSummaryResponse> getChanges(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since,
+            @RequestParam(defaultValue = "500") int limit) {
+        return taskReadService.getChangesSince(since, limit);
+    }
+
+    @GetMapping("/stats")
+    public Mono<TaskStatsResponse> getTaskStatistics() {
+        return taskReadService.getTaskStatistics();
+    }
+
+    @GetMapping("/my/counters")
+    public Mono<TaskCountersResponse> getMyTaskCounters() {
+        return taskReadService.getMyTaskCounters();
+    }
+
+    @GetMapping("/my/assigned")
+    public Mono<Page<TaskSummaryResponse>> getMyAssignedTasks(
+            @PageableDefault(size = 20, sort = {"dueDate"}) Pageable pageable) {
+        return taskReadService.getMyAssignedTasks(pageable);
+    }
+
+    @GetMapping("/my/created")
+    public Mono<Page<TaskSummaryResponse>> getMyCreatedTasks(
+            @PageableDefault(size = 20, sort = {"createdAt"}) Pageable pageable) {
+        return taskReadService.getMyCreatedTasks(pageable);
+    }
+}
@@ -0,0 +1,142 @@
+package com.demo.copilot.taskmanager.reactive.repository;
+
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * R2DBC counterpart of the read queries in the blocking API's
+ * {@code TaskRepository}. Paged finders return one page of rows; the matching
+ * {@code count*} method supplies the total.
+ */
+@Repository
+public interface ReactiveTaskRepository extends R2dbcRepository<TaskRow, UUID> {
+
+    /**
+     * Aggregate columns shared by the dashboard statistics queries, aliased
+     * to match {@link TaskStatsRow}. Same definitions as the blocking API.
+     */
+    String STATS_COLUMNS = "SELECT COUNT(*) AS total, " +
+        "COUNT(*) FILTER (WHERE t.status = 'TODO') AS todo, " +
+        "COUNT(*) FILTER (WHERE t.status = 'IN_PROGRESS') AS in_progress, " +
+        "COUNT(*) FILTER (WHERE t.status = 'IN_REVIEW') AS in_review, " +
+        "COUNT(*) FILTER (WHERE t.status = 'COMPLETED') AS completed, " +
+        "COUNT(*) FILTER (WHERE t.status = 'CANCELLED') AS cancelled, " +
+        "COUNT(*) FILTER (WHERE t.priority = 'LOW') AS low_priority, " +
+        "COUNT(*) FILTER (WHERE t.priority = 'MEDIUM') AS medium_priority, " +
+        "COUNT(*) FILTER (WHERE t.priority = 'HIGH') AS high_priority, " +
+        "COUNT(*) FILTER (WHERE t.priority = 'URGENT') AS urgent_priority, " +
+        "COUNT(*) FILTER (WHERE t.due_date < :now AND t.status <> 'COMPLETED') AS overdue, " +
+        "COUNT(*) FILTER (WHERE t.due_date >= :now AND t.due_date < :dueSoonUntil AND t.status <> 'COMPLETED') AS due_soon ";
+
+    /**
+     * Find a task by its human-readable key.
+     */
+    Mono<TaskRow> findByTaskKey(String taskKey);
+
+    /**
+     * Find all non-archived tasks with pagination.
+     */
+    Flux<TaskRow> findByIsArchivedFalse(Pageable pageable);
+
+    Mono<Long> countByIsArchivedFalse();
+
+    /**
+     * Find tasks assigned to user or created by user with pagination.
+     */
+    default Flux<TaskRow> findTasksAccessibleByUser(UUID userId, Pageable pageable) {
+        return findByAssignedToIdAndIsArchivedFalseOrCreatedByIdAndIsArchivedFalse(userId, userId, pageable);
+    }
+
+    default Mono<Long> countTasksAccessibleByUser(UUID userId) {
+        return countByAssignedToIdAndIsArchivedFalseOrCreatedByIdAndIsArchivedFalse(userId, userId);
+    }
+
+    Flux<TaskRow> findByAssignedToIdAndIsArchivedFalseOrCreatedByIdAndIsArchivedFalse(UUID assignedTo, UUID createdBy,
+                                                                                      Pageable pageable);
+
+    Mono<Long> countByAssignedToIdAndIsArchivedFalseOrCreatedByIdAndIsArchivedFalse(UUID assignedTo, UUID createdBy);
+
+    /**
+     * Find tasks by status with pagination.
+     */
+    Flux<TaskRow> findByStatus(TaskStatus status, Pageable pageable);
+
+    Mono<Long> countByStatus(TaskStatus status);
+
+    /**
+     * Find tasks by assigned user and status.
+     */
+    Flux<TaskRow> findByAssignedToIdAndStatus(UUID assignedTo, TaskStatus status, Pageable pageable);
+
+    Mono<Long> countByAssignedToIdAndStatus(UUID assignedTo, TaskStatus status);
+
+    /**
+     * Find tasks assigned to a specific user with pagination.
+     */
+    Flux<TaskRow> findByAssignedToId(UUID assignedTo, Pageable pageable);
+
+    Mono<Long> countByAssignedToId(UUID assignedTo);
+
+    /**
+     * Find tasks created by a specific user with pagination.
+     */
+    Flux<TaskRow> findByCreatedById(UUID createdBy, Pageable pageable);
+
+    Mono<Long> countByCreatedById(UUID createdBy);
+
+    /**
+     * Tasks changed after {@code since} in change order, across the organization.
+     */
+    @Query("SELECT * FROM tasks WHERE updated_at > :since ORDER BY updated_at, id LIMIT :limit")
+    Flux<TaskRow> findChangedSince(@Param("since") LocalDateTime since, @Param("limit") int limit);
+
+    /**
+     * Tasks a user can see that changed after {@code since}, in change order.
+     * Archived tasks are included so clients learn about archiving.
+     */
+    @Query("SELECT * FROM tasks WHERE updated_at > :since " +
+           "AND (assigned_to_id = :userId OR created_by_id = :userId) " +
+           "ORDER BY updated_at, id LIMIT :limit")
+    Flux<TaskRow> findChangedSinceForUser(@Param("userId") UUID userId,
+                                          @Param("since") LocalDateTime since,
+                                          @Param("limit") int limit);
+
+    /**
+     * Compute dashboard statistics for the tasks a user can see in a single
+     * grouped query, never double counting a task the user both created and
+     * is assigned to.
+     */
+    @Query(STATS_COLUMNS +
+           "FROM (" +
+           "  SELECT status, priority, due_date FROM tasks " +
+           "  WHERE assigned_to_id = :userId AND is_archived = false " +
+           "  UNION ALL " +
+           "  SELECT status, priority, due_date FROM tasks " +
+           "  WHERE created_by_id = :userId AND assigned_to_id <> :userId AND is_archived = false" +
+           ") t")
+    Mono<TaskStatsRow> computeStatsForUser(@Param("userId") UUID userId,
+                                           @Param("now") LocalDateTime now,
+                                           @Param("dueSoonUntil") LocalDateTime dueSoonUntil);
+
+    /**
+     * Compute dashboard statistics across all non-archived tasks in a single query.
+     */
+    @Query(STATS_COLUMNS + "FROM tasks t WHERE t.is_archived = false")
+    Mono<TaskStatsRow> computeStatsForOrganization(@Param("now") LocalDateTime now,
+                                                   @Param("dueSoonUntil") LocalDateTime dueSoonUntil);
+
+    /**
+     * Per-status counters of a user's assigned tasks from the counter read model.
+     */
+    @Query("SELECT status, task_count FROM task_counters WHERE user_id = :userId")
+    Flux<TaskCounterRow> findCountersByUser(@Param("userId") UUID userId);
+}
@@ -0,0 +1,29 @@
+package com.demo.copilot.taskmanager.reactive.repository;
+
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+
+/**
+ * One status bucket of the {@code task_counters} read model.
+ */
+public class TaskCounterRow {
+
+    private TaskStatus status;
+    private long taskCount;
+
+    // Getters and Setters
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public long getTaskCount() {
+        return taskCount;
+    }
+
+    public void setTaskCount(long taskCount) {
+        this.taskCount = taskCount;
+    }
+}
@@ -0,0 +1,117 @@
+package com.demo.copilot.taskmanager.reactive.repository;
+
+/**
+ * Result row of the dashboard statistics queries in {@link ReactiveTaskRepository}.
+ */
+public class TaskStatsRow {
+
+    private long total;
+    private long todo;
+    private long inProgress;
+    private long inReview;
+    private long completed;
+    private long cancelled;
+    private long lowPriority;
+    private long mediumPriority;
+    private long highPriority;
+    private long urgentPriority;
+    private long overdue;
+    private long dueSoon;
+
+    // Getters and Setters
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getTodo() {
+        return todo;
+    }
+
+    public void setTodo(long todo) {
+        this.todo = todo;
+    }
+
+    public long getInProgress() {
+        return inProgress;
+    }
+
+    public void setInProgress(long inProgress) {
+        this.inProgress = inProgress;
+    }
+
+    public long getInReview() {
+        return inReview;
+    }
+
+    public void setInReview(long inReview) {
+        this.inReview = inReview;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+
+    public long getCancelled() {
+        return cancelled;
+    }
+
+    public void setCancelled(long cancelled) {
+        this.cancelled = cancelled;
+    }
+
+    public long getLowPriority() {
+        return lowPriority;
+    }
+
+    public void setLowPriority(long lowPriority) {
+        this.lowPriority = lowPriority;
+    }
+
+    public long getMediumPriority() {
+        return mediumPriority;
+    }
+
+    public void setMediumPriority(long mediumPriority) {
+        this.mediumPriority = mediumPriority;
+    }
+
+    public long getHighPriority() {
+        return highPriority;
+    }
+
+    public void setHighPriority(long highPriority) {
+        this.highPriority = highPriority;
+    }
+
+    public long getUrgentPriority() {
+        return urgentPriority;
+    }
+
+    public void setUrgentPriority(long urgentPriority) {
+        this.urgentPriority = urgentPriority;
+    }
+
+    public long getOverdue() {
+        return overdue;
+    }
+
+    public void setOverdue(long overdue) {
+        this.overdue = overdue;
+    }
+
+    public long getDueSoon() {
+        return dueSoon;
+    }
+
+    public void setDueSoon(long dueSoon) {
+        this.dueSoon = dueSoon;
+    }
+}
@@ -0,0 +1,68 @@
+package com.demo.copilot.taskmanager.reactive.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import javax.crypto.SecretKey;
+import java.util.List;
+
+/**
+ * Authenticates bearer tokens issued by the blocking API.
+ *
+ * Verifies the signature and expiry with the shared
+ * {@code spring.security.jwt.secret}, then loads the role of the active user
+ * named by the subject, the same per-request lookup the blocking
+ * {@code JwtAuthenticationFilter} does through {@code UserDetailsServiceImpl}.
+ */
+@Component
+public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final DatabaseClient databaseClient;
+    private final SecretKey signingKey;
+
+    public JwtReactiveAuthenticationManager(DatabaseClient databaseClient,
+                                            @Value("${spring.security.jwt.secret}") String jwtSecret) {
+        this.databaseClient = databaseClient;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    }
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        String token = (String) authentication.getCredentials();
+        String username;
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(signingKey)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            username = claims.getSubject();
+        } catch (JwtException | IllegalArgumentException e) {
+            return Mono.error(new BadCredentialsException("Invalid JWT token", e));
+        }
+        if (username == null) {
+            return Mono.error(new BadCredentialsException("JWT token has no subject"));
+        }
+
+        // Try to find by email first, then by username
+        String column = username.contains("@") ? "email" : "username";
+        return databaseClient.sql("SELECT email, role FROM users WHERE " + column + " = :name AND is_active = true")
+                .bind("name", username)
+                .map(row -> (Authentication) new UsernamePasswordAuthenticationToken(
+                        row.get("email", String.class), token,
+                        List.of(new SimpleGrantedAuthority("ROLE_" + row.get("role", String.class)))))
+                .one()
+                .switchIfEmpty(Mono.error(new BadCredentialsException("User not found or deactivated: " + username)));
+    }
+}
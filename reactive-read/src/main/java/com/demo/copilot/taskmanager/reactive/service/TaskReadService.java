@@ -0,0 +1,295 @@
+package com.demo.copilot.taskmanager.reactive.service;
+
+import com.demo.copilot.taskmanager.application.dto.task.TaskCountersResponse;
+import com.demo.copilot.taskmanager.application.dto.task.TaskResponse;
+import com.demo.copilot.taskmanager.application.dto.task.TaskStatsResponse;
+import com.demo.copilot.taskmanager.application.dto.task.TaskSummaryResponse;
+import com.demo.copilot.taskmanager.application.exception.TaskNotFoundException;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskPriority;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+import com.demo.copilot.taskmanager.reactive.repository.ReactiveTaskRepository;
+import com.demo.copilot.taskmanager.reactive.repository.TaskRow;
+import com.demo.copilot.taskmanager.reactive.repository.TaskStatsRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Non-blocking read side of the task API.
+ *
+ * Applies the visibility rules of the blocking {@code TaskService}: admins see
+ * every task, everyone else only tasks they created or are assigned to, and a
+ * task that exists but is not visible is reported as not found.
+ */
+@Service
+public class TaskReadService {
+
+    private final ReactiveTaskRepository taskRepository;
+    private final String taskKeyPrefix;
+    private final int dueSoonHours;
+    private final int maxChanges;
+
+    public TaskReadService(ReactiveTaskRepository taskRepository,
+                           @Value("${app.task-keys.prefix:TM}") String taskKeyPrefix,
+                           @Value("${app.stats.due-soon-hours:24}") int dueSoonHours,
+                           @Value("${app.changes.max-batch:1000}") int maxChanges) {
+        this.taskRepository = taskRepository;
+        this.taskKeyPrefix = taskKeyPrefix + "-";
+        this.dueSoonHours = dueSoonHours;
+        this.maxChanges = maxChanges;
+    }
+
+    /**
+     * Get task by ID.
+     */
+    public Mono<TaskResponse> getTaskById(UUID taskId) {
+        return currentUser().flatMap(user -> taskRepository.findById(taskId)
+                .filter(task -> user.canView(task))
+                .switchIfEmpty(Mono.error(() -> new TaskNotFoundException("Task not found with id: " + taskId)))
+                .map(TaskReadService::toResponse));
+    }
+
+    /**
+     * Get task by its human-readable key, e.g. {@code TM-10423}.
+     */
+    public Mono<TaskResponse> getTaskByKey(String taskKey) {
+        if (!isKey(taskKey)) {
+            return Mono.error(new IllegalArgumentException("Invalid task key format: " + taskKey));
+        }
+        return currentUser().flatMap(user -> taskRepository.findByTaskKey(taskKey)
+                .filter(task -> user.canView(task))
+                .switchIfEmpty(Mono.error(() -> new TaskNotFoundException("Task not found with key: " + taskKey)))
+                .map(TaskReadService::toResponse));
+    }
+
+    /**
+     * Get all visible tasks, one page at a time.
+     */
+    public Mono<Page<TaskSummaryResponse>> getAllTasks(Pageable pageable) {
+        return currentUser().flatMap(user -> user.admin
+                ? page(taskRepository.findByIsArchivedFalse(pageable), taskRepository.countByIsArchivedFalse(), pageable)
+                : page(taskRepository.findTasksAccessibleByUser(user.id, pageable),
+                        taskRepository.countTasksAccessibleByUser(user.id), pageable));
+    }
+
+    /**
+     * Stream all visible tasks of one page as they are read, without a total count.
+     */
+    public Flux<TaskSummaryResponse> streamAllTasks(Pageable pageable) {
+        return currentUser().flatMapMany(user -> user.admin
+                        ? taskRepository.findByIsArchivedFalse(pageable)
+                        : taskRepository.findTasksAccessibleByUser(user.id, pageable))
+                .map(TaskReadService::toSummaryResponse);
+    }
+
+    /**
+     * Get tasks by status with pagination.
+     */
+    public Mono<Page<TaskSummaryResponse>> getTasksByStatus(TaskStatus status, Pageable pageable) {
+        return currentUser().flatMap(user -> user.admin
+                ? page(taskRepository.findByStatus(status, pageable), taskRepository.countByStatus(status), pageable)
+                : page(taskRepository.findByAssignedToIdAndStatus(user.id, status, pageable),
+                        taskRepository.countByAssignedToIdAndStatus(user.id, status), pageable));
+    }
+
+    /**
+     * Get tasks assigned to current user.
+     */
+    public Mono<Page<TaskSummaryResponse>> getMyAssignedTasks(Pageable pageable) {
+        return currentUser().flatMap(user -> page(taskRepository.findByAssignedToId(user.id, pageable),
+                taskRepository.countByAssignedToId(user.id), pageable));
+    }
+
+    /**
+     * Get tasks created by current user.
+     */
+    public Mono<Page<TaskSummaryResponse>> getMyCreatedTasks(Pageable pageable) {
+        return currentUser().flatMap(user -> page(taskRepository.findByCreatedById(user.id, pageable),
+                taskRepository.countByCreatedById(user.id), pageable));
+    }
+
+    /**
+     * Visible tasks changed after {@code since}, oldest change first, at most
+     * {@code app.changes.max-batch} per call. Clients resume from the
+     * {@code updatedAt} of the last task they received.
+     */
+    public Flux<TaskSummaryResponse> getChangesSince(OffsetDateTime since, int limit) {
+        LocalDateTime from = toUtc(since);
+        int batch = Math.max(1, Math.min(limit, maxChanges));
+        return currentUser().flatMapMany(user -> user.admin
+                        ? taskRepository.findChangedSince(from, batch)
+                        : taskRepository.findChangedSinceForUser(user.id, from, batch))
+                .map(TaskReadService::toSummaryResponse);
+    }
+
+    /**
+     * Get dashboard statistics in a single grouped query.
+     */
+    public Mono<TaskStatsResponse> getTaskStatistics() {
+        return currentUser().flatMap(user -> {
+            OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+            LocalDateTime from = now.toLocalDateTime();
+            LocalDateTime until = from.plusHours(dueSoonHours);
+            return user.admin
+                    ? taskRepository.computeStatsForOrganization(from, until)
+                        .map(stats -> toStatsResponse(stats, TaskStatsResponse.Scope.ORGANIZATION, now))
+                    : taskRepository.computeStatsForUser(user.id, from, until)
+                        .map(stats -> toStatsResponse(stats, TaskStatsResponse.Scope.USER, now));
+        });
+    }
+
+    /**
+     * Get badge counters for tasks assigned to the current user from the
+     * counter read model. Deltas the blocking API has not flushed yet are not
+     * included.
+     */
+    public Mono<TaskCountersResponse> getMyTaskCounters() {
+        return currentUser().flatMap(user -> taskRepository.findCountersByUser(user.id)
+                .collect(() -> zeroCounts(), (counts, row) -> counts.put(row.getStatus(), Math.max(0L, row.getTaskCount())))
+                .map(counts -> new TaskCountersResponse(user.id, counts)));
+    }
+
+    // Private helper methods
+
+    private Mono<CurrentUser> currentUser() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(CurrentUser::of);
+    }
+
+    private boolean isKey(String key) {
+        if (key == null || !key.startsWith(taskKeyPrefix) || key.length() == taskKeyPrefix.length()) {
+            return false;
+        }
+        for (int i = taskKeyPrefix.length(); i < key.length(); i++) {
+            if (!Character.isDigit(key.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Mono<Page<TaskSummaryResponse>> page(Flux<TaskRow> rows, Mono<Long> total, Pageable pageable) {
+        return rows.map(TaskReadService::toSummaryResponse)
+                .collectList()
+                .zipWith(total, (content, count) -> new PageImpl<>(content, pageable, count));
+    }
+
+    private static Map<TaskStatus, Long> zeroCounts() {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+
+    private TaskStatsResponse toStatsResponse(TaskStatsRow row, TaskStatsResponse.Scope scope, OffsetDateTime now) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        byStatus.put(TaskStatus.TODO, row.getTodo());
+        byStatus.put(TaskStatus.IN_PROGRESS, row.getInProgress());
+        byStatus.put(TaskStatus.IN_REVIEW, row.getInReview());
+        byStatus.put(TaskStatus.COMPLETED, row.getCompleted());
+        byStatus.put(TaskStatus.CANCELLED, row.getCancelled());
+
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        byPriority.put(TaskPriority.LOW, row.getLowPriority());
+        byPriority.put(TaskPriority.MEDIUM, row.getMediumPriority());
+        byPriority.put(TaskPriority.HIGH, row.getHighPriority());
+        byPriority.put(TaskPriority.URGENT, row.getUrgentPriority());
+
+        TaskStatsResponse response = new TaskStatsResponse();
+        response.setScope(scope);
+        response.setTotal(row.getTotal());
+        response.setByStatus(byStatus);
+        response.setByPriority(byPriority);
+        response.setOverdue(row.getOverdue());
+        response.setDueSoon(row.getDueSoon());
+        response.setDueSoonHours(dueSoonHours);
+        response.setGeneratedAt(now);
+        return response;
+    }
+
+    private static TaskResponse toResponse(TaskRow task) {
+        TaskResponse response = new TaskResponse();
+        response.setId(task.getId());
+        response.setTaskKey(task.getTaskKey());
+        response.setTitle(task.getTitle());
+        response.setDescription(task.getDescription());
+        response.setStatus(task.getStatus());
+        response.setPriority(task.getPriority());
+        response.setCategory(task.getCategory());
+        response.setDueDate(fromUtc(task.getDueDate()));
+        response.setAssignedTo(task.getAssignedToId());
+        response.setCreatedBy(task.getCreatedById());
+        response.setEstimatedHours(task.getEstimatedHours());
+        response.setActualHours(task.getActualHours());
+        response.setIsArchived(task.getIsArchived());
+        response.setCompletedAt(fromUtc(task.getCompletedAt()));
+        response.setCreatedAt(fromUtc(task.getCreatedAt()));
+        response.setUpdatedAt(fromUtc(task.getUpdatedAt()));
+        response.setVersion(task.getVersion());
+        return response;
+    }
+
+    private static TaskSummaryResponse toSummaryResponse(TaskRow task) {
+        TaskSummaryResponse response = new TaskSummaryResponse(task.getId(), task.getTitle(), task.getStatus(),
+                task.getPriority(), task.getCategory(), fromUtc(task.getDueDate()), task.getAssignedToId(),
+                task.getCreatedById(), fromUtc(task.getCreatedAt()), fromUtc(task.getUpdatedAt()));
+        response.setTaskKey(task.getTaskKey());
+        return response;
+    }
+
+    private static OffsetDateTime fromUtc(LocalDateTime value) {
+        return value == null ? null : value.atOffset(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toUtc(OffsetDateTime value) {
+        return value.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+
+    /**
+     * Caller identity resolved the same way as the blocking API: the principal
+     * name is a UUID or, failing that, a name-based UUID derived from it.
+     */
+    private static final class CurrentUser {
+
+        private final UUID id;
+        private final boolean admin;
+
+        private CurrentUser(UUID id, boolean admin) {
+            this.id = id;
+            this.admin = admin;
+        }
+
+        static CurrentUser of(Authentication authentication) {
+            String username = authentication.getName();
+            UUID id;
+            try {
+                id = UUID.fromString(username);
+            } catch (IllegalArgumentException e) {
+                id = UUID.nameUUIDFromBytes(username.getBytes());
+            }
+            boolean admin = authentication.getAuthorities().stream()
+                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
+            return new CurrentUser(id, admin);
+        }
+
+        boolean canView(TaskRow task) {
+            return admin || task.isVisibleTo(id);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.demo.copilot.taskmanager.reactive.controller;
+
+import com.demo.copilot.taskmanager.application.dto.task.TaskSummaryResponse;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-read;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "spring.sql.init.mode=always"
+})
+class TaskReadControllerTest {
+
+    private static final String ALICE = "alice@example.com";
+    private static final String BOB = "bob@example.com";
+    private static final String ADMIN = "admin@example.com";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Value("${spring.security.jwt.secret}")
+    private String jwtSecret;
+
+    private UUID aliceTask;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("tasks", "task_counters", "users")) {
+            databaseClient.sql("DELETE FROM " + table).then().block();
+        }
+        insertUser("alice", ALICE, "USER");
+        insertUser("bob", BOB, "USER");
+        insertUser("admin", ADMIN, "ADMIN");
+
+        LocalDateTime now = LocalDateTime.now();
+        aliceTask = insertTask("TM-1", "Alice's task", "TODO", ALICE, ALICE, now.minusDays(1), now.minusMinutes(3));
+        insertTask("TM-2", "Assigned to Alice", "IN_PROGRESS", ALICE, BOB, now.plusHours(2), now.minusMinutes(2));
+        insertTask("TM-3", "Bob's task", "COMPLETED", BOB, BOB, null, now.minusMinutes(1));
+        databaseClient.sql("INSERT INTO task_counters (user_id, status, task_count) VALUES (:userId, 'TODO', 1)")
+                .bind("userId", userId(ALICE))
+                .then().block();
+    }
+
+    @Test
+    void getTaskById_ShouldReturnVisibleTaskAndHideOthers() {
+        webTestClient.get().uri("/tasks/{id}", aliceTask)
+                .headers(headers -> headers.setBearerAuth(token(ALICE)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.taskKey").isEqualTo("TM-1")
+                .jsonPath("$.status").isEqualTo("TODO");
+
+        webTestClient.get().uri("/tasks/{id}", aliceTask)
+                .headers(headers -> headers.setBearerAuth(token(BOB)))
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Task Not Found");
+
+        webTestClient.get().uri("/tasks/key/{key}", "TM-1")
+                .headers(headers -> headers.setBearerAuth(token(ADMIN)))
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient.get().uri("/tasks/key/{key}", "nope")
+                .headers(headers -> headers.setBearerAuth(token(ALICE)))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void endpoints_WithoutValidToken_ShouldReturn401() {
+        webTestClient.get().uri("/tasks")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.get().uri("/tasks")
+                .headers(headers -> headers.setBearerAuth("not-a-jwt"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void getAllTasks_ShouldPageVisibleTasksAndComputeStatsAndCounters() {
+        webTestClient.get().uri("/tasks?size=1")
+                .headers(headers -> headers.setBearerAuth(token(ALICE)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(2)
+                .jsonPath("$.content.length()").isEqualTo(1);
+
+        webTestClient.get().uri("/tasks/stats")
+                .headers(headers -> headers.setBearerAuth(token(ALICE)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.scope").isEqualTo("USER")
+                .jsonPath("$.total").isEqualTo(2)
+                .jsonPath("$.overdue").isEqualTo(1)
+                .jsonPath("$.dueSoon").isEqualTo(1);
+
+        webTestClient.get().uri("/tasks/stats")
+                .headers(headers -> headers.setBearerAuth(token(ADMIN)))
+                .exchange()
+                .expectBody()
+                .jsonPath("$.scope").isEqualTo("ORGANIZATION")
+                .jsonPath("$.total").isEqualTo(3);
+
+        webTestClient.get().uri("/tasks/my/counters")
+                .headers(headers -> headers.setBearerAuth(token(ALICE)))
+                .exchange()
+                .expectBody()
+                .jsonPath("$.byStatus.TODO").isEqualTo(1)
+                .jsonPath("$.byStatus.COMPLETED").isEqualTo(0)
+                .jsonPath("$.open").isEqualTo(1);
+    }
+
+    @Test
+    void streamAllTasks_AsNdjson_ShouldEmitOneTaskPerLine() {
+        List<TaskSummaryResponse> streamed = webTestClient.get().uri("/tasks?sort=taskKey")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .headers(headers -> headers.setBearerAuth(token(ADMIN)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(TaskSummaryResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(streamed).extracting(TaskSummaryResponse::getTaskKey).containsExactly("TM-1", "TM-2", "TM-3");
+
+        List<TaskSummaryResponse> changes = webTestClient.get()
+                .uri(uri -> uri.path("/tasks/changes")
+                        .queryParam("since", "2000-01-01T00:00:00Z")
+                        .build())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .headers(headers -> headers.setBearerAuth(token(BOB)))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(TaskSummaryResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(changes).extracting(TaskSummaryResponse::getTaskKey).containsExactly("TM-2", "TM-3");
+    }
+
+    private void insertUser(String username, String email, String role) {
+        databaseClient.sql("INSERT INTO users (id, username, email, role) VALUES (:id, :username, :email, :role)")
+                .bind("id", UUID.randomUUID())
+                .bind("username", username)
+                .bind("email", email)
+                .bind("role", role)
+                .then().block();
+    }
+
+    private UUID insertTask(String key, String title, String status, String assignee, String creator,
+                            LocalDateTime dueDate, LocalDateTime updatedAt) {
+        UUID id = UUID.randomUUID();
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                        "INSERT INTO tasks (id, task_key, title, status, priority, category, assigned_to_id, created_by_id, " +
+                        "due_date, created_at, updated_at) VALUES (:id, :key, :title, :status, 'HIGH', 'WORK', " +
+                        ":assignee, :creator, :dueDate, :updatedAt, :updatedAt)")
+                .bind("id", id)
+                .bind("key", key)
+                .bind("title", title)
+                .bind("status", status)
+                .bind("assignee", userId(assignee))
+                .bind("creator", userId(creator))
+                .bind("updatedAt", updatedAt);
+        spec = dueDate == null ? spec.bindNull("dueDate", LocalDateTime.class) : spec.bind("dueDate", dueDate);
+        spec.then().block();
+        return id;
+    }
+
+    private static UUID userId(String email) {
+        return UUID.nameUUIDFromBytes(email.getBytes());
+    }
+
+    private String token(String email) {
+        return Jwts.builder()
+                .subject(email)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes()))
+                .compact();
+    }
+}
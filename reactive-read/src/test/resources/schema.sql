@@ -0,0 +1,36 @@
+-- H2 subset of the Flyway schema (V1, V2, V4, V6) read by this module
+CREATE TABLE users (
+    id UUID PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    role VARCHAR(20) NOT NULL DEFAULT 'USER',
+    is_active BOOLEAN NOT NULL DEFAULT true
+);
+
+CREATE TABLE tasks (
+    id UUID PRIMARY KEY,
+    task_key VARCHAR(32),
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    status VARCHAR(20) NOT NULL DEFAULT 'TODO',
+    priority VARCHAR(10) NOT NULL DEFAULT 'MEDIUM',
+    category VARCHAR(20),
+    assigned_to_id UUID NOT NULL,
+    created_by_id UUID NOT NULL,
+    due_date TIMESTAMP,
+    completed_at TIMESTAMP,
+    estimated_hours INTEGER,
+    actual_hours INTEGER,
+    is_archived BOOLEAN NOT NULL DEFAULT false,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT DEFAULT 0
+);
+
+CREATE TABLE task_counters (
+    user_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    task_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, status)
+);
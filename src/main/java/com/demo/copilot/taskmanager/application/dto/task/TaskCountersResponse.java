@@ -0,0 +1,60 @@
+package com.demo.copilot.taskmanager.application.dto.task;
+
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for badge counters of the tasks assigned to a user.
+ */
+@Schema(description = "Task counters for the current user")
+public class TaskCountersResponse {
+
+    @Schema(description = "User the counters belong to", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID userId;
+
+    @Schema(description = "Number of assigned, non-archived tasks by status")
+    private Map<TaskStatus, Long> byStatus;
+
+    @Schema(description = "Number of assigned tasks that are still active", example = "12")
+    private long open;
+
+    // Default constructor
+    public TaskCountersResponse() {}
+
+    public TaskCountersResponse(UUID userId, Map<TaskStatus, Long> byStatus) {
+        this.userId = userId;
+        this.byStatus = byStatus;
+        this.open = byStatus.entrySet().stream()
+                .filter(entry -> entry.getKey().isActive())
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    // Getters and Setters
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public Map<TaskStatus, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<TaskStatus, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+
+    public long getOpen() {
+        return open;
+    }
+
+    public void setOpen(long open) {
+        this.open = open;
+    }
+}
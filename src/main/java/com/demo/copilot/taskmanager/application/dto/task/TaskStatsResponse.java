@@ -0,0 +1,114 @@
+package com.demo.copilot.taskmanager.application.dto.task;
+
+import com.demo.copilot.taskmanager.domain.valueobject.TaskPriority;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for dashboard task statistics.
+ */
+@Schema(description = "Aggregated task statistics for dashboards")
+public class TaskStatsResponse {
+
+    public enum Scope {
+        USER,
+        ORGANIZATION
+    }
+
+    @Schema(description = "Whether the counts cover the caller's tasks or the whole organization", example = "USER")
+    private Scope scope;
+
+    @Schema(description = "Total number of non-archived tasks", example = "42")
+    private long total;
+
+    @Schema(description = "Task counts by status")
+    private Map<TaskStatus, Long> byStatus;
+
+    @Schema(description = "Task counts by priority")
+    private Map<TaskPriority, Long> byPriority;
+
+    @Schema(description = "Tasks past their due date that are not completed", example = "3")
+    private long overdue;
+
+    @Schema(description = "Tasks due within the due-soon window that are not completed", example = "5")
+    private long dueSoon;
+
+    @Schema(description = "Size of the due-soon window in hours", example = "24")
+    private int dueSoonHours;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ssXXX")
+    @Schema(description = "When the statistics were computed", example = "2025-06-25T14:20:00+00:00")
+    private OffsetDateTime generatedAt;
+
+    // Default constructor
+    public TaskStatsResponse() {}
+
+    // Getters and Setters
+    public Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(Scope scope) {
+        this.scope = scope;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<TaskStatus, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<TaskStatus, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+
+    public Map<TaskPriority, Long> getByPriority() {
+        return byPriority;
+    }
+
+    public void setByPriority(Map<TaskPriority, Long> byPriority) {
+        this.byPriority = byPriority;
+    }
+
+    public long getOverdue() {
+        return overdue;
+    }
+
+    public void setOverdue(long overdue) {
+        this.overdue = overdue;
+    }
+
+    public long getDueSoon() {
+        return dueSoon;
+    }
+
+    public void setDueSoon(long dueSoon) {
+        this.dueSoon = dueSoon;
+    }
+
+    public int getDueSoonHours() {
+        return dueSoonHours;
+    }
+
+    public void setDueSoonHours(int dueSoonHours) {
+        this.dueSoonHours = dueSoonHours;
+    }
+
+    public OffsetDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(OffsetDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+}
@@ -18,6 +18,9 @@ public class TaskSummaryResponse {
     @Schema(description = "Task unique identifier", example = "550e8400-e29b-41d4-a716-446655440000")
     private UUID id;
 
+    @Schema(description = "Human-readable task key", example = "TM-10423")
+    private String taskKey;
+
     @Schema(description = "Task title", example = "Implement user authentication")
     private String title;
 
@@ -76,6 +79,14 @@ public class TaskSummaryResponse {
         this.id = id;
     }
 
+    public String getTaskKey() {
+        return taskKey;
+    }
+
+    public void setTaskKey(String taskKey) {
+        this.taskKey = taskKey;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -0,0 +1,87 @@
+package com.demo.copilot.taskmanager.application.event;
+
+import com.demo.copilot.taskmanager.domain.entity.Task;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskId;
+
+import java.util.Objects;
+
+/**
+ * Application event published by {@code TaskService} for every task mutation.
+ *
+ * Listeners that maintain derived state (search index, counters, schedulers)
+ * should subscribe with {@code @TransactionalEventListener} so they only see
+ * committed changes. The current state is captured lazily from the entity,
+ * which means it reflects the values written at flush time (including audit
+ * timestamps) when read after commit.
+ */
+public class TaskChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final TaskId taskId;
+    private final TaskSnapshot previous;
+    private final Task task;
+    private volatile TaskSnapshot current;
+
+    private TaskChangedEvent(Type type, TaskId taskId, TaskSnapshot previous, Task task) {
+        this.type = Objects.requireNonNull(type, "Event type cannot be null");
+        this.taskId = Objects.requireNonNull(taskId, "Task ID cannot be null");
+        this.previous = previous;
+        this.task = task;
+    }
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(Type.CREATED, task.getId(), null, task);
+    }
+
+    public static TaskChangedEvent updated(TaskSnapshot previous, Task task) {
+        return new TaskChangedEvent(Type.UPDATED, task.getId(), previous, task);
+    }
+
+    public static TaskChangedEvent deleted(TaskSnapshot previous) {
+        return new TaskChangedEvent(Type.DELETED, previous.getId(), previous, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public TaskId getTaskId() {
+        return taskId;
+    }
+
+    /**
+     * State before the change, or {@code null} for created tasks.
+     */
+    public TaskSnapshot getPrevious() {
+        return previous;
+    }
+
+    /**
+     * State after the change, or {@code null} for deleted tasks.
+     */
+    public TaskSnapshot getCurrent() {
+        if (task == null) {
+            return null;
+        }
+        TaskSnapshot snapshot = current;
+        if (snapshot == null) {
+            snapshot = TaskSnapshot.of(task);
+            current = snapshot;
+        }
+        return snapshot;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskChangedEvent{" +
+               "type=" + type +
+               ", taskId=" + taskId +
+               '}';
+    }
+}
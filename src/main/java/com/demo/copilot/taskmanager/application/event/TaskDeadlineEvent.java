@@ -0,0 +1,48 @@
+package com.demo.copilot.taskmanager.application.event;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Batch of tasks that crossed a deadline threshold at about the same time.
+ *
+ * Published by the due date scheduler when active tasks become due soon or
+ * overdue. Listeners doing non-trivial work (notifications, escalation)
+ * should hand it off asynchronously.
+ */
+public class TaskDeadlineEvent {
+
+    public enum Kind {
+        DUE_SOON,
+        OVERDUE
+    }
+
+    private final Kind kind;
+    private final List<UUID> taskIds;
+    private final Instant firedAt;
+
+    public TaskDeadlineEvent(Kind kind, List<UUID> taskIds, Instant firedAt) {
+        this.kind = Objects.requireNonNull(kind, "Kind cannot be null");
+        this.taskIds = List.copyOf(taskIds);
+        this.firedAt = Objects.requireNonNull(firedAt, "Fired at cannot be null");
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public List<UUID> getTaskIds() {
+        return taskIds;
+    }
+
+    public Instant getFiredAt() {
+        return firedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskDeadlineEvent{kind=" + kind + ", tasks=" + taskIds.size() + ", firedAt=" + firedAt + '}';
+    }
+}
@@ -0,0 +1,187 @@
+package com.demo.copilot.taskmanager.application.event;
+
+import com.demo.copilot.taskmanager.domain.entity.Task;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskCategory;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskId;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskPriority;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+import com.demo.copilot.taskmanager.domain.valueobject.UserId;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+/**
+ * Immutable copy of the task state at a point in time.
+ *
+ * Used by task change events so that listeners running after commit
+ * never observe a managed entity that is still being mutated.
+ */
+public final class TaskSnapshot {
+
+    private final TaskId id;
+    private final String taskKey;
+    private final String title;
+    private final String description;
+    private final TaskStatus status;
+    private final TaskPriority priority;
+    private final TaskCategory category;
+    private final UserId assignedTo;
+    private final UserId createdBy;
+    private final OffsetDateTime dueDate;
+    private final Boolean isArchived;
+    private final OffsetDateTime createdAt;
+    private final OffsetDateTime updatedAt;
+
+    private TaskSnapshot(Builder builder) {
+        this.id = Objects.requireNonNull(builder.id, "Task ID cannot be null");
+        this.taskKey = builder.taskKey;
+        this.title = builder.title;
+        this.description = builder.description;
+        this.status = builder.status;
+        this.priority = builder.priority;
+        this.category = builder.category;
+        this.assignedTo = builder.assignedTo;
+        this.createdBy = builder.createdBy;
+        this.dueDate = builder.dueDate;
+        this.isArchived = builder.isArchived;
+        this.createdAt = builder.createdAt;
+        this.updatedAt = builder.updatedAt;
+    }
+
+    /**
+     * Capture the current state of a task entity.
+     */
+    public static TaskSnapshot of(Task task) {
+        return new Builder()
+                .id(task.getId())
+                .taskKey(task.getTaskKey())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .category(task.getCategory())
+                .assignedTo(task.getAssignedTo())
+                .createdBy(task.getCreatedBy())
+                .dueDate(task.getDueDate())
+                .isArchived(task.getIsArchived())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .build();
+    }
+
+    public boolean isActive() {
+        return !Boolean.TRUE.equals(isArchived) && status != null && status.isActive();
+    }
+
+    // Getters
+    public TaskId getId() { return id; }
+    public String getTaskKey() { return taskKey; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public TaskStatus getStatus() { return status; }
+    public TaskPriority getPriority() { return priority; }
+    public TaskCategory getCategory() { return category; }
+    public UserId getAssignedTo() { return assignedTo; }
+    public UserId getCreatedBy() { return createdBy; }
+    public OffsetDateTime getDueDate() { return dueDate; }
+    public Boolean getIsArchived() { return isArchived; }
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+    public OffsetDateTime getUpdatedAt() { return updatedAt; }
+
+    @Override
+    public String toString() {
+        return "TaskSnapshot{" +
+               "id=" + id +
+               ", status=" + status +
+               ", priority=" + priority +
+               ", assignedTo=" + assignedTo +
+               ", dueDate=" + dueDate +
+               '}';
+    }
+
+    // Builder pattern
+    public static class Builder {
+        private TaskId id;
+        private String taskKey;
+        private String title;
+        private String description;
+        private TaskStatus status;
+        private TaskPriority priority;
+        private TaskCategory category;
+        private UserId assignedTo;
+        private UserId createdBy;
+        private OffsetDateTime dueDate;
+        private Boolean isArchived = false;
+        private OffsetDateTime createdAt;
+        private OffsetDateTime updatedAt;
+
+        public Builder id(TaskId id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder taskKey(String taskKey) {
+            this.taskKey = taskKey;
+            return this;
+        }
+
+        public Builder title(String title) {
+            this.title = title;
+            return this;
+        }
+
+        public Builder description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        public Builder status(TaskStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        public Builder priority(TaskPriority priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        public Builder category(TaskCategory category) {
+            this.category = category;
+            return this;
+        }
+
+        public Builder assignedTo(UserId assignedTo) {
+            this.assignedTo = assignedTo;
+            return this;
+        }
+
+        public Builder createdBy(UserId createdBy) {
+            this.createdBy = createdBy;
+            return this;
+        }
+
+        public Builder dueDate(OffsetDateTime dueDate) {
+            this.dueDate = dueDate;
+            return this;
+        }
+
+        public Builder isArchived(Boolean isArchived) {
+            this.isArchived = isArchived;
+            return this;
+        }
+
+        public Builder createdAt(OffsetDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder updatedAt(OffsetDateTime updatedAt) {
+            this.updatedAt = updatedAt;
+            return this;
+        }
+
+        public TaskSnapshot build() {
+            return new TaskSnapshot(this);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.demo.copilot.taskmanager.application.event;
+
+import com.demo.copilot.taskmanager.domain.valueobject.TaskPriority;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Published after a chunk of tasks had its priority raised by an escalation
+ * rule and the change has been committed.
+ *
+ * Escalations are applied with set-based statements and bypass the entity
+ * lifecycle, so derived state that depends on priority must refresh the
+ * listed tasks itself.
+ */
+public class TasksEscalatedEvent {
+
+    private final String ruleName;
+    private final TaskPriority from;
+    private final TaskPriority to;
+    private final List<UUID> taskIds;
+
+    public TasksEscalatedEvent(String ruleName, TaskPriority from, TaskPriority to, List<UUID> taskIds) {
+        this.ruleName = Objects.requireNonNull(ruleName, "Rule name cannot be null");
+        this.from = Objects.requireNonNull(from, "From priority cannot be null");
+        this.to = Objects.requireNonNull(to, "To priority cannot be null");
+        this.taskIds = List.copyOf(taskIds);
+    }
+
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    public TaskPriority getFrom() {
+        return from;
+    }
+
+    public TaskPriority getTo() {
+        return to;
+    }
+
+    public List<UUID> getTaskIds() {
+        return taskIds;
+    }
+}
@@ -0,0 +1,20 @@
+package com.demo.copilot.taskmanager.application.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a login attempt is refused because of too many recent failures.
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public LoginThrottledException(Duration retryAfter) {
+        super("Too many failed login attempts, please retry later");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -2,6 +2,7 @@ package com.demo.copilot.taskmanager.application.mapper;
 
 import com.demo.copilot.taskmanager.application.dto.task.TaskResponse;
 import com.demo.copilot.taskmanager.application.dto.task.TaskSummaryResponse;
+import com.demo.copilot.taskmanager.application.event.TaskSnapshot;
 import com.demo.copilot.taskmanager.domain.entity.Task;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -22,4 +23,9 @@ public interface TaskMapper {
     @Mapping(source = "assignedTo.value", target = "assignedTo")
     @Mapping(source = "createdBy.value", target = "createdBy")
     TaskSummaryResponse toSummaryResponse(Task task);
+
+    @Mapping(source = "id.value", target = "id")
+    @Mapping(source = "assignedTo.value", target = "assignedTo")
+    @Mapping(source = "createdBy.value", target = "createdBy")
+    TaskSummaryResponse toSummaryResponse(TaskSnapshot task);
 }
\ No newline at end of file
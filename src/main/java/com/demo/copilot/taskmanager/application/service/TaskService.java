@@ -1,24 +1,42 @@
 package com.demo.copilot.taskmanager.application.service;
 
 import com.demo.copilot.taskmanager.application.dto.task.CreateTaskRequest;
+import com.demo.copilot.taskmanager.application.dto.task.TaskCountersResponse;
 import com.demo.copilot.taskmanager.application.dto.task.TaskResponse;
+import com.demo.copilot.taskmanager.application.dto.task.TaskStatsResponse;
 import com.demo.copilot.taskmanager.application.dto.task.TaskSummaryResponse;
 import com.demo.copilot.taskmanager.application.dto.task.UpdateTaskRequest;
+import com.demo.copilot.taskmanager.application.event.TaskChangedEvent;
+import com.demo.copilot.taskmanager.application.event.TaskSnapshot;
 import com.demo.copilot.taskmanager.application.exception.TaskNotFoundException;
 import com.demo.copilot.taskmanager.application.mapper.TaskMapper;
 import com.demo.copilot.taskmanager.domain.entity.Task;
 import com.demo.copilot.taskmanager.domain.valueobject.TaskId;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskPriority;
 import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
 import com.demo.copilot.taskmanager.domain.valueobject.UserId;
+import com.demo.copilot.taskmanager.infrastructure.cache.TaskStatsCache;
+import com.demo.copilot.taskmanager.infrastructure.counter.TaskCounterStore;
+import com.demo.copilot.taskmanager.infrastructure.datasource.ConnectionPool;
+import com.demo.copilot.taskmanager.infrastructure.datasource.PoolType;
+import com.demo.copilot.taskmanager.infrastructure.sequence.TaskKeyAllocator;
 import com.demo.copilot.taskmanager.infrastructure.repository.TaskRepository;
+import com.demo.copilot.taskmanager.infrastructure.repository.TaskStatsView;
+import com.demo.copilot.taskmanager.infrastructure.search.TaskSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -33,10 +51,29 @@ public class TaskService {
 
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
+    private final TaskSearchIndex taskSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskStatsCache taskStatsCache;
+    private final TaskCounterStore taskCounterStore;
+    private final TaskKeyAllocator taskKeyAllocator;
 
-    public TaskService(TaskRepository taskRepository, TaskMapper taskMapper) {
+    @Value("${app.stats.due-soon-hours:24}")
+    private int dueSoonHours = 24;
+
+    public TaskService(TaskRepository taskRepository,
+                       TaskMapper taskMapper,
+                       TaskSearchIndex taskSearchIndex,
+                       ApplicationEventPublisher eventPublisher,
+                       TaskStatsCache taskStatsCache,
+                       TaskCounterStore taskCounterStore,
+                       TaskKeyAllocator taskKeyAllocator) {
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
+        this.taskSearchIndex = taskSearchIndex;
+        this.eventPublisher = eventPublisher;
+        this.taskStatsCache = taskStatsCache;
+        this.taskCounterStore = taskCounterStore;
+        this.taskKeyAllocator = taskKeyAllocator;
     }
 
     /**
@@ -49,6 +86,7 @@ public class TaskService {
         // Create task entity
         Task.Builder taskBuilder = new Task.Builder()
                 .id(TaskId.generate())
+                .taskKey(taskKeyAllocator.nextKey())
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .status(TaskStatus.TODO)
@@ -70,6 +108,7 @@ public class TaskService {
 
         // Save and return response
         Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(savedTask));
         return taskMapper.toResponse(savedTask);
     }
 
@@ -88,6 +127,25 @@ public class TaskService {
         return taskMapper.toResponse(task);
     }
 
+    /**
+     * Get task by its human-readable key, e.g. {@code TM-10423}.
+     * Same access rules as {@link #getTaskById(UUID)}.
+     */
+    @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'ADMIN')")
+    @Transactional(readOnly = true)
+    public TaskResponse getTaskByKey(String taskKey) {
+        if (!taskKeyAllocator.isKey(taskKey)) {
+            throw new IllegalArgumentException("Invalid task key format: " + taskKey);
+        }
+        Task task = taskRepository.findByTaskKey(taskKey)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with key: " + taskKey));
+
+        // Check access permissions
+        validateTaskAccess(task, "view");
+
+        return taskMapper.toResponse(task);
+    }
+
     /**
      * Get all tasks with pagination.
      * Users see only tasks they created or are assigned to, unless they are admin.
@@ -139,6 +197,7 @@ public class TaskService {
         
         // Check update permissions
         validateTaskAccess(task, "update");
+        TaskSnapshot previous = TaskSnapshot.of(task);
         
         // Update fields if provided
         if (request.getTitle() != null) {
@@ -160,6 +219,7 @@ public class TaskService {
         // In a full Clean Architecture, we'd have separate use cases
         
         Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(previous, savedTask));
         return taskMapper.toResponse(savedTask);
     }
 
@@ -175,6 +235,7 @@ public class TaskService {
         validateTaskAccess(task, "delete");
         
         taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(TaskSnapshot.of(task)));
     }
 
     /**
@@ -199,8 +260,85 @@ public class TaskService {
         return tasks.map(taskMapper::toSummaryResponse);
     }
 
+    /**
+     * Full-text search over task title, description and category.
+     * Applies the same visibility rules as {@link #getAllTasks(Pageable)}.
+     */
+    @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'ADMIN')")
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Page<TaskSummaryResponse> searchTasks(String query, Pageable pageable) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("Search query cannot be empty");
+        }
+        UserId scope = isAdmin() ? null : getCurrentUserId();
+        return taskSearchIndex.search(query, scope, pageable)
+                .map(taskMapper::toSummaryResponse);
+    }
+
+    /**
+     * Get dashboard statistics in a single grouped query.
+     * Admins see organization-wide counts, everyone else sees the tasks
+     * they created or are assigned to. Results are cached briefly per scope.
+     */
+    @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'ADMIN')")
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    @ConnectionPool(PoolType.REPORTING)
+    public TaskStatsResponse getTaskStatistics() {
+        if (isAdmin()) {
+            return taskStatsCache.get(TaskStatsCache.ORGANIZATION_SCOPE, () -> {
+                OffsetDateTime now = OffsetDateTime.now();
+                TaskStatsView view = taskRepository.computeStatsForOrganization(now, now.plusHours(dueSoonHours));
+                return toStatsResponse(view, TaskStatsResponse.Scope.ORGANIZATION, now);
+            });
+        }
+        UserId currentUserId = getCurrentUserId();
+        return taskStatsCache.get(TaskStatsCache.userScope(currentUserId), () -> {
+            OffsetDateTime now = OffsetDateTime.now();
+            TaskStatsView view = taskRepository.computeStatsForUser(
+                    currentUserId.getValue(), now, now.plusHours(dueSoonHours));
+            return toStatsResponse(view, TaskStatsResponse.Scope.USER, now);
+        });
+    }
+
+    /**
+     * Get badge counters for tasks assigned to the current user.
+     * Served from the incrementally maintained counter read model.
+     */
+    @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'ADMIN')")
+    @Transactional(readOnly = true)
+    public TaskCountersResponse getMyTaskCounters() {
+        UserId currentUserId = getCurrentUserId();
+        return new TaskCountersResponse(currentUserId.getValue(), taskCounterStore.getCounts(currentUserId));
+    }
+
     // Private helper methods
 
+    private TaskStatsResponse toStatsResponse(TaskStatsView view, TaskStatsResponse.Scope scope, OffsetDateTime now) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        byStatus.put(TaskStatus.TODO, view.getTodo());
+        byStatus.put(TaskStatus.IN_PROGRESS, view.getInProgress());
+        byStatus.put(TaskStatus.IN_REVIEW, view.getInReview());
+        byStatus.put(TaskStatus.COMPLETED, view.getCompleted());
+        byStatus.put(TaskStatus.CANCELLED, view.getCancelled());
+
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        byPriority.put(TaskPriority.LOW, view.getLowPriority());
+        byPriority.put(TaskPriority.MEDIUM, view.getMediumPriority());
+        byPriority.put(TaskPriority.HIGH, view.getHighPriority());
+        byPriority.put(TaskPriority.URGENT, view.getUrgentPriority());
+
+        TaskStatsResponse response = new TaskStatsResponse();
+        response.setScope(scope);
+        response.setTotal(view.getTotal());
+        response.setByStatus(byStatus);
+        response.setByPriority(byPriority);
+        response.setOverdue(view.getOverdue());
+        response.setDueSoon(view.getDueSoon());
+        response.setDueSoonHours(dueSoonHours);
+        response.setGeneratedAt(now);
+        return response;
+    }
+
     private Task findTaskById(TaskId taskId) {
         return taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException(taskId));
@@ -20,7 +20,8 @@ import java.util.Objects;
     @Index(name = "idx_task_created_by", columnList = "created_by_id"),
     @Index(name = "idx_task_status", columnList = "status"),
     @Index(name = "idx_task_priority", columnList = "priority"),
-    @Index(name = "idx_task_due_date", columnList = "due_date")
+    @Index(name = "idx_task_due_date", columnList = "due_date"),
+    @Index(name = "idx_task_key", columnList = "task_key", unique = true)
 })
 @EntityListeners(AuditingEntityListener.class)
 public class Task {
@@ -28,6 +29,9 @@ public class Task {
     @EmbeddedId
     private TaskId id;
 
+    @Column(name = "task_key", length = 32, updatable = false)
+    private String taskKey;
+
     @Column(name = "title", nullable = false, length = 200)
     private String title;
 
@@ -86,6 +90,7 @@ public class Task {
 
     private Task(Builder builder) {
         this.id = builder.id;
+        this.taskKey = builder.taskKey;
         this.title = builder.title;
         this.description = builder.description;
         this.status = builder.status;
@@ -185,6 +190,7 @@ public class Task {
 
     // Getters
     public TaskId getId() { return id; }
+    public String getTaskKey() { return taskKey; }
     public String getTitle() { return title; }
     public String getDescription() { return description; }
     public TaskStatus getStatus() { return status; }
@@ -229,6 +235,7 @@ public class Task {
     // Builder pattern
     public static class Builder {
         private TaskId id;
+        private String taskKey;
         private String title;
         private String description;
         private TaskStatus status = TaskStatus.TODO;
@@ -245,6 +252,11 @@ public class Task {
             return this;
         }
 
+        public Builder taskKey(String taskKey) {
+            this.taskKey = taskKey;
+            return this;
+        }
+
         public Builder title(String title) {
             this.title = title;
             return this;
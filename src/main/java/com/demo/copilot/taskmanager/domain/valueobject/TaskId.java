@@ -22,7 +22,7 @@ public class TaskId {
     }
 
     public static TaskId generate() {
-        return new TaskId(UUID.randomUUID());
+        return new TaskId(UuidGenerator.next());
     }
 
     public static TaskId of(UUID value) {
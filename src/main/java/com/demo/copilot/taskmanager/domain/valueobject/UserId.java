@@ -26,10 +26,10 @@ public class UserId {
     }
 
     /**
-     * Generate a new random User ID.
+     * Generate a new User ID using the configured {@link UuidGenerator} strategy.
      */
     public static UserId generate() {
-        return new UserId(UUID.randomUUID());
+        return new UserId(UuidGenerator.next());
     }
 
     /**
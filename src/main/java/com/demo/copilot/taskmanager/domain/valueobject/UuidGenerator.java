@@ -0,0 +1,84 @@
+package com.demo.copilot.taskmanager.domain.valueobject;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Source of new identifiers for {@link TaskId} and {@link UserId}.
+ *
+ * The default {@link Strategy#V7} produces RFC 9562 version 7 UUIDs: a 48-bit
+ * Unix millisecond timestamp, a 12-bit counter that keeps identifiers issued
+ * within the same millisecond monotonic, and 62 random bits. Time-ordered keys
+ * are appended to the right edge of primary key and secondary indexes instead
+ * of being scattered across them. The generator is lock-free and draws its
+ * randomness from {@link ThreadLocalRandom}, so it does not contend on a
+ * shared {@code SecureRandom} the way {@link UUID#randomUUID()} does.
+ *
+ * V7 identifiers reveal their creation time and are not meant to be
+ * unguessable; use {@link Strategy#RANDOM} if that matters.
+ */
+public final class UuidGenerator {
+
+    public enum Strategy {
+        RANDOM,
+        V7
+    }
+
+    private static final long COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long TIMESTAMP_MASK = (1L << 48) - 1;
+
+    // Last issued timestamp and counter packed as (millis << 12 | counter)
+    private static final AtomicLong lastTick = new AtomicLong();
+
+    private static volatile Strategy strategy = Strategy.V7;
+
+    private UuidGenerator() {}
+
+    /**
+     * Select the strategy used by subsequent calls to {@link #next()}.
+     */
+    public static void useStrategy(Strategy newStrategy) {
+        strategy = Objects.requireNonNull(newStrategy, "Strategy cannot be null");
+    }
+
+    public static Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Generate a new identifier with the configured strategy.
+     */
+    public static UUID next() {
+        return strategy == Strategy.V7 ? nextV7() : UUID.randomUUID();
+    }
+
+    /**
+     * Generate a version 7 UUID that sorts after every one previously issued
+     * by this JVM.
+     */
+    public static UUID nextV7() {
+        long tick = nextTick(System.currentTimeMillis());
+        long mostSigBits = ((tick >>> COUNTER_BITS) & TIMESTAMP_MASK) << 16
+                | 0x7000L
+                | (tick & COUNTER_MASK);
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL)
+                | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static long nextTick(long millis) {
+        long candidate = millis << COUNTER_BITS;
+        while (true) {
+            long previous = lastTick.get();
+            // A counter overflow carries into the timestamp, running the
+            // clock slightly ahead instead of breaking monotonicity
+            long next = Math.max(candidate, previous + 1);
+            if (lastTick.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+}
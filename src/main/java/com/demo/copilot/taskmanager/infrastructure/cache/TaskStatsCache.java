@@ -0,0 +1,80 @@
+package com.demo.copilot.taskmanager.infrastructure.cache;
+
+import com.demo.copilot.taskmanager.application.dto.task.TaskStatsResponse;
+import com.demo.copilot.taskmanager.infrastructure.diagnostics.ServiceOperationEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache for dashboard statistics keyed by scope.
+ *
+ * Scopes are either a single user or the whole organization. Entries expire
+ * after a few seconds, which is enough to absorb dashboard refresh bursts
+ * without serving noticeably stale counts.
+ *
+ * Size, hits, misses and evictions are published as the standard
+ * {@code cache.*} meters with {@code cache=taskStats}, next to a
+ * {@code taskmanager.cache.hit.ratio} gauge.
+ */
+@Component
+public class TaskStatsCache {
+
+    public static final String ORGANIZATION_SCOPE = "org";
+
+    static final String CACHE_NAME = "taskStats";
+
+    private final Cache<String, TaskStatsResponse> cache;
+
+    public TaskStatsCache(@Value("${app.stats.cache-ttl:15s}") Duration ttl,
+                          @Value("${app.stats.cache-max-entries:10000}") long maxEntries,
+                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("taskmanager.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of lookups served from the cache since startup")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cache key for a single user's statistics.
+     */
+    public static String userScope(Object userId) {
+        return "user:" + userId;
+    }
+
+    /**
+     * Return the cached statistics for a scope, computing them at most once
+     * per expiry window even under concurrent requests. The lookup is
+     * counted on the caller's {@link ServiceOperationEvent}.
+     */
+    public TaskStatsResponse get(String scope, Supplier<TaskStatsResponse> loader) {
+        boolean[] loaded = new boolean[1];
+        TaskStatsResponse stats = cache.get(scope, key -> {
+            loaded[0] = true;
+            return loader.get();
+        });
+        ServiceOperationEvent.recordCacheLookup(!loaded[0]);
+        return stats;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public Cache<String, TaskStatsResponse> getNativeCache() {
+        return cache;
+    }
+}
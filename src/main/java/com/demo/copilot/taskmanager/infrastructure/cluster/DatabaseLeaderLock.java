@@ -0,0 +1,102 @@
+package com.demo.copilot.taskmanager.infrastructure.cluster;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cluster-wide mutual exclusion for scheduled jobs backed by the database.
+ *
+ * On PostgreSQL a session-level advisory lock is taken on a dedicated
+ * connection that is held for the duration of the job, so the lock is
+ * released automatically if the node dies. That connection is opened outside
+ * the application's pools, so a job holding it does not take a connection
+ * away from the work it runs. Other databases (H2 in development and tests)
+ * only get the in-process lock, which is sufficient for a single node.
+ */
+@Component
+public class DatabaseLeaderLock {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseLeaderLock.class);
+
+    // "TSKM", keeps our advisory lock keys apart from other applications sharing the database
+    private static final long KEY_NAMESPACE = 0x54534B4DL << 32;
+
+    private final DataSource dataSource;
+    private final ConcurrentHashMap<String, ReentrantLock> localLocks = new ConcurrentHashMap<>();
+
+    @Autowired
+    public DatabaseLeaderLock(DataSourceProperties properties) {
+        this(properties.initializeDataSourceBuilder().type(SimpleDriverDataSource.class).build());
+    }
+
+    /**
+     * @param dataSource source of the connections that hold the locks; should
+     *                   not be a pool the guarded jobs also draw from
+     */
+    public DatabaseLeaderLock(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Run the action if this node can acquire the named lock without waiting.
+     *
+     * @return true if the action ran, false if another thread or node holds the lock
+     */
+    public boolean runIfLeader(String lockName, Runnable action) {
+        ReentrantLock localLock = localLocks.computeIfAbsent(lockName, name -> new ReentrantLock());
+        if (!localLock.tryLock()) {
+            return false;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            if (!isPostgres(connection)) {
+                action.run();
+                return true;
+            }
+            long key = lockKey(lockName);
+            if (!advisoryLock(connection, "SELECT pg_try_advisory_lock(?)", key)) {
+                log.debug("Lock {} is held by another node", lockName);
+                return false;
+            }
+            try {
+                action.run();
+                return true;
+            } finally {
+                advisoryLock(connection, "SELECT pg_advisory_unlock(?)", key);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Failed to acquire lock " + lockName, e);
+        } finally {
+            localLock.unlock();
+        }
+    }
+
+    static long lockKey(String lockName) {
+        return KEY_NAMESPACE | (lockName.hashCode() & 0xFFFFFFFFL);
+    }
+
+    private static boolean isPostgres(Connection connection) throws SQLException {
+        return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql, long key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
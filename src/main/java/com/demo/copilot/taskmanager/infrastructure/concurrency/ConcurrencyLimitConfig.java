@@ -0,0 +1,57 @@
+package com.demo.copilot.taskmanager.infrastructure.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * Puts the adaptive concurrency limiter in front of the task API, right
+ * behind the security filter chain.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public ConcurrencyLimiter taskApiConcurrencyLimiter(ConcurrencyLimitProperties properties,
+                                                        MeterRegistry meterRegistry) {
+        GradientLimit limit = new GradientLimit(properties.getInitialLimit(), properties.getMinLimit(),
+                properties.getMaxLimit(), properties.getSmoothing(), properties.getTolerance(),
+                properties.getLongWindow());
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(limit, Map.of(
+                RequestPriority.WRITE, 1.0,
+                RequestPriority.OWN_READ, properties.getOwnReadShare(),
+                RequestPriority.LISTING, properties.getListingShare()));
+
+        Gauge.builder("taskmanager.concurrency.limit", limiter, ConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit of the task API")
+                .register(meterRegistry);
+        Gauge.builder("taskmanager.concurrency.inflight", limiter, ConcurrencyLimiter::getInflight)
+                .description("Task API requests currently in flight")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ConcurrencyLimiter taskApiConcurrencyLimiter,
+                                                                                 ObjectMapper objectMapper,
+                                                                                 ConcurrencyLimitProperties properties,
+                                                                                 MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(taskApiConcurrencyLimiter, objectMapper,
+                        properties.getRetryAfter(), meterRegistry));
+        registration.addUrlPatterns("/tasks", "/tasks/*");
+        // Behind security so requests can be classified by role; unauthenticated ones never take a permit
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
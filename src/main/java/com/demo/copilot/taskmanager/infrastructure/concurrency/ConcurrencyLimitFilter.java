@@ -0,0 +1,119 @@
+package com.demo.copilot.taskmanager.infrastructure.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sheds task API requests that exceed the adaptive concurrency limit.
+ *
+ * Requests are classified by method, path and the caller's role, so the
+ * filter runs after authentication. Listings, search and statistics only
+ * span all tasks for admins; for everyone else they return the caller's own
+ * tasks and are admitted as own reads. Rejected requests get a 503 with a
+ * {@code Retry-After} header. Server errors count as overload signals for
+ * the limit.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+    private final Map<RequestPriority, Counter> rejected = new EnumMap<>(RequestPriority.class);
+
+    public ConcurrencyLimitFilter(ConcurrencyLimiter limiter, ObjectMapper objectMapper,
+                                  Duration retryAfter, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = Long.toString(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+        for (RequestPriority priority : RequestPriority.values()) {
+            rejected.put(priority, Counter.builder("taskmanager.concurrency.rejected")
+                    .description("Requests shed by the concurrency limiter")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        RequestPriority priority = classify(request);
+        Optional<ConcurrencyLimiter.Permit> permit = limiter.tryAcquire(priority);
+        if (permit.isEmpty()) {
+            rejected.get(priority).increment();
+            reject(request, response);
+            return;
+        }
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } finally {
+            permit.get().release(failed);
+        }
+    }
+
+    static RequestPriority classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return RequestPriority.WRITE;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !isAdmin(authentication)) {
+            return RequestPriority.OWN_READ;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String[] segments = path.split("/");
+        // segments[0] is empty, segments[1] is "tasks"
+        if (segments.length < 3) {
+            return RequestPriority.LISTING;
+        }
+        return switch (segments[2]) {
+            case "my", "key" -> RequestPriority.OWN_READ;
+            case "search", "stats" -> RequestPriority.LISTING;
+            default -> segments.length == 3 ? RequestPriority.OWN_READ : RequestPriority.LISTING;
+        };
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("timestamp", OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        errorResponse.put("status", HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", "Server is overloaded, please retry later");
+        errorResponse.put("path", request.getRequestURI());
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
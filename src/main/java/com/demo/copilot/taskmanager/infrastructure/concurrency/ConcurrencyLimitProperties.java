@@ -0,0 +1,117 @@
+package com.demo.copilot.taskmanager.infrastructure.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limit settings bound from {@code app.concurrency-limit}.
+ */
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    private int initialLimit = 20;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 200;
+
+    /** Weight of each new estimate, between 0 and 1. */
+    private double smoothing = 0.2;
+
+    /** How much slower than average a request may be before the limit shrinks. */
+    private double tolerance = 1.5;
+
+    /** Number of requests the long-term latency average spans. */
+    private int longWindow = 600;
+
+    /** Share of the limit the caller's own reads may fill. */
+    private double ownReadShare = 0.8;
+
+    /** Share of the limit listings, search and statistics may fill. */
+    private double listingShare = 0.5;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public int getLongWindow() {
+        return longWindow;
+    }
+
+    public void setLongWindow(int longWindow) {
+        this.longWindow = longWindow;
+    }
+
+    public double getOwnReadShare() {
+        return ownReadShare;
+    }
+
+    public void setOwnReadShare(double ownReadShare) {
+        this.ownReadShare = ownReadShare;
+    }
+
+    public double getListingShare() {
+        return listingShare;
+    }
+
+    public void setListingShare(double listingShare) {
+        this.listingShare = listingShare;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,87 @@
+package com.demo.copilot.taskmanager.infrastructure.concurrency;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admits requests while the number in flight is below an adaptive limit.
+ *
+ * Lower priorities may only fill a share of the limit, so when the limit
+ * shrinks listings are shed first, then the caller's own reads, and writes
+ * keep the remaining headroom. Rejected requests never wait: queueing them
+ * would only add latency to work that is already late.
+ */
+public class ConcurrencyLimiter {
+
+    private final GradientLimit limit;
+    private final Map<RequestPriority, Double> shares;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    /**
+     * @param limit  adaptive limit shared by all priorities
+     * @param shares fraction of the limit each priority may fill; missing priorities get all of it
+     */
+    public ConcurrencyLimiter(GradientLimit limit, Map<RequestPriority, Double> shares) {
+        this.limit = limit;
+        this.shares = new EnumMap<>(RequestPriority.class);
+        for (RequestPriority priority : RequestPriority.values()) {
+            this.shares.put(priority, Math.max(0.0, Math.min(1.0, shares.getOrDefault(priority, 1.0))));
+        }
+    }
+
+    /**
+     * Try to admit a request.
+     *
+     * @return a permit that must be released when the request completes, or
+     *         empty when the request should be rejected
+     */
+    public Optional<Permit> tryAcquire(RequestPriority priority) {
+        int allowed = Math.max(1, (int) (limit.getLimit() * shares.get(priority)));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return Optional.empty();
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(current + 1));
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * One admitted request.
+     */
+    public class Permit {
+
+        private final int inflightAtStart;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int inflightAtStart) {
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        /**
+         * Release the permit and feed the request's latency into the limit.
+         *
+         * @param dropped whether the request failed in a way that signals overload
+         */
+        public void release(boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                inflight.decrementAndGet();
+                limit.onSample(System.nanoTime() - startNanos, inflightAtStart, dropped);
+            }
+        }
+    }
+}
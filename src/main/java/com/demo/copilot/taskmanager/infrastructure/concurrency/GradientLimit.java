@@ -0,0 +1,91 @@
+package com.demo.copilot.taskmanager.infrastructure.concurrency;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that adapts to observed latency.
+ *
+ * Every completed request compares its round-trip time with a long-term
+ * average. While latency stays near the average the limit grows by a small
+ * queue allowance; once requests take longer the limit shrinks in proportion
+ * to the slowdown, but never by more than half per sample. Failed requests
+ * back the limit off multiplicatively. Samples taken while less than half of
+ * the limit is in use say nothing about capacity and are ignored.
+ */
+public class GradientLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double longRttFactor;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    /**
+     * @param initialLimit limit before any samples were taken
+     * @param minLimit     lower bound of the limit
+     * @param maxLimit     upper bound of the limit
+     * @param smoothing    weight of a new estimate, between 0 and 1
+     * @param tolerance    how much slower than average a request may be before the limit shrinks
+     * @param longWindow   number of samples the long-term average spans
+     */
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit,
+                         double smoothing, double tolerance, int longWindow) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limit bounds must satisfy 1 <= min <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.longRttFactor = 2.0 / (Math.max(1, longWindow) + 1);
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Feed one completed request into the estimate.
+     *
+     * @param rttNanos request duration
+     * @param inflight requests in flight when this one was admitted
+     * @param dropped  whether the request failed in a way that signals overload
+     * @return the new limit
+     */
+    public int onSample(long rttNanos, int inflight, boolean dropped) {
+        lock.lock();
+        try {
+            if (dropped) {
+                estimatedLimit *= BACKOFF_RATIO;
+            } else if (rttNanos > 0) {
+                double rtt = rttNanos;
+                longRttNanos = longRttNanos == 0 ? rtt : longRttNanos + longRttFactor * (rtt - longRttNanos);
+                // After a slow period the average lags behind; let it catch up quickly
+                if (longRttNanos / rtt > 2) {
+                    longRttNanos *= 0.95;
+                }
+                if (inflight < estimatedLimit / 2) {
+                    return limit;
+                }
+                double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / rtt));
+                double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+                estimatedLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+            }
+            estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+            limit = (int) estimatedLimit;
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.demo.copilot.taskmanager.infrastructure.concurrency;
+
+/**
+ * Admission classes for the task API, from most to least important.
+ */
+public enum RequestPriority {
+
+    /** Creates, updates and deletes. */
+    WRITE,
+
+    /** Single-task reads and the caller's own task lists. */
+    OWN_READ,
+
+    /** Listings, search and statistics across all tasks. */
+    LISTING
+}
@@ -0,0 +1,24 @@
+package com.demo.copilot.taskmanager.infrastructure.config;
+
+import com.demo.copilot.taskmanager.domain.valueobject.UuidGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Locale;
+
+/**
+ * Selects the identifier generation strategy from {@code app.ids.strategy}
+ * ({@code v7} or {@code random}).
+ */
+@Configuration
+public class IdGenerationConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGenerationConfig.class);
+
+    public IdGenerationConfig(@Value("${app.ids.strategy:v7}") String strategy) {
+        UuidGenerator.useStrategy(UuidGenerator.Strategy.valueOf(strategy.trim().toUpperCase(Locale.ROOT)));
+        log.info("Using {} identifier generation", UuidGenerator.getStrategy());
+    }
+}
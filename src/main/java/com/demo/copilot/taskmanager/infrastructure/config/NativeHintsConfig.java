@@ -0,0 +1,85 @@
+package com.demo.copilot.taskmanager.infrastructure.config;
+
+import com.demo.copilot.taskmanager.domain.valueobject.Email;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskId;
+import com.demo.copilot.taskmanager.domain.valueobject.UserId;
+import com.demo.copilot.taskmanager.infrastructure.counter.TaskCounterId;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reflection and resource hints for the GraalVM native image
+ * ({@code mvn -Pfast-start,native package}) that Spring AOT cannot infer.
+ *
+ * Hibernate proxies need no hints: the native profile enhances the entities
+ * at build time, so Hibernate never has to generate proxy classes at runtime.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.TaskManagerRuntimeHints.class)
+public class NativeHintsConfig {
+
+    /**
+     * Implementation classes JJWT's API module instantiates by name.
+     */
+    static final String[] JJWT_IMPLEMENTATIONS = {
+        "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+        "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+        "io.jsonwebtoken.impl.security.KeysBridge",
+        "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+        "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+        "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+        "io.jsonwebtoken.impl.security.StandardKeyOperations",
+        "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+        "io.jsonwebtoken.jackson.io.JacksonSerializer",
+        "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    };
+
+    static class TaskManagerRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Embeddables Hibernate instantiates through their protected no-arg constructors
+            for (Class<?> embeddable : new Class<?>[] {TaskId.class, UserId.class, Email.class, TaskCounterId.class}) {
+                hints.reflection().registerType(embeddable,
+                        MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+
+            // Mappers generated by MapStruct at compile time
+            for (String mapper : new String[] {
+                    "com.demo.copilot.taskmanager.application.mapper.TaskMapperImpl",
+                    "com.demo.copilot.taskmanager.application.mapper.UserMapperImpl"}) {
+                hints.reflection().registerType(TypeReference.of(mapper),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            for (String implementation : JJWT_IMPLEMENTATIONS) {
+                hints.reflection().registerType(TypeReference.of(implementation),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+            // JJWT finds its JSON serializer and compression codecs through ServiceLoader
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            // JDK proxies datasource-proxy creates around the JDBC objects for request timing
+            for (String jdbcType : new String[] {"javax.sql.DataSource", "java.sql.Connection", "java.sql.Statement",
+                    "java.sql.PreparedStatement", "java.sql.CallableStatement", "java.sql.ResultSet"}) {
+                hints.proxies().registerJdkProxy(
+                        TypeReference.of("net.ttddyy.dsproxy.proxy.ProxyJdbcObject"), TypeReference.of(jdbcType));
+            }
+
+            // Static OpenAPI spec served by OpenApiConfig in the fast-start profile
+            hints.resources().registerPattern("openapi/openapi.json");
+            hints.resources().registerPattern("META-INF/maven/org.webjars/swagger-ui/pom.properties");
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+        }
+    }
+}
@@ -6,15 +6,35 @@ import io.swagger.v3.oas.annotations.info.Contact;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import io.swagger.v3.oas.annotations.servers.Server;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+
+import static org.springframework.web.servlet.function.RouterFunctions.route;
 
 /**
  * OpenAPI 3.0 configuration for the Task Manager API.
- * 
+ *
  * This configuration sets up:
  * - API documentation metadata
  * - JWT Bearer authentication scheme
  * - Server information
+ * - Optionally, serving a spec generated at build time instead of springdoc
  */
 @Configuration
 @OpenAPIDefinition(
@@ -39,6 +59,79 @@ import org.springframework.context.annotation.Configuration;
     description = "JWT authentication via Bearer token. Obtain token from /api/auth/login endpoint."
 )
 public class OpenApiConfig {
-    // Configuration class - no additional beans needed
-    // The annotations above configure the OpenAPI documentation
-}
\ No newline at end of file
+
+    /**
+     * Serves a pre-generated spec from {@code app.openapi.static-spec} on the
+     * usual {@code /v3/api-docs}, {@code /swagger-ui.html} and
+     * {@code /swagger-ui/**} paths.
+     *
+     * Meant for the {@code fast-start} profile, which switches springdoc off:
+     * springdoc then creates no beans at startup and never scans controllers,
+     * and Swagger UI is served straight from its webjar.
+     */
+    @Configuration
+    @ConditionalOnProperty("app.openapi.static-spec")
+    static class StaticSpecConfiguration implements WebMvcConfigurer {
+
+        private static final String SWAGGER_UI_WEBJAR = "META-INF/resources/webjars/swagger-ui/";
+
+        private final byte[] spec;
+
+        StaticSpecConfiguration(@Value("${app.openapi.static-spec}") Resource specResource) {
+            try (InputStream in = specResource.getInputStream()) {
+                this.spec = in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read OpenAPI spec from " + specResource, e);
+            }
+        }
+
+        @Bean
+        public RouterFunction<ServerResponse> staticOpenApiRoutes() {
+            return route()
+                    .GET("/v3/api-docs", request -> ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(spec))
+                    .GET("/swagger-ui.html", request -> ServerResponse
+                            .status(302)
+                            .location(URI.create(contextPath(request) + "/swagger-ui/index.html"))
+                            .build())
+                    .GET("/swagger-ui/swagger-initializer.js", request -> ServerResponse.ok()
+                            .contentType(MediaType.valueOf("application/javascript"))
+                            .body(swaggerInitializer(contextPath(request) + "/v3/api-docs")))
+                    .build();
+        }
+
+        @Override
+        public void addResourceHandlers(ResourceHandlerRegistry registry) {
+            registry.addResourceHandler("/swagger-ui/**")
+                    .addResourceLocations("classpath:/" + SWAGGER_UI_WEBJAR + swaggerUiVersion() + "/");
+        }
+
+        private static String contextPath(ServerRequest request) {
+            return request.requestPath().contextPath().value();
+        }
+
+        private static String swaggerInitializer(String specUrl) {
+            return "window.onload = function() {\n" +
+                    "  window.ui = SwaggerUIBundle({\n" +
+                    "    url: \"" + specUrl + "\",\n" +
+                    "    dom_id: '#swagger-ui',\n" +
+                    "    deepLinking: true,\n" +
+                    "    presets: [SwaggerUIBundle.presets.apis, SwaggerUIStandalonePreset],\n" +
+                    "    plugins: [SwaggerUIBundle.plugins.DownloadUrl],\n" +
+                    "    layout: \"StandaloneLayout\"\n" +
+                    "  });\n" +
+                    "};\n";
+        }
+
+        private static String swaggerUiVersion() {
+            try {
+                return PropertiesLoaderUtils.loadProperties(
+                        new ClassPathResource("META-INF/maven/org.webjars/swagger-ui/pom.properties"))
+                        .getProperty("version");
+            } catch (IOException e) {
+                throw new UncheckedIOException("Swagger UI webjar not found on the classpath", e);
+            }
+        }
+    }
+}
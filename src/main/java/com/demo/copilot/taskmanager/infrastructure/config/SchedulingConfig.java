@@ -0,0 +1,12 @@
+package com.demo.copilot.taskmanager.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as counter flushing and rebuilds.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,36 @@
+package com.demo.copilot.taskmanager.infrastructure.counter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Read model row holding the number of non-archived tasks assigned to a user
+ * in a given status.
+ *
+ * Rows are written with set-based JDBC statements by {@link TaskCounterStore};
+ * the mapping exists for reads and so that Hibernate can create the table in
+ * profiles that do not run Flyway.
+ */
+@Entity
+@Table(name = "task_counters")
+public class TaskCounter {
+
+    @EmbeddedId
+    private TaskCounterId id;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    protected TaskCounter() {}
+
+    public TaskCounterId getId() { return id; }
+    public long getTaskCount() { return taskCount; }
+    public OffsetDateTime getUpdatedAt() { return updatedAt; }
+}
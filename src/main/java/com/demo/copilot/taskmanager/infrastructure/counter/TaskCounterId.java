@@ -0,0 +1,58 @@
+package com.demo.copilot.taskmanager.infrastructure.counter;
+
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Composite key of the task counter read model: one row per user and status.
+ */
+@Embeddable
+public class TaskCounterId implements Serializable {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private TaskStatus status;
+
+    protected TaskCounterId() {}
+
+    public TaskCounterId(UUID userId, TaskStatus status) {
+        this.userId = Objects.requireNonNull(userId, "User ID cannot be null");
+        this.status = Objects.requireNonNull(status, "Status cannot be null");
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TaskCounterId that = (TaskCounterId) o;
+        return Objects.equals(userId, that.userId) && status == that.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, status);
+    }
+
+    @Override
+    public String toString() {
+        return userId + "/" + status;
+    }
+}
@@ -0,0 +1,191 @@
+package com.demo.copilot.taskmanager.infrastructure.counter;
+
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+import com.demo.copilot.taskmanager.infrastructure.cluster.DatabaseLeaderLock;
+import com.demo.copilot.taskmanager.infrastructure.datasource.ConnectionPool;
+import com.demo.copilot.taskmanager.infrastructure.datasource.PoolType;
+import com.demo.copilot.taskmanager.infrastructure.datasource.PrimaryReadContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Nightly job that recomputes task counters from the tasks table and corrects drift.
+ *
+ * The ground truth and the stored counters are read from one repeatable-read
+ * snapshot on the primary while flushing is suspended, and this node's
+ * unflushed deltas are subtracted, so drift is {@code truth - stored - pending}. Deltas still
+ * queued on other nodes, or committed while the snapshot was taken, look
+ * like drift too but only for a moment; the drift is therefore measured
+ * twice, a few flush intervals apart, and only keys that drifted by the same
+ * amount both times are corrected.
+ *
+ * Corrections are added to the counters rather than overwriting them, so
+ * flushes from any node that land afterwards still count. They are written
+ * in parallel chunks on a fork-join pool, and the job runs on one node at a
+ * time under a {@link DatabaseLeaderLock}.
+ */
+@Component
+public class TaskCounterRebuildJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCounterRebuildJob.class);
+
+    private static final String TRUTH_SQL =
+            "SELECT assigned_to_id, status, COUNT(*) FROM tasks WHERE is_archived = false GROUP BY assigned_to_id, status";
+    private static final String STORED_SQL =
+            "SELECT user_id, status, task_count FROM task_counters";
+
+    private final TaskCounterStore taskCounterStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseLeaderLock leaderLock;
+    private final TransactionTemplate snapshotTransaction;
+    private final int parallelism;
+    private final int chunkSize;
+    private final long settleMillis;
+
+    public TaskCounterRebuildJob(TaskCounterStore taskCounterStore,
+                                 JdbcTemplate jdbcTemplate,
+                                 DatabaseLeaderLock leaderLock,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.counters.rebuild-parallelism:4}") int parallelism,
+                                 @Value("${app.counters.rebuild-chunk-size:1000}") int chunkSize,
+                                 @Value("${app.counters.rebuild-settle-ms:5000}") long settleMillis) {
+        this.taskCounterStore = taskCounterStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaderLock = leaderLock;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.parallelism = Math.max(1, parallelism);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.settleMillis = Math.max(0, settleMillis);
+    }
+
+    @Scheduled(cron = "${app.counters.rebuild-cron:0 30 3 * * *}")
+    @ConnectionPool(PoolType.REPORTING)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        int[] corrected = new int[1];
+        if (!leaderLock.runIfLeader("task-counter-rebuild", () -> corrected[0] = correctDrift())) {
+            log.debug("Task counter rebuild skipped, another node is running it");
+            return;
+        }
+        log.info("Task counter rebuild corrected {} counters in {} ms",
+                corrected[0], System.currentTimeMillis() - started);
+    }
+
+    private int correctDrift() {
+        Map<TaskCounterId, Long> first = measureDrift();
+        if (first.isEmpty()) {
+            return 0;
+        }
+        try {
+            Thread.sleep(settleMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+        Map<TaskCounterId, Long> second = measureDrift();
+
+        List<TaskCounterId> driftedKeys = new ArrayList<>();
+        List<Long> corrections = new ArrayList<>();
+        second.forEach((key, drift) -> {
+            if (drift.equals(first.get(key))) {
+                driftedKeys.add(key);
+                corrections.add(drift);
+            }
+        });
+        if (driftedKeys.isEmpty()) {
+            return 0;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new CorrectionTask(driftedKeys, corrections, 0, driftedKeys.size()));
+        } finally {
+            pool.shutdown();
+        }
+        return driftedKeys.size();
+    }
+
+    /**
+     * Amount to add to each stored counter to match the tasks table.
+     */
+    private Map<TaskCounterId, Long> measureDrift() {
+        Map<TaskCounterId, Long> truth = new HashMap<>();
+        Map<TaskCounterId, Long> stored = new HashMap<>();
+        Map<TaskCounterId, Long> pending = new HashMap<>();
+        taskCounterStore.withFlushingSuspended(() -> {
+            PrimaryReadContext.run(() -> snapshotTransaction.executeWithoutResult(status -> {
+                jdbcTemplate.query(TRUTH_SQL, rs -> {
+                    truth.put(new TaskCounterId(rs.getObject(1, UUID.class), TaskStatus.valueOf(rs.getString(2))),
+                            rs.getLong(3));
+                });
+                jdbcTemplate.query(STORED_SQL, rs -> {
+                    stored.put(new TaskCounterId(rs.getObject(1, UUID.class), TaskStatus.valueOf(rs.getString(2))),
+                            rs.getLong(3));
+                });
+            }));
+            pending.putAll(taskCounterStore.pendingDeltas());
+        });
+
+        Set<TaskCounterId> keys = new HashSet<>(truth.keySet());
+        keys.addAll(stored.keySet());
+        keys.addAll(pending.keySet());
+        Map<TaskCounterId, Long> drift = new HashMap<>();
+        for (TaskCounterId key : keys) {
+            long delta = truth.getOrDefault(key, 0L) - stored.getOrDefault(key, 0L) - pending.getOrDefault(key, 0L);
+            if (delta != 0) {
+                drift.put(key, delta);
+            }
+        }
+        return drift;
+    }
+
+    /**
+     * Splits the corrections until a chunk fits into one batched transaction.
+     * The chunks are writes and go to the write pool, so fork-join workers
+     * need no pool binding of their own.
+     */
+    private class CorrectionTask extends RecursiveAction {
+
+        private final List<TaskCounterId> keys;
+        private final List<Long> values;
+        private final int from;
+        private final int to;
+
+        CorrectionTask(List<TaskCounterId> keys, List<Long> values, int from, int to) {
+            this.keys = keys;
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                taskCounterStore.applyCorrections(keys.subList(from, to), values.subList(from, to));
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new CorrectionTask(keys, values, from, middle),
+                      new CorrectionTask(keys, values, middle, to));
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.demo.copilot.taskmanager.infrastructure.counter;
+
+import com.demo.copilot.taskmanager.application.event.TaskChangedEvent;
+import com.demo.copilot.taskmanager.application.event.TaskSnapshot;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+import com.demo.copilot.taskmanager.domain.valueobject.UserId;
+import com.demo.copilot.taskmanager.infrastructure.repository.TaskCounterRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Incrementally maintained per-user task counters.
+ *
+ * Committed {@link TaskChangedEvent}s are folded into striped in-memory
+ * {@link LongAdder} deltas keyed by assignee and status, so request threads
+ * never contend on a database row. A scheduled flush applies the accumulated
+ * deltas to the {@code task_counters} table as additive updates in one
+ * transaction, which keeps the table correct when several nodes flush
+ * independently; a failed flush is rolled back as a whole and its deltas are
+ * queued again, so nothing is applied twice. Reads combine the
+ * stored row with the not-yet-flushed delta and cost a primary key lookup
+ * regardless of how many tasks a user has.
+ *
+ * Pending deltas are flushed once more on shutdown. Deltas that are lost
+ * anyway (for example when a node dies between commit and flush) are
+ * corrected by {@link TaskCounterRebuildJob}.
+ */
+@Component
+public class TaskCounterStore {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCounterStore.class);
+
+    static final String INCREMENT_SQL =
+            "UPDATE task_counters SET task_count = task_count + ?, updated_at = ? WHERE user_id = ? AND status = ?";
+    static final String INSERT_SQL =
+            "INSERT INTO task_counters (task_count, updated_at, user_id, status) VALUES (?, ?, ?, ?)";
+
+    private final TaskCounterRepository taskCounterRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTransaction;
+    private final ConcurrentHashMap<TaskCounterId, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public TaskCounterStore(TaskCounterRepository taskCounterRepository, JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager) {
+        this.taskCounterRepository = taskCounterRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Fold a committed task change into the pending deltas.
+     */
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskCounterId before = counterKey(event.getPrevious());
+        TaskCounterId after = counterKey(event.getCurrent());
+        if (before != null && before.equals(after)) {
+            return;
+        }
+        if (before != null) {
+            pending.computeIfAbsent(before, key -> new LongAdder()).decrement();
+        }
+        if (after != null) {
+            pending.computeIfAbsent(after, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Current counters of a user by status, including unflushed deltas.
+     */
+    public Map<TaskStatus, Long> getCounts(UserId userId) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (TaskCounter counter : taskCounterRepository.findByIdUserId(userId.getValue())) {
+            counts.put(counter.getId().getStatus(), counter.getTaskCount());
+        }
+        for (TaskStatus status : TaskStatus.values()) {
+            LongAdder delta = pending.get(new TaskCounterId(userId.getValue(), status));
+            if (delta != null) {
+                counts.merge(status, delta.sum(), Long::sum);
+            }
+        }
+        counts.replaceAll((status, count) -> Math.max(0L, count));
+        return counts;
+    }
+
+    /**
+     * Apply accumulated deltas to the counter table.
+     */
+    @Scheduled(fixedDelayString = "${app.counters.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            drainPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Flush what is left on shutdown, waiting for a scheduled flush that is
+     * still running. The data source outlives this bean, so the write can
+     * still go through.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flushLock.lock();
+        try {
+            drainPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Run an action with flushing suspended, after draining everything pending.
+     * Used by the rebuild job so that between its snapshot and its read of
+     * {@link #pendingDeltas()} no delta moves from memory into the table.
+     */
+    void withFlushingSuspended(Runnable action) {
+        flushLock.lock();
+        try {
+            drainPending();
+            action.run();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Deltas of this node that are not yet in the counter table.
+     */
+    Map<TaskCounterId, Long> pendingDeltas() {
+        Map<TaskCounterId, Long> deltas = new HashMap<>();
+        pending.forEach((key, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                deltas.put(key, delta);
+            }
+        });
+        return deltas;
+    }
+
+    private void drainPending() {
+        List<TaskCounterId> keys = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        pending.forEach((key, adder) -> {
+            // sum() followed by add(-sum) is exact: increments racing with the
+            // read stay in the adder for the next flush instead of being lost
+            long delta = adder.sum();
+            if (delta != 0) {
+                adder.add(-delta);
+                keys.add(key);
+                deltas.add(delta);
+            }
+        });
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            // A row inserted concurrently by another node fails the whole
+            // transaction; the deltas are re-queued and the next flush updates it
+            writeTransaction.executeWithoutResult(status -> writeIncrements(keys, deltas));
+        } catch (DataAccessException e) {
+            log.warn("Task counter flush failed, retrying next cycle: {}", e.getMessage());
+            for (int i = 0; i < keys.size(); i++) {
+                pending.computeIfAbsent(keys.get(i), key -> new LongAdder()).add(deltas.get(i));
+            }
+        }
+    }
+
+    /**
+     * Add corrections to the stored counters in one transaction.
+     *
+     * An insert that collides with a row another node created in the meantime
+     * aborts the transaction (PostgreSQL accepts no further statements in it),
+     * so the chunk is retried once in a new transaction, where the row exists
+     * and is updated instead.
+     */
+    void applyCorrections(List<TaskCounterId> keys, List<Long> deltas) {
+        try {
+            writeTransaction.executeWithoutResult(status -> writeIncrements(keys, deltas));
+        } catch (DuplicateKeyException e) {
+            writeTransaction.executeWithoutResult(status -> writeIncrements(keys, deltas));
+        }
+    }
+
+    private void writeIncrements(List<TaskCounterId> keys, List<Long> deltas) {
+        Timestamp now = Timestamp.from(OffsetDateTime.now().toInstant());
+        int[] updated = jdbcTemplate.batchUpdate(INCREMENT_SQL, rows(keys, deltas, now));
+        List<Object[]> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(row(keys.get(i), deltas.get(i), now));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, missing);
+        }
+    }
+
+    private static List<Object[]> rows(List<TaskCounterId> keys, List<Long> values, Timestamp now) {
+        List<Object[]> rows = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            rows.add(row(keys.get(i), values.get(i), now));
+        }
+        return rows;
+    }
+
+    private static Object[] row(TaskCounterId key, long value, Timestamp now) {
+        return new Object[] { value, now, key.getUserId(), key.getStatus().name() };
+    }
+
+    private static TaskCounterId counterKey(TaskSnapshot task) {
+        if (task == null || Boolean.TRUE.equals(task.getIsArchived())
+                || task.getAssignedTo() == null || task.getStatus() == null) {
+            return null;
+        }
+        return new TaskCounterId(task.getAssignedTo().getValue(), task.getStatus());
+    }
+}
@@ -0,0 +1,23 @@
+package com.demo.copilot.taskmanager.infrastructure.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Bind the read-only transactions of a method, or of every method of a
+ * class, to a connection pool.
+ *
+ * Without this annotation read-only transactions use
+ * {@link PoolType#INTERACTIVE_READ}. Read-write transactions and
+ * non-transactional work always use {@link PoolType#WRITE}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConnectionPool {
+
+    PoolType value();
+}
@@ -0,0 +1,41 @@
+package com.demo.copilot.taskmanager.infrastructure.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@link ConnectionPool} bindings.
+ *
+ * Ordered ahead of the transaction interceptor so the pool is selected before
+ * the transaction asks for its connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConnectionPoolAspect {
+
+    @Around("@annotation(com.demo.copilot.taskmanager.infrastructure.datasource.ConnectionPool) || " +
+            "@within(com.demo.copilot.taskmanager.infrastructure.datasource.ConnectionPool)")
+    public Object bindPool(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        ConnectionPool binding = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), ConnectionPool.class);
+        if (binding == null) {
+            binding = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), ConnectionPool.class);
+        }
+        if (binding == null) {
+            return joinPoint.proceed();
+        }
+        PoolType previous = ConnectionPoolContext.bind(binding.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ConnectionPoolContext.restore(previous);
+        }
+    }
+}
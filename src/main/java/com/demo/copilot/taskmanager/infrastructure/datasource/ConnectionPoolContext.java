@@ -0,0 +1,57 @@
+package com.demo.copilot.taskmanager.infrastructure.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds the connection pool explicitly selected for the current thread.
+ * Only read-only transactions honour it; see {@link PoolRoutingDataSource}.
+ */
+public final class ConnectionPoolContext {
+
+    private static final ThreadLocal<PoolType> CURRENT = new ThreadLocal<>();
+
+    private ConnectionPoolContext() {}
+
+    /**
+     * The explicitly selected pool, or null to choose by transaction type.
+     */
+    public static PoolType current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Run an action with read-only connections taken from the given pool.
+     */
+    public static <T> T call(PoolType pool, Supplier<T> action) {
+        PoolType previous = bind(pool);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Run an action with read-only connections taken from the given pool.
+     */
+    public static void run(PoolType pool, Runnable action) {
+        call(pool, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    static PoolType bind(PoolType pool) {
+        PoolType previous = CURRENT.get();
+        CURRENT.set(pool);
+        return previous;
+    }
+
+    static void restore(PoolType previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
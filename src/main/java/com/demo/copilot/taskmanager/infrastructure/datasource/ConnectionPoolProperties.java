@@ -0,0 +1,116 @@
+package com.demo.copilot.taskmanager.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Per-workload connection pool settings bound from {@code app.datasource.pools}.
+ *
+ * Settings not listed here (idle timeout, max lifetime, ...) are inherited
+ * from {@code spring.datasource.hikari}.
+ */
+@ConfigurationProperties(prefix = "app.datasource.pools")
+public class ConnectionPoolProperties {
+
+    private boolean enabled;
+
+    private Pool write = new Pool(10, Duration.ofSeconds(5), Duration.ZERO);
+
+    private Pool interactiveRead = new Pool(10, Duration.ofSeconds(2), Duration.ofSeconds(5));
+
+    private Pool reporting = new Pool(3, Duration.ofSeconds(30), Duration.ofMinutes(2));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Pool getWrite() {
+        return write;
+    }
+
+    public void setWrite(Pool write) {
+        this.write = write;
+    }
+
+    public Pool getInteractiveRead() {
+        return interactiveRead;
+    }
+
+    public void setInteractiveRead(Pool interactiveRead) {
+        this.interactiveRead = interactiveRead;
+    }
+
+    public Pool getReporting() {
+        return reporting;
+    }
+
+    public void setReporting(Pool reporting) {
+        this.reporting = reporting;
+    }
+
+    public Pool get(PoolType type) {
+        return switch (type) {
+            case WRITE -> write;
+            case INTERACTIVE_READ -> interactiveRead;
+            case REPORTING -> reporting;
+        };
+    }
+
+    public static class Pool {
+
+        private int maximumPoolSize;
+
+        private int minimumIdle = 1;
+
+        /** How long a caller waits for a connection before failing. */
+        private Duration connectionTimeout;
+
+        /** Server-side limit for a single statement; zero disables it. */
+        private Duration statementTimeout;
+
+        public Pool() {}
+
+        Pool(int maximumPoolSize, Duration connectionTimeout, Duration statementTimeout) {
+            this.maximumPoolSize = maximumPoolSize;
+            this.connectionTimeout = connectionTimeout;
+            this.statementTimeout = statementTimeout;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+
+        public int getMinimumIdle() {
+            return minimumIdle;
+        }
+
+        public void setMinimumIdle(int minimumIdle) {
+            this.minimumIdle = minimumIdle;
+        }
+
+        public Duration getConnectionTimeout() {
+            return connectionTimeout;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+        }
+
+        public Duration getStatementTimeout() {
+            return statementTimeout;
+        }
+
+        public void setStatementTimeout(Duration statementTimeout) {
+            this.statementTimeout = statementTimeout;
+        }
+    }
+}
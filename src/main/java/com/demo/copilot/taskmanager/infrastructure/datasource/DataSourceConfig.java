@@ -0,0 +1,183 @@
+package com.demo.copilot.taskmanager.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured DataSource when bulkheaded pools
+ * ({@code app.datasource.pools}) or replica routing
+ * ({@code app.datasource.routing}) are enabled.
+ *
+ * The primary database is reached either through one pool built from
+ * {@code spring.datasource} or through separate write, interactive-read and
+ * reporting pools. With routing enabled, read-only transactions are sent to
+ * replicas in front of that. The exposed DataSource is a lazy proxy so the
+ * physical connection is only chosen once the transaction's read-only flag
+ * and pool binding are known.
+ */
+@Configuration
+@ConditionalOnExpression("${app.datasource.pools.enabled:false} or ${app.datasource.routing.enabled:false}")
+@EnableConfigurationProperties({ConnectionPoolProperties.class, ReplicaRoutingProperties.class})
+public class DataSourceConfig {
+
+    /**
+     * Common Hikari settings every pool starts from.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariConfig hikariTemplate(DataSourceProperties properties) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(properties.determineUrl());
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+        config.setDriverClassName(properties.determineDriverClassName());
+        return config;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ManagedPools managedPools(HikariConfig hikariTemplate,
+                                     ConnectionPoolProperties pools,
+                                     ReplicaRoutingProperties routing,
+                                     MeterRegistry meterRegistry) {
+        ManagedPools managed = new ManagedPools();
+        DataSource primary;
+        if (pools.isEnabled()) {
+            Map<PoolType, HikariDataSource> byType = new EnumMap<>(PoolType.class);
+            for (PoolType type : PoolType.values()) {
+                byType.put(type, managed.add(createPool(hikariTemplate, poolName(type), pools.get(type), meterRegistry)));
+            }
+            primary = new PoolRoutingDataSource(byType);
+        } else {
+            HikariConfig config = new HikariConfig();
+            hikariTemplate.copyStateTo(config);
+            config.setPoolName("primary");
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            primary = managed.add(new HikariDataSource(config));
+        }
+
+        if (!routing.isEnabled()) {
+            managed.target = primary;
+            return managed;
+        }
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < routing.getReplicas().size(); i++) {
+            ReplicaRoutingProperties.Replica replica = routing.getReplicas().get(i);
+            HikariConfig config = new HikariConfig();
+            hikariTemplate.copyStateTo(config);
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(replica.getUrl());
+            if (replica.getUsername() != null) {
+                config.setUsername(replica.getUsername());
+            }
+            if (replica.getPassword() != null) {
+                config.setPassword(replica.getPassword());
+            }
+            config.setMaximumPoolSize(routing.getReplicaPoolSize());
+            config.setMinimumIdle(Math.min(config.getMinimumIdle(), routing.getReplicaPoolSize()));
+            config.setConnectionTimeout(routing.getReplicaConnectionTimeout().toMillis());
+            config.setReadOnly(true);
+            // Do not fail startup if a replica is down; it is probed again later
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(config.getPoolName(), managed.add(new HikariDataSource(config)));
+        }
+        ReplicaRoutingDataSource replicaRouting = new ReplicaRoutingDataSource(primary, replicas,
+                new ReadYourWritesTracker(routing.getStickinessWindow()),
+                routing.getMaxReplicaLag(), routing.getHealthCheckInterval());
+        managed.closeables.add(0, replicaRouting);
+        managed.target = replicaRouting;
+        return managed;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ManagedPools managedPools) {
+        return new LazyConnectionDataSourceProxy(managedPools.target);
+    }
+
+    private static HikariDataSource createPool(HikariConfig template, String name,
+                                               ConnectionPoolProperties.Pool settings,
+                                               MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        template.copyStateTo(config);
+        config.setPoolName(name);
+        config.setMaximumPoolSize(settings.getMaximumPoolSize());
+        config.setMinimumIdle(Math.min(settings.getMinimumIdle(), settings.getMaximumPoolSize()));
+        config.setConnectionTimeout(settings.getConnectionTimeout().toMillis());
+        String timeoutSql = statementTimeoutSql(config.getJdbcUrl(), settings.getStatementTimeout());
+        if (timeoutSql != null) {
+            config.setConnectionInitSql(timeoutSql);
+        }
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        HikariDataSource dataSource = new HikariDataSource(config);
+
+        // Share of the pool in use; sustained values near 1 mean callers queue for connections
+        Gauge.builder("taskmanager.db.pool.saturation", dataSource,
+                        pool -> pool.getHikariPoolMXBean() == null ? 0.0
+                                : (double) pool.getHikariPoolMXBean().getActiveConnections() / pool.getMaximumPoolSize())
+                .tag("pool", name)
+                .description("Active connections divided by maximum pool size")
+                .register(meterRegistry);
+        return dataSource;
+    }
+
+    static String statementTimeoutSql(String jdbcUrl, Duration timeout) {
+        if (timeout == null || timeout.isZero() || jdbcUrl == null) {
+            return null;
+        }
+        if (jdbcUrl.startsWith("jdbc:postgresql:")) {
+            return "SET statement_timeout = " + timeout.toMillis();
+        }
+        if (jdbcUrl.startsWith("jdbc:h2:")) {
+            return "SET QUERY_TIMEOUT " + timeout.toMillis();
+        }
+        return null;
+    }
+
+    private static String poolName(PoolType type) {
+        return type.name().toLowerCase().replace('_', '-');
+    }
+
+    /**
+     * Owns the pools and routers behind the exposed DataSource so they are
+     * closed with the application context.
+     */
+    public static class ManagedPools implements Closeable {
+
+        private final List<Closeable> closeables = new ArrayList<>();
+        private DataSource target;
+
+        private HikariDataSource add(HikariDataSource dataSource) {
+            closeables.add(dataSource);
+            return dataSource;
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (Closeable closeable : closeables) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.demo.copilot.taskmanager.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Routes connection requests to the pool of the current workload.
+ *
+ * Read-only transactions use the pool bound in {@link ConnectionPoolContext},
+ * or the interactive read pool when none was bound. Everything else uses the
+ * write pool, even inside a binding, so writes issued from a reporting job
+ * never queue behind its scans. Like any routing DataSource it must sit
+ * behind a lazy connection proxy to see the transaction's read-only flag.
+ */
+public class PoolRoutingDataSource extends AbstractRoutingDataSource {
+
+    public PoolRoutingDataSource(Map<PoolType, ? extends DataSource> pools) {
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(pools.get(PoolType.WRITE));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected PoolType determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PoolType.WRITE;
+        }
+        PoolType bound = ConnectionPoolContext.current();
+        return bound != null ? bound : PoolType.INTERACTIVE_READ;
+    }
+}
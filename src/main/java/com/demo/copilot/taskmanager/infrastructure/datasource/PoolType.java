@@ -0,0 +1,16 @@
+package com.demo.copilot.taskmanager.infrastructure.datasource;
+
+/**
+ * Connection pools that isolate workloads from each other.
+ */
+public enum PoolType {
+
+    /** Short OLTP transactions that modify data. */
+    WRITE,
+
+    /** Latency-sensitive reads serving interactive requests. */
+    INTERACTIVE_READ,
+
+    /** Long-running aggregations, exports and background scans. */
+    REPORTING
+}
@@ -0,0 +1,52 @@
+package com.demo.copilot.taskmanager.infrastructure.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks work on the current thread whose reads must see the latest committed
+ * data, so {@link ReplicaRoutingDataSource} keeps them on the primary.
+ *
+ * Meant for background work without a principal, which read-your-writes
+ * stickiness cannot cover, such as refreshing derived state right after a
+ * write or comparing stored state with in-memory state.
+ */
+public final class PrimaryReadContext {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReadContext() {}
+
+    /**
+     * Whether reads on the current thread must go to the primary.
+     */
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+
+    /**
+     * Run an action with all of its reads on the primary.
+     */
+    public static <T> T call(Supplier<T> action) {
+        Boolean previous = ACTIVE.get();
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                ACTIVE.remove();
+            } else {
+                ACTIVE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Run an action with all of its reads on the primary.
+     */
+    public static void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package com.demo.copilot.taskmanager.infrastructure.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Remembers which principals committed a write recently so their reads stay
+ * on the primary until replicas have had time to catch up.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration stickinessWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickinessWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * Record a committed write by the current principal, if any.
+     */
+    public void recordWrite() {
+        String principal = currentPrincipal();
+        if (principal != null) {
+            recentWriters.put(principal, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Whether the current principal wrote within the stickiness window.
+     */
+    public boolean isSticky() {
+        String principal = currentPrincipal();
+        return principal != null && recentWriters.getIfPresent(principal) != null;
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,235 @@
+package com.demo.copilot.taskmanager.infrastructure.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource that sends read-only transactions to replicas and everything
+ * else to the primary.
+ *
+ * The decision is made when a connection is requested, so this must sit
+ * behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * to see the read-only flag of the transaction being started. Reads go to the
+ * primary instead of a replica when:
+ * <ul>
+ *   <li>the current principal committed a write within the stickiness window,</li>
+ *   <li>the work runs inside {@link PrimaryReadContext},</li>
+ *   <li>every replica is lagging more than the allowed maximum or unreachable,</li>
+ *   <li>or the chosen replica fails to hand out a connection.</li>
+ * </ul>
+ * A replica that fails to hand out a connection is taken out of rotation at
+ * once and only returns when the background probe of health and lag
+ * succeeds again, so reads do not keep waiting on an unreachable replica.
+ * A pool that is merely exhausted, timing out without any failed connection
+ * attempt behind it, only sends that one request to the primary.
+ * Replica pools should use a short connection timeout, which bounds both that
+ * first failed read and each probe.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final String POSTGRES_LAG_SQL =
+            "SELECT CASE WHEN pg_is_in_recovery() " +
+            "THEN COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) " +
+            "ELSE 0 END";
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReadYourWritesTracker readYourWrites;
+    private final long maxLagMillis;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final Object writeMarker = new Object();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    Map<String, DataSource> replicas,
+                                    ReadYourWritesTracker readYourWrites,
+                                    Duration maxReplicaLag,
+                                    Duration healthCheckInterval) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.readYourWrites = readYourWrites;
+        this.maxLagMillis = maxReplicaLag.toMillis();
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checkReplicas();
+        long intervalMillis = healthCheckInterval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = selectReplica();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                onConnectionFailure(replica, e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Replica replica = selectReplica();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection(username, password);
+            } catch (SQLException e) {
+                onConnectionFailure(replica, e);
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Probe every replica for reachability and replication lag.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                long lagMillis = 0;
+                if ("PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+                    try (ResultSet resultSet = statement.executeQuery(POSTGRES_LAG_SQL)) {
+                        lagMillis = resultSet.next() ? resultSet.getLong(1) : 0;
+                    }
+                } else if (!connection.isValid(1)) {
+                    throw new SQLException("Connection is not valid");
+                }
+                replica.update(lagMillis, lagMillis <= maxLagMillis);
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+    }
+
+    /**
+     * Names of replicas currently eligible for reads.
+     */
+    public List<String> getHealthyReplicas() {
+        return replicas.stream().filter(replica -> replica.healthy).map(replica -> replica.name).toList();
+    }
+
+    /**
+     * Stop health checks and close the replica pools. The primary is owned by the caller.
+     */
+    @Override
+    public void close() throws IOException {
+        healthChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static void onConnectionFailure(Replica replica, SQLException e) {
+        if (isPoolExhausted(e)) {
+            log.debug("Replica {} pool exhausted, reading from the primary: {}", replica.name, e.getMessage());
+        } else {
+            replica.markDown(e);
+        }
+    }
+
+    /**
+     * Hikari reports a timeout as {@link SQLTransientConnectionException} and
+     * attaches the last connection failure as the cause when there was one.
+     */
+    private static boolean isPoolExhausted(SQLException e) {
+        return e instanceof SQLTransientConnectionException && e.getCause() == null;
+    }
+
+    private Replica selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return null;
+        }
+        if (replicas.isEmpty() || PrimaryReadContext.isActive() || readYourWrites.isSticky()) {
+            return null;
+        }
+        int start = Math.floorMod(cursor.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Make the current principal sticky to the primary once the read-write
+     * transaction that is acquiring a connection commits.
+     */
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(writeMarker)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(writeMarker, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(writeMarker);
+            }
+        });
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        void update(long lagMillis, boolean healthy) {
+            if (this.healthy != healthy) {
+                log.warn("Replica {} is now {} (lag {} ms)", name, healthy ? "in rotation" : "out of rotation", lagMillis);
+            }
+            this.healthy = healthy;
+        }
+
+        void markDown(SQLException e) {
+            if (healthy) {
+                log.warn("Replica {} is unavailable, routing reads to the primary: {}", name, e.getMessage());
+            }
+            healthy = false;
+        }
+    }
+}
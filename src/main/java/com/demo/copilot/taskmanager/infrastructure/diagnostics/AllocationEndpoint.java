@@ -0,0 +1,34 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/allocations}: the routes whose sampled requests
+ * allocated the most bytes. {@code DELETE} starts a new measurement window.
+ */
+@Endpoint(id = "allocations")
+public class AllocationEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final AllocationStats stats;
+
+    public AllocationEndpoint(AllocationStats stats) {
+        this.stats = stats;
+    }
+
+    @ReadOperation
+    public List<AllocationStats.Summary> top(@Nullable Integer limit) {
+        return stats.top(limit == null ? DEFAULT_LIMIT : limit);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        stats.reset();
+    }
+}
@@ -0,0 +1,96 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bytes allocated per route by sampled requests since startup or the last
+ * {@link #reset()}.
+ *
+ * The number of routes is capped; once full, unseen routes are folded into
+ * a single {@link #OTHER} entry so memory stays bounded.
+ */
+public class AllocationStats {
+
+    public static final String OTHER = "(other)";
+
+    private final int maxRoutes;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public AllocationStats(int maxRoutes) {
+        this.maxRoutes = maxRoutes;
+    }
+
+    public void record(String route, long bytes) {
+        Entry entry = entries.get(route);
+        if (entry == null) {
+            String key = entries.size() < maxRoutes ? route : OTHER;
+            entry = entries.computeIfAbsent(key, k -> new Entry());
+        }
+        entry.count.increment();
+        entry.bytes.add(bytes);
+        entry.maxBytes.accumulateAndGet(bytes, Math::max);
+    }
+
+    /**
+     * The routes with the most bytes allocated in total, which is what
+     * drives collection frequency.
+     */
+    public List<Summary> top(int limit) {
+        return entries.entrySet().stream()
+                .map(e -> new Summary(e.getKey(), e.getValue().count.sum(), e.getValue().bytes.sum(),
+                        e.getValue().maxBytes.get()))
+                .sorted(Comparator.comparingLong(Summary::getTotalBytes).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        entries.clear();
+    }
+
+    private static class Entry {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final AtomicLong maxBytes = new AtomicLong();
+    }
+
+    public static class Summary {
+
+        private final String route;
+        private final long count;
+        private final long totalBytes;
+        private final long maxBytes;
+
+        Summary(String route, long count, long totalBytes, long maxBytes) {
+            this.route = route;
+            this.count = count;
+            this.totalBytes = totalBytes;
+            this.maxBytes = maxBytes;
+        }
+
+        public String getRoute() {
+            return route;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalBytes() {
+            return totalBytes;
+        }
+
+        public long getMeanBytes() {
+            return count == 0 ? 0 : totalBytes / count;
+        }
+
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Per-request allocation accounting: the measuring filter and the
+ * {@code allocations} actuator endpoint.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.allocation-tracking.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(AllocationTrackingProperties.class)
+public class AllocationTrackingConfig {
+
+    @Bean
+    public AllocationStats allocationStats(AllocationTrackingProperties properties) {
+        return new AllocationStats(properties.getMaxRoutes());
+    }
+
+    @Bean
+    public FilterRegistrationBean<AllocationTrackingFilter> allocationTrackingFilter(
+            AllocationTrackingProperties properties, MeterRegistry meterRegistry, AllocationStats allocationStats) {
+        FilterRegistrationBean<AllocationTrackingFilter> registration = new FilterRegistrationBean<>(
+                new AllocationTrackingFilter(properties, meterRegistry, allocationStats));
+        // Just inside the request timing filter, so security and load shedding are included
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public AllocationEndpoint allocationEndpoint(AllocationStats allocationStats) {
+        return new AllocationEndpoint(allocationStats);
+    }
+}
@@ -0,0 +1,124 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the bytes each sampled request allocates on its thread, from
+ * the JVM's per-thread allocation counter, and records them per route in
+ * the {@code taskmanager.request.allocation} distribution summary and in
+ * {@link AllocationStats}.
+ *
+ * Tags stay bounded: methods outside the standard set are recorded as
+ * {@code UNKNOWN}, and once {@code max-routes} summaries exist, new routes
+ * share a single {@link AllocationStats#OTHER} summary.
+ *
+ * Work the request hands to other threads is not included. Reading the
+ * counter is cheap, but it is unsupported for virtual threads and on some
+ * JVMs; such requests are simply not measured.
+ */
+public class AllocationTrackingFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "taskmanager.request.allocation";
+    static final String UNKNOWN_ROUTE = "UNKNOWN";
+    static final String UNKNOWN_METHOD = "UNKNOWN";
+
+    private static final Set<String> STANDARD_METHODS = Arrays.stream(HttpMethod.values())
+            .map(HttpMethod::name)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private static final Logger log = LoggerFactory.getLogger(AllocationTrackingFilter.class);
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final MeterRegistry meterRegistry;
+    private final AllocationStats stats;
+    private final double sampleRate;
+    private final int maxRoutes;
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public AllocationTrackingFilter(AllocationTrackingProperties properties, MeterRegistry meterRegistry,
+                                    AllocationStats stats) {
+        this.threads = allocationCounter();
+        this.meterRegistry = meterRegistry;
+        this.stats = stats;
+        this.sampleRate = properties.getSampleRate();
+        this.maxRoutes = properties.getMaxRoutes();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (threads == null || (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long after = threads.getCurrentThreadAllocatedBytes();
+            if (before >= 0 && after >= before) {
+                record(request, after - before);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, long bytes) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String method = STANDARD_METHODS.contains(request.getMethod()) ? request.getMethod() : UNKNOWN_METHOD;
+        String uri = pattern == null ? UNKNOWN_ROUTE : pattern.toString();
+        String route = method + " " + uri;
+        DistributionSummary summary = summaries.get(route);
+        if (summary == null) {
+            summary = summaries.size() < maxRoutes
+                    ? summaries.computeIfAbsent(route, r -> summary(method, uri))
+                    : summaries.computeIfAbsent(AllocationStats.OTHER, r -> summary(UNKNOWN_METHOD, AllocationStats.OTHER));
+        }
+        summary.record(bytes);
+        stats.record(route, bytes);
+    }
+
+    private DistributionSummary summary(String method, String uri) {
+        return DistributionSummary.builder(METRIC_NAME)
+                .description("Bytes allocated on the request thread")
+                .baseUnit("bytes")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1024.0)
+                .maximumExpectedValue(1024.0 * 1024 * 1024)
+                .register(meterRegistry);
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            if (!threads.isThreadAllocatedMemoryEnabled()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+            }
+            return threads;
+        }
+        log.warn("Per-thread allocation counting is not supported by this JVM; request allocations are not tracked");
+        return null;
+    }
+}
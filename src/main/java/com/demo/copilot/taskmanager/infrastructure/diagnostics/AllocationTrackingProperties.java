@@ -0,0 +1,43 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-request allocation accounting settings bound from
+ * {@code app.allocation-tracking}.
+ */
+@ConfigurationProperties(prefix = "app.allocation-tracking")
+public class AllocationTrackingProperties {
+
+    private boolean enabled = true;
+
+    /** Share of requests measured, between 0 and 1. */
+    private double sampleRate = 1.0;
+
+    /** Distinct routes tracked by the endpoint and the metric; further ones are counted as "other". */
+    private int maxRoutes = 500;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public int getMaxRoutes() {
+        return maxRoutes;
+    }
+
+    public void setMaxRoutes(int maxRoutes) {
+        this.maxRoutes = maxRoutes;
+    }
+}
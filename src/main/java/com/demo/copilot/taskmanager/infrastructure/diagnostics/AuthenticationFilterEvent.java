@@ -0,0 +1,40 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for bearer token authentication of one request: token parsing,
+ * the user lookup and validation.
+ */
+@Name(AuthenticationFilterEvent.NAME)
+@Label("Token Authentication")
+@Category({"Task Manager", "Security"})
+@Description("Bearer token authentication of a request")
+@StackTrace(false)
+public class AuthenticationFilterEvent extends Event {
+
+    public static final String NAME = "com.demo.copilot.taskmanager.TokenAuthentication";
+
+    @Label("Method")
+    String method;
+
+    @Label("Path")
+    String path;
+
+    @Label("Outcome")
+    String outcome;
+
+    public void setRequest(String method, String path) {
+        this.method = method;
+        this.path = path;
+    }
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+}
@@ -0,0 +1,38 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Adds the time spent obtaining a connection from the pool to the current
+ * request's {@link RequestTimings}.
+ */
+public class ConnectionWaitDataSource extends DelegatingDataSource {
+
+    public ConnectionWaitDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long started = System.nanoTime();
+        try {
+            return super.getConnection();
+        } finally {
+            RequestTimings.recordConnectionWait(System.nanoTime() - started);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long started = System.nanoTime();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            RequestTimings.recordConnectionWait(System.nanoTime() - started);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * On-demand JFR recordings through the {@code flightrecorder} actuator
+ * endpoint, and the in-process stream of slow task manager operations that
+ * backs its list of slowest operations.
+ *
+ * The events themselves are always compiled in; with neither a recording
+ * nor the stream enabling them, emitting one costs an enabled check.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.flight-recorder.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(FlightRecorderProperties.class)
+public class FlightRecorderConfig {
+
+    @Bean
+    public SlowOperationTracker slowOperationTracker(FlightRecorderProperties properties) {
+        return new SlowOperationTracker(properties.getSlowOperations(), properties.getSlowWindow());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.flight-recorder.stream-enabled", havingValue = "true", matchIfMissing = true)
+    public SlowOperationStream slowOperationStream(SlowOperationTracker slowOperationTracker,
+                                                   FlightRecorderProperties properties) {
+        return new SlowOperationStream(slowOperationTracker, properties.getSlowThreshold());
+    }
+
+    @Bean
+    public FlightRecorderEndpoint flightRecorderEndpoint(FlightRecorderProperties properties,
+                                                         SlowOperationTracker slowOperationTracker) {
+        return new FlightRecorderEndpoint(properties, slowOperationTracker);
+    }
+}
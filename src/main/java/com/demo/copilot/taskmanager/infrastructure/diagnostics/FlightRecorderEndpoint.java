@@ -0,0 +1,179 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * {@code /actuator/flightrecorder}: on-demand JFR recordings and the
+ * slowest recent operations.
+ *
+ * {@code POST} starts a recording with the JDK's low-overhead settings plus
+ * the task manager events, bounded by duration and size, which writes
+ * itself to {@code app.flight-recorder.directory} when it ends.
+ * {@code DELETE} ends it early. Only one recording runs at a time.
+ */
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final FlightRecorderProperties properties;
+    private final SlowOperationTracker tracker;
+    private Recording recording;
+    private Path destination;
+
+    public FlightRecorderEndpoint(FlightRecorderProperties properties, SlowOperationTracker tracker) {
+        this.properties = properties;
+        this.tracker = tracker;
+    }
+
+    @ReadOperation
+    public synchronized Status status(@Nullable Integer limit) {
+        return new Status(describe(), tracker.top(limit == null ? DEFAULT_LIMIT : limit));
+    }
+
+    @WriteOperation
+    public synchronized RecordingInfo start(@Nullable Duration duration, @Nullable String settings)
+            throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return describe();
+        }
+        close();
+        Duration length = duration == null ? properties.getDefaultDuration() : duration;
+        if (length.compareTo(properties.getMaxDuration()) > 0) {
+            length = properties.getMaxDuration();
+        }
+        String settingsName = settings == null ? properties.getSettings() : settings;
+        if (Configuration.getConfigurations().stream().noneMatch(c -> c.getName().equals(settingsName))) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settingsName);
+        }
+        Configuration configuration = Configuration.getConfiguration(settingsName);
+        Files.createDirectories(properties.getDirectory());
+        Instant now = Instant.now();
+        Path file = properties.getDirectory().resolve("taskmanager-" + FILE_TIMESTAMP.format(now) + ".jfr");
+
+        Recording started = new Recording(configuration);
+        started.setName("taskmanager-on-demand");
+        started.enable(ServiceOperationEvent.class).withThreshold(Duration.ZERO);
+        started.enable(JwtOperationEvent.class).withThreshold(Duration.ZERO);
+        started.enable(AuthenticationFilterEvent.class).withThreshold(Duration.ZERO);
+        started.setToDisk(true);
+        started.setDuration(length);
+        started.setMaxSize(properties.getMaxSize().toBytes());
+        started.setDestination(file);
+        started.start();
+        recording = started;
+        destination = file;
+        return describe();
+    }
+
+    /**
+     * End the current recording early; it is written to its file as if it
+     * had run its full duration.
+     */
+    @DeleteOperation
+    public synchronized RecordingInfo stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        RecordingInfo info = describe();
+        close();
+        return info;
+    }
+
+    private RecordingInfo describe() {
+        if (recording == null) {
+            return null;
+        }
+        return new RecordingInfo(recording.getName(), recording.getState().name(), recording.getStartTime(),
+                recording.getDuration(), recording.getMaxSize(), destination.toString());
+    }
+
+    private void close() {
+        if (recording != null && recording.getState() != RecordingState.RUNNING) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    public static class Status {
+
+        private final RecordingInfo recording;
+        private final List<SlowOperationTracker.SlowOperation> slowest;
+
+        Status(RecordingInfo recording, List<SlowOperationTracker.SlowOperation> slowest) {
+            this.recording = recording;
+            this.slowest = slowest;
+        }
+
+        public RecordingInfo getRecording() {
+            return recording;
+        }
+
+        public List<SlowOperationTracker.SlowOperation> getSlowest() {
+            return slowest;
+        }
+    }
+
+    public static class RecordingInfo {
+
+        private final String name;
+        private final String state;
+        private final Instant startTime;
+        private final Duration duration;
+        private final long maxSizeBytes;
+        private final String file;
+
+        RecordingInfo(String name, String state, Instant startTime, Duration duration, long maxSizeBytes,
+                      String file) {
+            this.name = name;
+            this.state = state;
+            this.startTime = startTime;
+            this.duration = duration;
+            this.maxSizeBytes = maxSizeBytes;
+            this.file = file;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getState() {
+            return state;
+        }
+
+        public Instant getStartTime() {
+            return startTime;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+
+        public long getMaxSizeBytes() {
+            return maxSizeBytes;
+        }
+
+        public String getFile() {
+            return file;
+        }
+    }
+}
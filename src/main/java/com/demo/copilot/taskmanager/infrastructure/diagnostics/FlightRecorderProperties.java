@@ -0,0 +1,124 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * On-demand JFR recording and slow-operation streaming settings bound from
+ * {@code app.flight-recorder}.
+ */
+@ConfigurationProperties(prefix = "app.flight-recorder")
+public class FlightRecorderProperties {
+
+    private boolean enabled = true;
+
+    /** JFR settings used when a start request names none: "default" or "profile". */
+    private String settings = "default";
+
+    /** Length of a recording started without an explicit duration. */
+    private Duration defaultDuration = Duration.ofMinutes(1);
+
+    /** Upper bound on the duration a start request may ask for. */
+    private Duration maxDuration = Duration.ofMinutes(10);
+
+    /** Disk space a recording may use before its oldest data is dropped. */
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+
+    /** Where finished recordings are written. */
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "taskmanager-jfr");
+
+    /** Stream task manager events in-process to track the slowest operations. */
+    private boolean streamEnabled = true;
+
+    /** Operations faster than this are not streamed, which keeps the always-on cost low. */
+    private Duration slowThreshold = Duration.ofMillis(10);
+
+    /** Slowest operations kept. */
+    private int slowOperations = 20;
+
+    /** How far back the slowest operations reach. */
+    private Duration slowWindow = Duration.ofMinutes(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getSettings() {
+        return settings;
+    }
+
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    public Duration getDefaultDuration() {
+        return defaultDuration;
+    }
+
+    public void setDefaultDuration(Duration defaultDuration) {
+        this.defaultDuration = defaultDuration;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public boolean isStreamEnabled() {
+        return streamEnabled;
+    }
+
+    public void setStreamEnabled(boolean streamEnabled) {
+        this.streamEnabled = streamEnabled;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+
+    public int getSlowOperations() {
+        return slowOperations;
+    }
+
+    public void setSlowOperations(int slowOperations) {
+        this.slowOperations = slowOperations;
+    }
+
+    public Duration getSlowWindow() {
+        return slowWindow;
+    }
+
+    public void setSlowWindow(Duration slowWindow) {
+        this.slowWindow = slowWindow;
+    }
+}
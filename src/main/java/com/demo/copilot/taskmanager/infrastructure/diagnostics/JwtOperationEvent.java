@@ -0,0 +1,38 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for signing or parsing a JWT. Carries no token content or
+ * subject, only what was done and how it ended.
+ */
+@Name(JwtOperationEvent.NAME)
+@Label("JWT Operation")
+@Category({"Task Manager", "Security"})
+@Description("JWT signing, parsing or validation")
+@StackTrace(false)
+public class JwtOperationEvent extends Event {
+
+    public static final String NAME = "com.demo.copilot.taskmanager.JwtOperation";
+
+    public static final String SUCCESS = "success";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    String outcome = SUCCESS;
+
+    public JwtOperationEvent(String operation) {
+        this.operation = operation;
+    }
+
+    public void failed(Exception cause) {
+        this.outcome = cause.getClass().getSimpleName();
+    }
+}
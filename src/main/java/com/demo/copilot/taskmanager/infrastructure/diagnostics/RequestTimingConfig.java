@@ -0,0 +1,83 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL and time budget: JDBC statement and connection timing on
+ * the primary DataSource, JSON serialization timing, the reporting filter
+ * and the {@code sqlfingerprints} actuator endpoint.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.request-timing.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(RequestTimingProperties.class)
+public class RequestTimingConfig {
+
+    @Bean
+    public SqlFingerprintStats sqlFingerprintStats(RequestTimingProperties properties) {
+        return new SqlFingerprintStats(properties.getMaxFingerprints());
+    }
+
+    /**
+     * Wraps the primary DataSource, whether auto-configured or built by
+     * {@code DataSourceConfig}. Connection wait is measured inside a
+     * {@link LazyConnectionDataSourceProxy}, where the pool is actually
+     * asked for a connection. Another proxy already around the bean, such
+     * as the query counter in tests, is wrapped rather than skipped.
+     */
+    @Bean
+    public static BeanPostProcessor requestTimingDataSourcePostProcessor(ObjectProvider<SqlFingerprintStats> stats) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                DataSource target;
+                if (dataSource instanceof LazyConnectionDataSourceProxy lazy) {
+                    lazy.setTargetDataSource(new ConnectionWaitDataSource(lazy.getTargetDataSource()));
+                    target = lazy;
+                } else {
+                    target = new ConnectionWaitDataSource(dataSource);
+                }
+                return ProxyDataSourceBuilder.create(beanName, target)
+                        .listener(new SqlTimingListener(stats.getObject()))
+                        .build();
+            }
+        };
+    }
+
+    /**
+     * Replaces the auto-configured Jackson converter, which backs off when
+     * one is defined.
+     */
+    @Bean
+    public TimedJacksonHttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(RequestTimingProperties properties) {
+        FilterRegistrationBean<RequestTimingFilter> registration =
+                new FilterRegistrationBean<>(new RequestTimingFilter(properties));
+        // Outermost, so the total covers load shedding and authentication too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public SqlFingerprintEndpoint sqlFingerprintEndpoint(SqlFingerprintStats sqlFingerprintStats) {
+        return new SqlFingerprintEndpoint(sqlFingerprintStats);
+    }
+}
@@ -0,0 +1,129 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.logstash.logback.marker.Markers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Opens a {@link RequestTimings} for each request and reports it.
+ *
+ * Requests carrying the configured debug token in {@code X-Debug-Timing}
+ * get a {@code Server-Timing} header. Their body is buffered so the header
+ * can still be set once serialization time is known; other requests are
+ * not buffered. Requests slower than the threshold are logged, sampled, with
+ * the breakdown and their slowest statement fingerprints as structured
+ * fields of the JSON log line.
+ */
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    static final String DEBUG_HEADER = "X-Debug-Timing";
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final Logger log = LoggerFactory.getLogger(RequestTimingFilter.class);
+
+    private final RequestTimingProperties properties;
+    private final byte[] debugToken;
+    private final long slowThresholdNanos;
+
+    public RequestTimingFilter(RequestTimingProperties properties) {
+        this.properties = properties;
+        this.debugToken = properties.getDebugToken() == null || properties.getDebugToken().isBlank()
+                ? null : properties.getDebugToken().getBytes(StandardCharsets.UTF_8);
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        boolean debug = isDebugRequest(request);
+        ContentCachingResponseWrapper buffered = debug ? new ContentCachingResponseWrapper(response) : null;
+        long started = System.nanoTime();
+        RequestTimings timings = RequestTimings.begin();
+        try {
+            filterChain.doFilter(request, debug ? buffered : response);
+        } finally {
+            RequestTimings.end();
+            long totalNanos = System.nanoTime() - started;
+            if (debug) {
+                buffered.setHeader(SERVER_TIMING_HEADER, serverTiming(timings, totalNanos));
+                buffered.copyBodyToResponse();
+            }
+            if (totalNanos >= slowThresholdNanos
+                    && ThreadLocalRandom.current().nextDouble() < properties.getSlowLogSampleRate()) {
+                logSlowRequest(request, response, timings, totalNanos);
+            }
+        }
+    }
+
+    private boolean isDebugRequest(HttpServletRequest request) {
+        String header = request.getHeader(DEBUG_HEADER);
+        return debugToken != null && header != null
+                && MessageDigest.isEqual(debugToken, header.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String serverTiming(RequestTimings timings, long totalNanos) {
+        return metric("db", timings.getSqlNanos(), timings.getStatements() + " statements")
+                + ", " + metric("conn", timings.getConnectionWaitNanos(), timings.getConnections() + " connections")
+                + ", " + metric("auth", timings.getAuthenticationNanos(), "token authentication")
+                + ", " + metric("app", timings.getServiceNanos(), "services, including db")
+                + ", " + metric("ser", timings.getSerializationNanos(), "JSON serialization")
+                + ", " + metric("total", totalNanos, null);
+    }
+
+    private static String metric(String name, long nanos, String description) {
+        String metric = name + ";dur=" + String.format(Locale.ROOT, "%.2f", nanos / 1e6);
+        return description == null ? metric : metric + ";desc=\"" + description + "\"";
+    }
+
+    private void logSlowRequest(HttpServletRequest request, HttpServletResponse response,
+                                RequestTimings timings, long totalNanos) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("event", "slow_request");
+        entry.put("method", request.getMethod());
+        entry.put("route", request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        entry.put("path", request.getRequestURI());
+        entry.put("status", response.getStatus());
+        entry.put("total_ms", millis(totalNanos));
+        entry.put("db_ms", millis(timings.getSqlNanos()));
+        entry.put("statements", timings.getStatements());
+        entry.put("connection_wait_ms", millis(timings.getConnectionWaitNanos()));
+        entry.put("auth_ms", millis(timings.getAuthenticationNanos()));
+        entry.put("service_ms", millis(timings.getServiceNanos()));
+        entry.put("serialization_ms", millis(timings.getSerializationNanos()));
+        List<Map<String, Object>> top = new ArrayList<>();
+        for (RequestTimings.FingerprintTiming statement : timings.topStatements(properties.getSlowLogStatements())) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("fingerprint", statement.getFingerprint());
+            item.put("count", statement.getCount());
+            item.put("ms", millis(statement.getNanos()));
+            top.add(item);
+        }
+        entry.put("top_statements", top);
+        log.warn(Markers.appendEntries(entry), "Slow request {} {} took {} ms ({} statements, {} ms in SQL)",
+                request.getMethod(), request.getRequestURI(), millis(totalNanos),
+                timings.getStatements(), millis(timings.getSqlNanos()));
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1e4) / 100.0;
+    }
+}
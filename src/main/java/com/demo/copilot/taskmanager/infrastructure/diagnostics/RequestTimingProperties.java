@@ -0,0 +1,80 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Per-request time budget settings bound from {@code app.request-timing}.
+ */
+@ConfigurationProperties(prefix = "app.request-timing")
+public class RequestTimingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Requests carrying this value in {@code X-Debug-Timing} get a
+     * {@code Server-Timing} header; blank disables the header.
+     */
+    private String debugToken = "";
+
+    /** Requests slower than this are candidates for the slow-request log. */
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    /** Share of slow requests that are logged, between 0 and 1. */
+    private double slowLogSampleRate = 1.0;
+
+    /** Fingerprints listed per slow request, slowest first. */
+    private int slowLogStatements = 5;
+
+    /** Distinct SQL fingerprints tracked; further ones are counted as "other". */
+    private int maxFingerprints = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDebugToken() {
+        return debugToken;
+    }
+
+    public void setDebugToken(String debugToken) {
+        this.debugToken = debugToken;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+
+    public double getSlowLogSampleRate() {
+        return slowLogSampleRate;
+    }
+
+    public void setSlowLogSampleRate(double slowLogSampleRate) {
+        this.slowLogSampleRate = slowLogSampleRate;
+    }
+
+    public int getSlowLogStatements() {
+        return slowLogStatements;
+    }
+
+    public void setSlowLogStatements(int slowLogStatements) {
+        this.slowLogStatements = slowLogStatements;
+    }
+
+    public int getMaxFingerprints() {
+        return maxFingerprints;
+    }
+
+    public void setMaxFingerprints(int maxFingerprints) {
+        this.maxFingerprints = maxFingerprints;
+    }
+}
@@ -0,0 +1,164 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Where the current request spent its time: SQL statements, waiting for a
+ * connection, token authentication, application services and response
+ * serialization.
+ *
+ * {@link RequestTimingFilter} opens one per request on the request thread;
+ * the {@code record*} methods are no-ops on threads without one, so
+ * scheduled jobs and async work cost nothing beyond a thread-local lookup.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long sqlNanos;
+    private int connections;
+    private long connectionWaitNanos;
+    private long authenticationNanos;
+    private int serviceDepth;
+    private long serviceNanos;
+    private long serializationNanos;
+    private final Map<String, long[]> byFingerprint = new HashMap<>();
+
+    RequestTimings() {}
+
+    static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static void recordStatement(String fingerprint, long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.statements++;
+            timings.sqlNanos += nanos;
+            long[] entry = timings.byFingerprint.computeIfAbsent(fingerprint, k -> new long[2]);
+            entry[0]++;
+            entry[1] += nanos;
+        }
+    }
+
+    public static void recordConnectionWait(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.connections++;
+            timings.connectionWaitNanos += nanos;
+        }
+    }
+
+    public static void recordAuthentication(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.authenticationNanos += nanos;
+        }
+    }
+
+    /**
+     * Mark entry into a service method.
+     *
+     * @return whether this is the outermost service call of the request,
+     *         to be passed back to {@link #exitService(boolean, long)}
+     */
+    public static boolean enterService() {
+        RequestTimings timings = CURRENT.get();
+        return timings != null && timings.serviceDepth++ == 0;
+    }
+
+    /**
+     * Mark exit from a service method; only outermost calls are added, so
+     * services calling each other are not counted twice.
+     */
+    public static void exitService(boolean outermost, long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.serviceDepth--;
+            if (outermost) {
+                timings.serviceNanos += nanos;
+            }
+        }
+    }
+
+    public static void recordSerialization(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.serializationNanos += nanos;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getSqlNanos() {
+        return sqlNanos;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    public long getConnectionWaitNanos() {
+        return connectionWaitNanos;
+    }
+
+    public long getAuthenticationNanos() {
+        return authenticationNanos;
+    }
+
+    public long getServiceNanos() {
+        return serviceNanos;
+    }
+
+    public long getSerializationNanos() {
+        return serializationNanos;
+    }
+
+    /**
+     * The request's statements grouped by fingerprint, slowest first.
+     */
+    public List<FingerprintTiming> topStatements(int limit) {
+        List<FingerprintTiming> top = new ArrayList<>(byFingerprint.size());
+        byFingerprint.forEach((fingerprint, entry) -> top.add(new FingerprintTiming(fingerprint, entry[0], entry[1])));
+        top.sort(Comparator.comparingLong(FingerprintTiming::getNanos).reversed());
+        return top.size() > limit ? top.subList(0, limit) : top;
+    }
+
+    public static class FingerprintTiming {
+
+        private final String fingerprint;
+        private final long count;
+        private final long nanos;
+
+        FingerprintTiming(String fingerprint, long count, long nanos) {
+            this.fingerprint = fingerprint;
+            this.count = count;
+            this.nanos = nanos;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+    }
+}
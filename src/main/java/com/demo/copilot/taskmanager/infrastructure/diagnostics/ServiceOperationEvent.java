@@ -0,0 +1,114 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+
+/**
+ * JFR event for one application service call, with the rows it returned and
+ * the cache lookups made on its behalf.
+ *
+ * Emitted by {@code ServiceMetricsAspect} around every public service
+ * method. While no recording or stream has the event enabled,
+ * {@link #start(Method)} returns {@code null} and nothing else happens; the
+ * {@code record*} methods are no-ops on threads without an open event.
+ */
+@Name(ServiceOperationEvent.NAME)
+@Label("Service Operation")
+@Category({"Task Manager", "Service"})
+@Description("Application service call with returned rows and cache lookups")
+@StackTrace(false)
+public class ServiceOperationEvent extends Event {
+
+    public static final String NAME = "com.demo.copilot.taskmanager.ServiceOperation";
+
+    private static final ThreadLocal<ServiceOperationEvent> CURRENT = new ThreadLocal<>();
+
+    @Label("Service")
+    String service;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Rows")
+    @Description("Elements of the returned page or collection, 1 for a single result")
+    long rows;
+
+    @Label("Cache Hits")
+    int cacheHits;
+
+    @Label("Cache Misses")
+    int cacheMisses;
+
+    private transient ServiceOperationEvent enclosing;
+
+    /**
+     * Open an event for {@code method} on the current thread.
+     *
+     * @return the event, or {@code null} when the event type is disabled
+     */
+    public static ServiceOperationEvent start(Method method) {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.service = method.getDeclaringClass().getSimpleName();
+        event.operation = method.getName();
+        event.enclosing = CURRENT.get();
+        CURRENT.set(event);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Close an event opened by {@link #start(Method)}; does nothing for {@code null}.
+     */
+    public static void finish(ServiceOperationEvent event, Object result, String outcome) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.enclosing == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(event.enclosing);
+            event.enclosing = null;
+        }
+        if (event.shouldCommit()) {
+            event.outcome = outcome;
+            event.rows = rowsOf(result);
+            event.commit();
+        }
+    }
+
+    public static void recordCacheLookup(boolean hit) {
+        ServiceOperationEvent event = CURRENT.get();
+        if (event != null) {
+            if (hit) {
+                event.cacheHits++;
+            } else {
+                event.cacheMisses++;
+            }
+        }
+    }
+
+    private static long rowsOf(Object result) {
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        return result == null ? 0 : 1;
+    }
+}
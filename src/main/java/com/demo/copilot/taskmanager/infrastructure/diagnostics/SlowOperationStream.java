@@ -0,0 +1,74 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+
+/**
+ * Streams the task manager's own JFR events in-process and feeds the ones
+ * slower than the threshold to a {@link SlowOperationTracker}.
+ *
+ * The threshold is applied when the events are enabled, so faster
+ * operations are dropped before any event data is written. A recording
+ * started through the {@code flightrecorder} endpoint may lower the
+ * effective threshold for its duration; the stream filters again on
+ * arrival so the tracker keeps its meaning.
+ */
+public class SlowOperationStream {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowOperationStream.class);
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    private final SlowOperationTracker tracker;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public SlowOperationStream(SlowOperationTracker tracker, Duration threshold) {
+        this.tracker = tracker;
+        this.threshold = threshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.setMaxAge(MAX_AGE);
+        stream.enable(ServiceOperationEvent.class).withThreshold(threshold);
+        stream.enable(JwtOperationEvent.class).withThreshold(threshold);
+        stream.enable(AuthenticationFilterEvent.class).withThreshold(threshold);
+        stream.onEvent(ServiceOperationEvent.NAME, event -> track(event, "service",
+                event.getString("service") + "." + event.getString("operation"),
+                event.getLong("rows"), event.getInt("cacheHits"), event.getInt("cacheMisses")));
+        stream.onEvent(JwtOperationEvent.NAME, event -> track(event, "jwt",
+                event.getString("operation"), null, null, null));
+        stream.onEvent(AuthenticationFilterEvent.NAME, event -> track(event, "authentication",
+                event.getString("method") + " " + event.getString("path"), null, null, null));
+        stream.startAsync();
+        log.info("Tracking task manager operations slower than {} ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void track(RecordedEvent event, String type, String operation,
+                       Long rows, Integer cacheHits, Integer cacheMisses) {
+        if (event.getDuration().compareTo(threshold) < 0) {
+            return;
+        }
+        RecordedThread thread = event.getThread();
+        tracker.record(new SlowOperationTracker.SlowOperation(type, operation, event.getString("outcome"),
+                event.getDuration(), event.getStartTime(), thread == null ? null : thread.getJavaName(),
+                rows, cacheHits, cacheMisses));
+    }
+}
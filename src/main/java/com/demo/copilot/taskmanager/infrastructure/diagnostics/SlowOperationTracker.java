@@ -0,0 +1,152 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * The slowest operations of the last few minutes.
+ *
+ * The window is split into {@link #BUCKETS} time buckets, each keeping its
+ * own slowest {@code limit} operations in a min-heap, so memory is bounded
+ * and old operations drop out a bucket at a time without a sweep.
+ */
+public class SlowOperationTracker {
+
+    static final int BUCKETS = 5;
+
+    private static final Comparator<SlowOperation> BY_DURATION =
+            Comparator.comparingLong(SlowOperation::getDurationNanos);
+
+    private final int limit;
+    private final long bucketMillis;
+    private final LongSupplier clock;
+    private final Bucket[] buckets = new Bucket[BUCKETS];
+
+    public SlowOperationTracker(int limit, Duration window) {
+        this(limit, window, System::currentTimeMillis);
+    }
+
+    SlowOperationTracker(int limit, Duration window, LongSupplier clock) {
+        this.limit = Math.max(1, limit);
+        this.bucketMillis = Math.max(1, window.toMillis() / BUCKETS);
+        this.clock = clock;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    public synchronized void record(SlowOperation operation) {
+        long slot = clock.getAsLong() / bucketMillis;
+        Bucket bucket = buckets[(int) (slot % BUCKETS)];
+        if (bucket.slot != slot) {
+            bucket.slot = slot;
+            bucket.operations.clear();
+        }
+        bucket.operations.offer(operation);
+        if (bucket.operations.size() > limit) {
+            bucket.operations.poll();
+        }
+    }
+
+    /**
+     * The slowest operations still inside the window, slowest first.
+     */
+    public synchronized List<SlowOperation> top(int count) {
+        long slot = clock.getAsLong() / bucketMillis;
+        List<SlowOperation> top = new ArrayList<>();
+        for (Bucket bucket : buckets) {
+            if (slot - bucket.slot < BUCKETS) {
+                top.addAll(bucket.operations);
+            }
+        }
+        top.sort(BY_DURATION.reversed());
+        int size = Math.min(Math.min(count, limit), top.size());
+        return new ArrayList<>(top.subList(0, size));
+    }
+
+    public synchronized void reset() {
+        for (Bucket bucket : buckets) {
+            bucket.operations.clear();
+        }
+    }
+
+    private static class Bucket {
+        private long slot = Long.MIN_VALUE;
+        private final PriorityQueue<SlowOperation> operations = new PriorityQueue<>(BY_DURATION);
+    }
+
+    /**
+     * One streamed operation. Rows and cache lookups are only known for
+     * service operations and are {@code null} otherwise.
+     */
+    public static class SlowOperation {
+
+        private final String type;
+        private final String operation;
+        private final String outcome;
+        private final long durationNanos;
+        private final Instant startTime;
+        private final String thread;
+        private final Long rows;
+        private final Integer cacheHits;
+        private final Integer cacheMisses;
+
+        public SlowOperation(String type, String operation, String outcome, Duration duration, Instant startTime,
+                             String thread, Long rows, Integer cacheHits, Integer cacheMisses) {
+            this.type = type;
+            this.operation = operation;
+            this.outcome = outcome;
+            this.durationNanos = duration.toNanos();
+            this.startTime = startTime;
+            this.thread = thread;
+            this.rows = rows;
+            this.cacheHits = cacheHits;
+            this.cacheMisses = cacheMisses;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public String getOutcome() {
+            return outcome;
+        }
+
+        long getDurationNanos() {
+            return durationNanos;
+        }
+
+        public double getDurationMs() {
+            return durationNanos / 1e6;
+        }
+
+        public Instant getStartTime() {
+            return startTime;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        public Long getRows() {
+            return rows;
+        }
+
+        public Integer getCacheHits() {
+            return cacheHits;
+        }
+
+        public Integer getCacheMisses() {
+            return cacheMisses;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/sqlfingerprints}: the SQL fingerprints with the highest
+ * cumulative execution time. {@code DELETE} starts a new measurement window.
+ */
+@Endpoint(id = "sqlfingerprints")
+public class SqlFingerprintEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SqlFingerprintStats stats;
+
+    public SqlFingerprintEndpoint(SqlFingerprintStats stats) {
+        this.stats = stats;
+    }
+
+    @ReadOperation
+    public List<SqlFingerprintStats.Summary> top(@Nullable Integer limit) {
+        return stats.top(limit == null ? DEFAULT_LIMIT : limit);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        stats.reset();
+    }
+}
@@ -0,0 +1,99 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative execution count and time per SQL fingerprint since startup or
+ * the last {@link #reset()}.
+ *
+ * The number of fingerprints is capped; once full, unseen fingerprints are
+ * folded into a single {@link #OTHER} entry so memory stays bounded.
+ */
+public class SqlFingerprintStats {
+
+    public static final String OTHER = "(other)";
+
+    private final int maxFingerprints;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public SqlFingerprintStats(int maxFingerprints) {
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    public void record(String fingerprint, long nanos) {
+        Entry entry = entries.get(fingerprint);
+        if (entry == null) {
+            String key = entries.size() < maxFingerprints ? fingerprint : OTHER;
+            entry = entries.computeIfAbsent(key, k -> new Entry());
+        }
+        entry.count.increment();
+        entry.nanos.add(nanos);
+        entry.maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * The fingerprints with the highest cumulative time.
+     */
+    public List<Summary> top(int limit) {
+        return entries.entrySet().stream()
+                .map(e -> new Summary(e.getKey(), e.getValue().count.sum(), e.getValue().nanos.sum(),
+                        e.getValue().maxNanos.get()))
+                .sorted(Comparator.comparingLong(Summary::getTotalNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        entries.clear();
+    }
+
+    private static class Entry {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+    }
+
+    public static class Summary {
+
+        private final String fingerprint;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        Summary(String fingerprint, long count, long totalNanos, long maxNanos) {
+            this.fingerprint = fingerprint;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public double getTotalMs() {
+            return totalNanos / 1e6;
+        }
+
+        public double getMeanMs() {
+            return count == 0 ? 0 : totalNanos / 1e6 / count;
+        }
+
+        public double getMaxMs() {
+            return maxNanos / 1e6;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Feeds every executed statement into the global {@link SqlFingerprintStats}
+ * and the current request's {@link RequestTimings}.
+ *
+ * datasource-proxy only reports whole milliseconds, so the listener keeps
+ * its own nanosecond start time on the execution.
+ */
+public class SqlTimingListener implements QueryExecutionListener {
+
+    private static final String STARTED = SqlTimingListener.class.getName() + ".started";
+
+    private final SqlFingerprintStats stats;
+
+    public SqlTimingListener(SqlFingerprintStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long started = execInfo.getCustomValue(STARTED, Long.class);
+        if (started == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        // A statement batch carries several texts in one round trip; split its time evenly
+        long nanos = (System.nanoTime() - started) / queryInfoList.size();
+        for (QueryInfo query : queryInfoList) {
+            String fingerprint = SqlFingerprint.of(query.getQuery());
+            stats.record(fingerprint, nanos);
+            RequestTimings.recordStatement(fingerprint, nanos);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.demo.copilot.taskmanager.infrastructure.escalation;
+
+import com.demo.copilot.taskmanager.domain.valueobject.TaskPriority;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SLA escalation rules bound from {@code app.escalation}.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.escalation")
+public class EscalationProperties {
+
+    private int chunkSize = 500;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Raise active tasks of one priority to a higher one once they have been
+     * overdue for a while and, optionally, not been touched for a while.
+     */
+    public static class Rule {
+
+        private String name;
+        private TaskPriority from;
+        private TaskPriority to;
+        private Duration overdueFor = Duration.ZERO;
+        private Duration notUpdatedFor;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public TaskPriority getFrom() {
+            return from;
+        }
+
+        public void setFrom(TaskPriority from) {
+            this.from = from;
+        }
+
+        public TaskPriority getTo() {
+            return to;
+        }
+
+        public void setTo(TaskPriority to) {
+            this.to = to;
+        }
+
+        public Duration getOverdueFor() {
+            return overdueFor;
+        }
+
+        public void setOverdueFor(Duration overdueFor) {
+            this.overdueFor = overdueFor;
+        }
+
+        public Duration getNotUpdatedFor() {
+            return notUpdatedFor;
+        }
+
+        public void setNotUpdatedFor(Duration notUpdatedFor) {
+            this.notUpdatedFor = notUpdatedFor;
+        }
+    }
+}
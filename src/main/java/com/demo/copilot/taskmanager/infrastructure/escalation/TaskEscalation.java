@@ -0,0 +1,63 @@
+package com.demo.copilot.taskmanager.infrastructure.escalation;
+
+import com.demo.copilot.taskmanager.domain.valueobject.TaskPriority;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Change record written for every priority escalation.
+ *
+ * Rows are inserted set-based by {@link TaskEscalationJob}; the mapping exists
+ * for reads and so that Hibernate can create the table in profiles that do
+ * not run Flyway.
+ */
+@Entity
+@Table(name = "task_escalations", indexes = {
+    @Index(name = "idx_task_escalation_task", columnList = "task_id")
+})
+public class TaskEscalation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    @Column(name = "rule_name", nullable = false, length = 100)
+    private String ruleName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_priority", nullable = false, length = 10)
+    private TaskPriority fromPriority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_priority", nullable = false, length = 10)
+    private TaskPriority toPriority;
+
+    @Column(name = "task_version", nullable = false)
+    private long taskVersion;
+
+    @Column(name = "escalated_at", nullable = false)
+    private OffsetDateTime escalatedAt;
+
+    protected TaskEscalation() {}
+
+    public Long getId() { return id; }
+    public UUID getTaskId() { return taskId; }
+    public String getRuleName() { return ruleName; }
+    public TaskPriority getFromPriority() { return fromPriority; }
+    public TaskPriority getToPriority() { return toPriority; }
+    public long getTaskVersion() { return taskVersion; }
+    public OffsetDateTime getEscalatedAt() { return escalatedAt; }
+}
@@ -0,0 +1,174 @@
+package com.demo.copilot.taskmanager.infrastructure.escalation;
+
+import com.demo.copilot.taskmanager.application.event.TasksEscalatedEvent;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskPriority;
+import com.demo.copilot.taskmanager.infrastructure.cluster.DatabaseLeaderLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Scheduled SLA escalation engine.
+ *
+ * Each rule raises the priority of active, overdue tasks with set-based
+ * statements, one chunk per transaction: the chunk is selected and locked
+ * through the {@code idx_task_due_status} partial index, a change record is
+ * inserted for every row, and the rows are updated with their version bumped
+ * so concurrent edits through JPA fail optimistic locking instead of
+ * overwriting the escalation. Only one node runs the job at a time.
+ *
+ * Rules are applied from the highest source priority down, so a task
+ * escalated by one rule is not escalated again by the next one in the same run.
+ */
+@Component
+@ConditionalOnProperty(name = "app.escalation.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskEscalationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskEscalationJob.class);
+
+    static final String LOCK_NAME = "task-escalation";
+
+    private static final String SELECT_SQL =
+            "SELECT id FROM tasks " +
+            "WHERE is_archived = false AND due_date < :overdueBefore " +
+            "AND status IN ('TODO', 'IN_PROGRESS', 'IN_REVIEW') AND priority = :fromPriority ";
+    private static final String STALE_CONDITION = "AND updated_at < :staleBefore ";
+    private static final String CHUNK_SQL = "ORDER BY due_date LIMIT :limit FOR UPDATE";
+
+    private static final String RECORD_SQL =
+            "INSERT INTO task_escalations " +
+            "(task_id, rule_name, from_priority, to_priority, task_version, escalated_at) " +
+            "SELECT id, :ruleName, priority, :toPriority, COALESCE(version, 0) + 1, :now " +
+            "FROM tasks WHERE id IN (:ids)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE tasks SET priority = :toPriority, version = COALESCE(version, 0) + 1, updated_at = :now " +
+            "WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabaseLeaderLock leaderLock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final List<EscalationProperties.Rule> rules;
+    private final int chunkSize;
+
+    public TaskEscalationJob(NamedParameterJdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             DatabaseLeaderLock leaderLock,
+                             ApplicationEventPublisher eventPublisher,
+                             EscalationProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaderLock = leaderLock;
+        this.eventPublisher = eventPublisher;
+        this.rules = validate(properties.getRules());
+        this.chunkSize = Math.max(1, properties.getChunkSize());
+    }
+
+    @Scheduled(cron = "${app.escalation.cron:0 */5 * * * *}")
+    public void run() {
+        if (!leaderLock.runIfLeader(LOCK_NAME, this::escalateAll)) {
+            log.debug("Skipping task escalation, another node is running it");
+        }
+    }
+
+    /**
+     * Apply every rule until no more tasks match.
+     *
+     * @return number of escalated tasks
+     */
+    int escalateAll() {
+        OffsetDateTime now = OffsetDateTime.now();
+        int total = 0;
+        for (EscalationProperties.Rule rule : rules) {
+            int escalated = escalate(rule, now);
+            if (escalated > 0) {
+                log.info("Escalation rule {} raised {} tasks from {} to {}",
+                        rule.getName(), escalated, rule.getFrom(), rule.getTo());
+            }
+            total += escalated;
+        }
+        return total;
+    }
+
+    private int escalate(EscalationProperties.Rule rule, OffsetDateTime now) {
+        String selectSql = SELECT_SQL + (rule.getNotUpdatedFor() != null ? STALE_CONDITION : "") + CHUNK_SQL;
+        MapSqlParameterSource selectParams = new MapSqlParameterSource()
+                .addValue("overdueBefore", now.minus(rule.getOverdueFor()))
+                .addValue("fromPriority", rule.getFrom().name())
+                .addValue("limit", chunkSize);
+        if (rule.getNotUpdatedFor() != null) {
+            selectParams.addValue("staleBefore", now.minus(rule.getNotUpdatedFor()));
+        }
+
+        int escalated = 0;
+        while (true) {
+            List<UUID> ids = transactionTemplate.execute(status -> escalateChunk(rule, selectSql, selectParams, now));
+            if (ids == null || ids.isEmpty()) {
+                return escalated;
+            }
+            escalated += ids.size();
+            eventPublisher.publishEvent(new TasksEscalatedEvent(rule.getName(), rule.getFrom(), rule.getTo(), ids));
+            if (ids.size() < chunkSize) {
+                return escalated;
+            }
+        }
+    }
+
+    private List<UUID> escalateChunk(EscalationProperties.Rule rule, String selectSql,
+                                     MapSqlParameterSource selectParams, OffsetDateTime now) {
+        List<UUID> ids = jdbcTemplate.queryForList(selectSql, selectParams, UUID.class);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("ruleName", rule.getName())
+                .addValue("toPriority", rule.getTo().name())
+                .addValue("now", now);
+        jdbcTemplate.update(RECORD_SQL, params);
+        jdbcTemplate.update(UPDATE_SQL, params);
+        return ids;
+    }
+
+    private static List<EscalationProperties.Rule> validate(List<EscalationProperties.Rule> configured) {
+        Set<String> names = new HashSet<>();
+        for (EscalationProperties.Rule rule : configured) {
+            if (rule.getName() == null || rule.getName().isBlank()) {
+                throw new IllegalStateException("Escalation rule name is required");
+            }
+            if (!names.add(rule.getName())) {
+                throw new IllegalStateException("Duplicate escalation rule: " + rule.getName());
+            }
+            if (rule.getFrom() == null || rule.getTo() == null) {
+                throw new IllegalStateException("Escalation rule " + rule.getName() + " needs from and to priorities");
+            }
+            if (!rule.getTo().isHigherThan(rule.getFrom())) {
+                throw new IllegalStateException("Escalation rule " + rule.getName() +
+                        " must raise priority, but " + rule.getTo() + " is not higher than " + rule.getFrom());
+            }
+            if (rule.getOverdueFor() == null || rule.getOverdueFor().isNegative()) {
+                throw new IllegalStateException("Escalation rule " + rule.getName() + " needs a non-negative overdue-for");
+            }
+        }
+        List<EscalationProperties.Rule> ordered = new ArrayList<>(configured);
+        ordered.sort(Comparator.comparing(EscalationProperties.Rule::getFrom, Comparator.comparingInt(TaskPriority::getLevel))
+                .reversed());
+        return List.copyOf(ordered);
+    }
+}
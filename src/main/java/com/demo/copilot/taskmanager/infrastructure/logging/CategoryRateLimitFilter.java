@@ -0,0 +1,216 @@
+package com.demo.copilot.taskmanager.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Samples and rate limits noisy logger categories before an event is built.
+ *
+ * Each {@link Category} names the logger prefixes it covers, a fraction of
+ * events to keep and a token bucket (the same GCRA arithmetic as
+ * {@code GcraRateLimiter}, one {@link AtomicLong} per category) that caps
+ * what is left. Events at or above a category's {@code passLevel} are never
+ * dropped, so sampling debug chatter cannot hide a warning.
+ *
+ * Level checks such as {@code isDebugEnabled()} pass through untouched, and
+ * events the logger would discard anyway do not take a token; only events
+ * that would otherwise be written are sampled and counted.
+ */
+public class CategoryRateLimitFilter extends TurboFilter {
+
+    private static final Category NONE = new Category();
+
+    private final List<Category> categories = new ArrayList<>();
+    private final Map<String, Category> byLogger = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public CategoryRateLimitFilter() {
+        this(System::nanoTime);
+    }
+
+    CategoryRateLimitFilter(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    public void addCategory(Category category) {
+        categories.add(category);
+        byLogger.clear();
+    }
+
+    public List<Category> getCategories() {
+        return List.copyOf(categories);
+    }
+
+    @Override
+    public void start() {
+        long now = nanoClock.getAsLong();
+        for (Category category : categories) {
+            if (category.getName() == null || category.prefixes.isEmpty()) {
+                addError("Logging category needs a name and at least one logger");
+                return;
+            }
+            category.theoreticalArrival.set(now);
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || format == null || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Category category = byLogger.computeIfAbsent(logger.getName(), this::categoryOf);
+        if (category == NONE || (category.passLevel != null && level.isGreaterOrEqual(category.passLevel))) {
+            return FilterReply.NEUTRAL;
+        }
+        if (category.sample() && category.tryAcquire(nanoClock.getAsLong())) {
+            return FilterReply.NEUTRAL;
+        }
+        category.suppressed.increment();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * The category with the longest prefix matching the logger name.
+     */
+    private Category categoryOf(String loggerName) {
+        Category match = NONE;
+        int matchLength = -1;
+        for (Category category : categories) {
+            for (String prefix : category.prefixes) {
+                if (prefix.length() > matchLength && covers(prefix, loggerName)) {
+                    match = category;
+                    matchLength = prefix.length();
+                }
+            }
+        }
+        return match;
+    }
+
+    private static boolean covers(String prefix, String loggerName) {
+        return loggerName.startsWith(prefix)
+                && (loggerName.length() == prefix.length() || loggerName.charAt(prefix.length()) == '.');
+    }
+
+    /**
+     * A group of loggers sharing one sample rate and one token bucket.
+     * Configured from {@code logback-taskmanager.xml}.
+     */
+    public static class Category {
+
+        private String name;
+        private List<String> prefixes = List.of();
+        private double sampleRate = 1.0;
+        private long emissionIntervalNanos;
+        private long burstWindowNanos;
+        private double ratePerSecond;
+        private int burst = 1;
+        private Level passLevel;
+        private final AtomicLong theoreticalArrival = new AtomicLong();
+        private final LongAdder suppressed = new LongAdder();
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Comma-separated logger names; each covers its descendants.
+         */
+        public void setLoggers(String loggers) {
+            this.prefixes = Arrays.stream(loggers.split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .toList();
+        }
+
+        public List<String> getLoggers() {
+            return prefixes;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = Math.max(0.0, Math.min(1.0, sampleRate));
+        }
+
+        public double getRatePerSecond() {
+            return ratePerSecond;
+        }
+
+        /**
+         * Events per second let through after sampling; zero or less means
+         * no limit.
+         */
+        public void setRatePerSecond(double ratePerSecond) {
+            this.ratePerSecond = ratePerSecond;
+            updateBucket();
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = Math.max(1, burst);
+            updateBucket();
+        }
+
+        /**
+         * Events at this level or above bypass sampling and rate limiting.
+         */
+        public void setPassLevel(String passLevel) {
+            this.passLevel = passLevel == null || passLevel.isBlank() ? null : Level.toLevel(passLevel.trim());
+        }
+
+        public long getSuppressed() {
+            return suppressed.sum();
+        }
+
+        private void updateBucket() {
+            emissionIntervalNanos = ratePerSecond > 0
+                    ? Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond))
+                    : 0;
+            burstWindowNanos = emissionIntervalNanos * burst;
+        }
+
+        private boolean sample() {
+            return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        }
+
+        private boolean tryAcquire(long now) {
+            if (emissionIntervalNanos == 0) {
+                return true;
+            }
+            while (true) {
+                long current = theoreticalArrival.get();
+                long arrival = Math.max(current, now) + emissionIntervalNanos;
+                if (arrival - burstWindowNanos > now) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(current, arrival)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.demo.copilot.taskmanager.infrastructure.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes {@code taskmanager.logging.suppressed}, the events dropped by
+ * {@link CategoryRateLimitFilter}, tagged by category. Events written per
+ * level are already counted by Boot as {@code logback.events}.
+ */
+@Component
+public class LoggingMetrics {
+
+    public LoggingMetrics(MeterRegistry meterRegistry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof CategoryRateLimitFilter rateLimitFilter) {
+                for (CategoryRateLimitFilter.Category category : rateLimitFilter.getCategories()) {
+                    FunctionCounter.builder("taskmanager.logging.suppressed", category,
+                                    CategoryRateLimitFilter.Category::getSuppressed)
+                            .description("Log events dropped by sampling or rate limiting")
+                            .tag("category", category.getName())
+                            .register(meterRegistry);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.demo.copilot.taskmanager.infrastructure.metrics;
+
+import com.demo.copilot.taskmanager.infrastructure.diagnostics.RequestTimings;
+import com.demo.copilot.taskmanager.infrastructure.diagnostics.ServiceOperationEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public method of the application services as
+ * {@code taskmanager.service} tagged with service, method and outcome.
+ *
+ * Ordered right after the connection pool binding and ahead of the
+ * transaction interceptor, so the timing includes acquiring the connection
+ * and committing; the outermost call also counts as service time in the
+ * request's {@link RequestTimings}. Tag values come from class, method and
+ * exception names, which keeps their cardinality bounded by the code base.
+ * Each call is also a {@link ServiceOperationEvent} when JFR has it enabled.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ServiceMetricsAspect {
+
+    static final String METRIC_NAME = "taskmanager.service";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(com.demo.copilot.taskmanager.application.service..*) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        boolean outermost = RequestTimings.enterService();
+        ServiceOperationEvent event = ServiceOperationEvent.start(method);
+        long started = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            successTimers.computeIfAbsent(method, m -> timer(m, "success"))
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            ServiceOperationEvent.finish(event, result, "success");
+            return result;
+        } catch (Throwable e) {
+            timer(method, e.getClass().getSimpleName())
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            ServiceOperationEvent.finish(event, null, e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            RequestTimings.exitService(outermost, System.nanoTime() - started);
+        }
+    }
+
+    private Timer timer(Method method, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("Application service method latency")
+                .tag("service", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+}
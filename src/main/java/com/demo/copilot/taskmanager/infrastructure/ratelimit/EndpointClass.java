@@ -0,0 +1,16 @@
+package com.demo.copilot.taskmanager.infrastructure.ratelimit;
+
+/**
+ * Groups of endpoints that share a rate limit.
+ */
+public enum EndpointClass {
+
+    /** Login and registration. */
+    AUTH,
+
+    /** Reads. */
+    LIST,
+
+    /** Creates, updates and deletes. */
+    MUTATE
+}
@@ -0,0 +1,153 @@
+package com.demo.copilot.taskmanager.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket rate limiter implemented with the generic cell rate algorithm.
+ *
+ * Each bucket is a single {@link AtomicLong} holding the theoretical arrival
+ * time of the next request, so admitting a request is one compare-and-set
+ * without locks or refill bookkeeping. Buckets live in a bounded cache.
+ * Dropping a bucket after the idle timeout grants nothing extra, because it
+ * would have refilled completely by then. Dropping one because the cache is
+ * full can cut its refill short: a key seen again after that starts with a
+ * full burst. Flooding the cache with new keys therefore lets an active
+ * caller reset its bucket, so size the cache well above the number of keys
+ * expected within one idle timeout.
+ */
+public class GcraRateLimiter {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier nanoClock;
+
+    public GcraRateLimiter(long maxKeys, Duration idleTimeout) {
+        this(maxKeys, idleTimeout, System::nanoTime);
+    }
+
+    GcraRateLimiter(long maxKeys, Duration idleTimeout, LongSupplier nanoClock) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Take one token from the bucket of the given key.
+     */
+    public Decision tryAcquire(String key, Policy policy) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = buckets.getIfPresent(key);
+        if (bucket == null) {
+            bucket = buckets.get(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long current = bucket.get();
+            long arrival = Math.max(current, now) + policy.emissionIntervalNanos;
+            long allowedAt = arrival - policy.burstWindowNanos;
+            if (allowedAt > now) {
+                return new Decision(false, policy.burst, 0, current - now, allowedAt - now);
+            }
+            if (bucket.compareAndSet(current, arrival)) {
+                int remaining = (int) ((now + policy.burstWindowNanos - arrival) / policy.emissionIntervalNanos);
+                return new Decision(true, policy.burst, remaining, arrival - now, 0);
+            }
+        }
+    }
+
+    /**
+     * Number of buckets currently held.
+     */
+    public long size() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * Sustained rate and burst size of one bucket.
+     */
+    public static final class Policy {
+
+        private final int limit;
+        private final Duration period;
+        private final int burst;
+        private final long emissionIntervalNanos;
+        private final long burstWindowNanos;
+
+        /**
+         * @param limit  requests allowed per period on average
+         * @param period length of the period
+         * @param burst  requests allowed back to back when the bucket is full
+         */
+        public Policy(int limit, Duration period, int burst) {
+            if (limit < 1 || burst < 1 || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("Rate limit policy needs a positive limit, period and burst");
+            }
+            this.limit = limit;
+            this.period = period;
+            this.burst = burst;
+            this.emissionIntervalNanos = Math.max(1, period.toNanos() / limit);
+            this.burstWindowNanos = emissionIntervalNanos * burst;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public Duration getPeriod() {
+            return period;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+    }
+
+    /**
+     * Outcome of one acquisition.
+     */
+    public static final class Decision {
+
+        private final boolean allowed;
+        private final int limit;
+        private final int remaining;
+        private final long resetNanos;
+        private final long retryAfterNanos;
+
+        private Decision(boolean allowed, int limit, int remaining, long resetNanos, long retryAfterNanos) {
+            this.allowed = allowed;
+            this.limit = limit;
+            this.remaining = remaining;
+            this.resetNanos = resetNanos;
+            this.retryAfterNanos = retryAfterNanos;
+        }
+
+        public boolean isAllowed() {
+            return allowed;
+        }
+
+        /** Bucket capacity. */
+        public int getLimit() {
+            return limit;
+        }
+
+        /** Requests that may still be sent back to back. */
+        public int getRemaining() {
+            return remaining;
+        }
+
+        /** Time until the bucket is full again. */
+        public long getResetNanos() {
+            return resetNanos;
+        }
+
+        /** Time until a rejected request would be admitted; zero when allowed. */
+        public long getRetryAfterNanos() {
+            return retryAfterNanos;
+        }
+    }
+}
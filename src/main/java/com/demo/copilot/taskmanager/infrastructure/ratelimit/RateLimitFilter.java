@@ -0,0 +1,133 @@
+package com.demo.copilot.taskmanager.infrastructure.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rate limits requests per authenticated principal, or per client IP for
+ * anonymous requests, with separate limits for auth, read and write endpoints.
+ *
+ * Runs after {@code JwtAuthenticationFilter} so the principal is known.
+ * Every limited response carries {@code RateLimit-Limit},
+ * {@code RateLimit-Remaining} and {@code RateLimit-Reset}; rejected requests
+ * get a 429 with {@code Retry-After}. Actuator endpoints are not limited.
+ *
+ * The client IP is {@code getRemoteAddr()}, resolved from
+ * {@code X-Forwarded-For} only for proxies listed in
+ * {@code server.tomcat.remoteip.internal-proxies}. If the load balancer is
+ * missing from that list, all anonymous clients share one bucket per class.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String LIMIT_HEADER = "RateLimit-Limit";
+    static final String REMAINING_HEADER = "RateLimit-Remaining";
+    static final String RESET_HEADER = "RateLimit-Reset";
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final GcraRateLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final Map<EndpointClass, GcraRateLimiter.Policy> policies = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejected = new EnumMap<>(EndpointClass.class);
+
+    public RateLimitFilter(GcraRateLimiter limiter, RateLimitProperties properties,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            policies.put(endpointClass, properties.get(endpointClass).toPolicy());
+            rejected.put(endpointClass, Counter.builder("taskmanager.ratelimit.rejected")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("endpoint", endpointClass.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return path(request).startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        EndpointClass endpointClass = classify(request);
+        GcraRateLimiter.Decision decision = limiter.tryAcquire(key(endpointClass, request), policies.get(endpointClass));
+
+        response.setHeader(LIMIT_HEADER, Integer.toString(decision.getLimit()));
+        response.setHeader(REMAINING_HEADER, Integer.toString(decision.getRemaining()));
+        response.setHeader(RESET_HEADER, Long.toString(toSeconds(decision.getResetNanos())));
+        if (decision.isAllowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        rejected.get(endpointClass).increment();
+        reject(request, response, decision);
+    }
+
+    static EndpointClass classify(HttpServletRequest request) {
+        if (path(request).startsWith("/auth/")) {
+            return EndpointClass.AUTH;
+        }
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)
+                ? EndpointClass.LIST
+                : EndpointClass.MUTATE;
+    }
+
+    private static String key(EndpointClass endpointClass, HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return endpointClass.name() + ":user:" + authentication.getName();
+        }
+        return endpointClass.name() + ":ip:" + request.getRemoteAddr();
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        GcraRateLimiter.Decision decision) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, toSeconds(decision.getRetryAfterNanos()))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("timestamp", OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        errorResponse.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        errorResponse.put("error", "Too Many Requests");
+        errorResponse.put("message", "Rate limit exceeded, please retry later");
+        errorResponse.put("path", request.getRequestURI());
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
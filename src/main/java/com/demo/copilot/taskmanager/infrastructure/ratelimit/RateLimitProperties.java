@@ -0,0 +1,134 @@
+package com.demo.copilot.taskmanager.infrastructure.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Per-principal and per-IP rate limits bound from {@code app.rate-limit}.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Upper bound on the number of buckets held in memory. Buckets evicted
+     * at this bound restart full, so keep it above the keys seen per idle timeout.
+     */
+    private long maxKeys = 100_000;
+
+    /** Buckets unused for this long are dropped. */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private Limit auth = new Limit(10, Duration.ofMinutes(1), 5);
+
+    private Limit list = new Limit(20, Duration.ofSeconds(1), 40);
+
+    private Limit mutate = new Limit(10, Duration.ofSeconds(1), 20);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(long maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public Limit getAuth() {
+        return auth;
+    }
+
+    public void setAuth(Limit auth) {
+        this.auth = auth;
+    }
+
+    public Limit getList() {
+        return list;
+    }
+
+    public void setList(Limit list) {
+        this.list = list;
+    }
+
+    public Limit getMutate() {
+        return mutate;
+    }
+
+    public void setMutate(Limit mutate) {
+        this.mutate = mutate;
+    }
+
+    public Limit get(EndpointClass endpointClass) {
+        return switch (endpointClass) {
+            case AUTH -> auth;
+            case LIST -> list;
+            case MUTATE -> mutate;
+        };
+    }
+
+    public static class Limit {
+
+        /** Requests allowed per period on average. */
+        private int limit;
+
+        private Duration period;
+
+        /** Requests allowed back to back; defaults to the limit. */
+        private Integer burst;
+
+        public Limit() {}
+
+        Limit(int limit, Duration period, int burst) {
+            this.limit = limit;
+            this.period = period;
+            this.burst = burst;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public void setLimit(int limit) {
+            this.limit = limit;
+        }
+
+        public Duration getPeriod() {
+            return period;
+        }
+
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+
+        public Integer getBurst() {
+            return burst;
+        }
+
+        public void setBurst(Integer burst) {
+            this.burst = burst;
+        }
+
+        public GcraRateLimiter.Policy toPolicy() {
+            return new GcraRateLimiter.Policy(limit, period, burst != null ? burst : limit);
+        }
+    }
+}
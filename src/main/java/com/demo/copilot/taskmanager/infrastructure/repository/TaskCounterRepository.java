@@ -0,0 +1,21 @@
+package com.demo.copilot.taskmanager.infrastructure.repository;
+
+import com.demo.copilot.taskmanager.infrastructure.counter.TaskCounter;
+import com.demo.copilot.taskmanager.infrastructure.counter.TaskCounterId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for the per-user task counter read model.
+ */
+@Repository
+public interface TaskCounterRepository extends JpaRepository<TaskCounter, TaskCounterId> {
+
+    /**
+     * Find all status counters of a user. Served by the primary key prefix.
+     */
+    List<TaskCounter> findByIdUserId(UUID userId);
+}
@@ -0,0 +1,14 @@
+package com.demo.copilot.taskmanager.infrastructure.repository;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a task's identity and due date for deadline scheduling.
+ */
+public interface TaskDeadlineView {
+
+    UUID getId();
+
+    OffsetDateTime getDueDate();
+}
@@ -4,14 +4,22 @@ import com.demo.copilot.taskmanager.domain.entity.Task;
 import com.demo.copilot.taskmanager.domain.valueobject.TaskId;
 import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
 import com.demo.copilot.taskmanager.domain.valueobject.UserId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Task entity data access operations.
@@ -22,6 +30,29 @@ import java.util.List;
 @Repository
 public interface TaskRepository extends JpaRepository<Task, TaskId> {
 
+    /**
+     * Aggregate columns shared by the dashboard statistics queries.
+     * Overdue and due-soon follow {@link Task#isOverdue()}: only completed
+     * tasks are excluded.
+     */
+    String STATS_COLUMNS = "SELECT COUNT(*) AS total, " +
+        "COUNT(*) FILTER (WHERE t.status = 'TODO') AS todo, " +
+        "COUNT(*) FILTER (WHERE t.status = 'IN_PROGRESS') AS inProgress, " +
+        "COUNT(*) FILTER (WHERE t.status = 'IN_REVIEW') AS inReview, " +
+        "COUNT(*) FILTER (WHERE t.status = 'COMPLETED') AS completed, " +
+        "COUNT(*) FILTER (WHERE t.status = 'CANCELLED') AS cancelled, " +
+        "COUNT(*) FILTER (WHERE t.priority = 'LOW') AS lowPriority, " +
+        "COUNT(*) FILTER (WHERE t.priority = 'MEDIUM') AS mediumPriority, " +
+        "COUNT(*) FILTER (WHERE t.priority = 'HIGH') AS highPriority, " +
+        "COUNT(*) FILTER (WHERE t.priority = 'URGENT') AS urgentPriority, " +
+        "COUNT(*) FILTER (WHERE t.due_date < :now AND t.status <> 'COMPLETED') AS overdue, " +
+        "COUNT(*) FILTER (WHERE t.due_date >= :now AND t.due_date < :dueSoonUntil AND t.status <> 'COMPLETED') AS dueSoon ";
+
+    /**
+     * Find a task by its human-readable key.
+     */
+    Optional<Task> findByTaskKey(String taskKey);
+
     /**
      * Find tasks assigned to a specific user with pagination.
      */
@@ -74,4 +105,52 @@ public interface TaskRepository extends JpaRepository<Task, TaskId> {
      */
     @Query("SELECT COUNT(t) FROM Task t WHERE t.assignedTo = :userId AND t.isArchived = false")
     long countByAssignedTo(@Param("userId") UserId userId);
-}
\ No newline at end of file
+
+    /**
+     * Stream every task for bulk processing such as index rebuilds.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t")
+    Stream<Task> streamAllBy();
+
+    /**
+     * Compute dashboard statistics for the tasks a user can see in a single
+     * grouped query. The two UNION ALL branches each resolve to an index-only
+     * scan over the covering indexes from V3 and never double count a task
+     * the user both created and is assigned to.
+     */
+    @Query(value = STATS_COLUMNS +
+           "FROM (" +
+           "  SELECT status, priority, due_date FROM tasks " +
+           "  WHERE assigned_to_id = :userId AND is_archived = false " +
+           "  UNION ALL " +
+           "  SELECT status, priority, due_date FROM tasks " +
+           "  WHERE created_by_id = :userId AND assigned_to_id <> :userId AND is_archived = false" +
+           ") t", nativeQuery = true)
+    TaskStatsView computeStatsForUser(@Param("userId") UUID userId,
+                                      @Param("now") OffsetDateTime now,
+                                      @Param("dueSoonUntil") OffsetDateTime dueSoonUntil);
+
+    /**
+     * Compute dashboard statistics across all non-archived tasks in a single query.
+     */
+    @Query(value = STATS_COLUMNS +
+           "FROM tasks t WHERE t.is_archived = false", nativeQuery = true)
+    TaskStatsView computeStatsForOrganization(@Param("now") OffsetDateTime now,
+                                              @Param("dueSoonUntil") OffsetDateTime dueSoonUntil);
+
+    /**
+     * Find active, non-archived tasks due within a half-open time window.
+     * Resolves to a range scan over {@code idx_task_due_date}.
+     */
+    @Query("SELECT t.id.value AS id, t.dueDate AS dueDate FROM Task t " +
+           "WHERE t.dueDate >= :from AND t.dueDate < :to " +
+           "AND t.status IN :statuses AND t.isArchived = false")
+    List<TaskDeadlineView> findDeadlinesBetween(@Param("from") OffsetDateTime from,
+                                                @Param("to") OffsetDateTime to,
+                                                @Param("statuses") Collection<TaskStatus> statuses);
+}
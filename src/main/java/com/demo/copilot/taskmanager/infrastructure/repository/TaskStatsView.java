@@ -0,0 +1,34 @@
+package com.demo.copilot.taskmanager.infrastructure.repository;
+
+/**
+ * Projection for the single-row dashboard statistics query.
+ *
+ * Column aliases in {@link TaskRepository#computeStatsForUser} and
+ * {@link TaskRepository#computeStatsForOrganization} map onto these getters.
+ */
+public interface TaskStatsView {
+
+    long getTotal();
+
+    long getTodo();
+
+    long getInProgress();
+
+    long getInReview();
+
+    long getCompleted();
+
+    long getCancelled();
+
+    long getLowPriority();
+
+    long getMediumPriority();
+
+    long getHighPriority();
+
+    long getUrgentPriority();
+
+    long getOverdue();
+
+    long getDueSoon();
+}
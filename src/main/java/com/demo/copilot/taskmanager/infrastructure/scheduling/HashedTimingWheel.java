@@ -0,0 +1,254 @@
+package com.demo.copilot.taskmanager.infrastructure.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel holding a large number of coarse-grained timers.
+ *
+ * Scheduling is a lock-free enqueue; a single worker thread moves new timers
+ * into their bucket and, once per tick, expires only the bucket under the
+ * cursor. The cost of a tick is therefore proportional to the timers in one
+ * bucket rather than to everything that is scheduled. Timers that are further
+ * away than one revolution carry a remaining-rounds count.
+ *
+ * All timers expiring in the same tick are handed to the consumer as one
+ * batch on the worker thread, so the consumer must return quickly. Timers
+ * cannot be cancelled individually; callers that need cancellation should
+ * stamp their payloads and ignore stale ones on expiry.
+ *
+ * @param <T> timer payload type
+ */
+public class HashedTimingWheel<T> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_SHUTDOWN = 2;
+
+    private final long tickNanos;
+    private final Bucket<T>[] wheel;
+    private final int mask;
+    private final Consumer<List<T>> expiryConsumer;
+    private final Queue<Timer<T>> pendingTimers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final Thread workerThread;
+
+    private volatile long startNanos;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, Duration tickDuration, int ticksPerWheel, Consumer<List<T>> expiryConsumer) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("Ticks per wheel must be positive");
+        }
+        this.tickNanos = tickDuration.toNanos();
+        // Round up to a power of two so the bucket index is a mask
+        int size = 1;
+        while (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket<>();
+        }
+        this.mask = size - 1;
+        this.expiryConsumer = Objects.requireNonNull(expiryConsumer, "Expiry consumer cannot be null");
+        this.workerThread = new Thread(this::run, name);
+        this.workerThread.setDaemon(true);
+    }
+
+    /**
+     * Schedule a payload to expire at the given instant. Instants in the past
+     * expire on the next tick.
+     */
+    public void schedule(T payload, Instant deadline) {
+        start();
+        long delayNanos = Duration.between(Instant.now(), deadline).toNanos();
+        long deadlineNanos = System.nanoTime() + Math.max(0L, delayNanos) - startNanos;
+        pendingTimers.add(new Timer<>(payload, deadlineNanos));
+        pendingCount.incrementAndGet();
+    }
+
+    /**
+     * Number of timers that have been scheduled and not yet expired.
+     */
+    public long size() {
+        return pendingCount.get();
+    }
+
+    public Duration getTickDuration() {
+        return Duration.ofNanos(tickNanos);
+    }
+
+    /**
+     * Start the worker thread. Called implicitly by {@link #schedule}.
+     */
+    public void start() {
+        if (state.get() == STATE_STARTED) {
+            return;
+        }
+        if (state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+            startNanos = System.nanoTime();
+            workerThread.start();
+        } else if (state.get() == STATE_SHUTDOWN) {
+            throw new IllegalStateException("Timing wheel has been stopped");
+        }
+    }
+
+    @Override
+    public void close() {
+        if (state.getAndSet(STATE_SHUTDOWN) == STATE_STARTED) {
+            workerThread.interrupt();
+            try {
+                workerThread.join(TimeUnit.NANOSECONDS.toMillis(tickNanos) + 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        List<T> expired = new ArrayList<>();
+        while (state.get() == STATE_STARTED) {
+            long deadline = waitForNextTick();
+            if (deadline < 0) {
+                break;
+            }
+            transferPendingTimers();
+            Bucket<T> bucket = wheel[(int) (tick & mask)];
+            bucket.expire(deadline, expired);
+            tick++;
+            if (!expired.isEmpty()) {
+                pendingCount.addAndGet(-expired.size());
+                try {
+                    expiryConsumer.accept(expired);
+                } catch (RuntimeException e) {
+                    log.warn("Timing wheel consumer failed for {} timers", expired.size(), e);
+                }
+                expired = new ArrayList<>();
+            }
+        }
+    }
+
+    /**
+     * Sleep until the end of the current tick and return the elapsed nanos
+     * since start, or -1 when the wheel is shut down.
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long current = System.nanoTime() - startNanos;
+            long sleepMillis = (deadline - current + 999_999) / 1_000_000;
+            if (sleepMillis <= 0) {
+                return current;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (state.get() == STATE_SHUTDOWN) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferPendingTimers() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timer<T> timer = pendingTimers.poll();
+            if (timer == null) {
+                return;
+            }
+            long calculated = timer.deadlineNanos / tickNanos;
+            timer.remainingRounds = (calculated - tick) / wheel.length;
+            // Never schedule into a bucket the cursor has already passed
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timer);
+        }
+    }
+
+    private static final class Timer<T> {
+
+        private final T payload;
+        private final long deadlineNanos;
+        private long remainingRounds;
+        private Timer<T> next;
+        private Timer<T> prev;
+
+        private Timer(T payload, long deadlineNanos) {
+            this.payload = payload;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+
+    /**
+     * Doubly linked list of timers, only ever touched by the worker thread.
+     */
+    private static final class Bucket<T> {
+
+        private Timer<T> head;
+        private Timer<T> tail;
+
+        void add(Timer<T> timer) {
+            if (head == null) {
+                head = tail = timer;
+            } else {
+                tail.next = timer;
+                timer.prev = tail;
+                tail = timer;
+            }
+        }
+
+        void expire(long deadlineNanos, List<T> expired) {
+            Timer<T> timer = head;
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                if (timer.remainingRounds <= 0) {
+                    if (timer.deadlineNanos <= deadlineNanos) {
+                        remove(timer);
+                        expired.add(timer.payload);
+                    }
+                } else {
+                    timer.remainingRounds--;
+                }
+                timer = next;
+            }
+        }
+
+        private void remove(Timer<T> timer) {
+            if (timer.prev != null) {
+                timer.prev.next = timer.next;
+            }
+            if (timer.next != null) {
+                timer.next.prev = timer.prev;
+            }
+            if (timer == head) {
+                head = timer.next;
+            }
+            if (timer == tail) {
+                tail = timer.prev;
+            }
+            timer.prev = null;
+            timer.next = null;
+        }
+    }
+}
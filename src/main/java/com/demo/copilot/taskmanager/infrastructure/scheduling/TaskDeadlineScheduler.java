@@ -0,0 +1,264 @@
+package com.demo.copilot.taskmanager.infrastructure.scheduling;
+
+import com.demo.copilot.taskmanager.application.event.TaskChangedEvent;
+import com.demo.copilot.taskmanager.application.event.TaskDeadlineEvent;
+import com.demo.copilot.taskmanager.application.event.TaskSnapshot;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+import com.demo.copilot.taskmanager.infrastructure.repository.TaskDeadlineView;
+import com.demo.copilot.taskmanager.infrastructure.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fires {@link TaskDeadlineEvent}s when active tasks become due soon or overdue.
+ *
+ * Upcoming thresholds are held in a {@link HashedTimingWheel}. The wheel is
+ * filled lazily one horizon at a time with index range queries on the due
+ * date, and kept current from committed {@link TaskChangedEvent}s, so the
+ * work done is proportional to the number of deadlines crossed rather than
+ * to the size of the tasks table.
+ *
+ * Every scheduled task carries a stamp; rescheduling a task issues a new
+ * stamp and timers holding an older one are dropped when they expire, which
+ * replaces explicit cancellation. Tasks that were already overdue when the
+ * application started are not reported again. A task created or rescheduled
+ * with its due-soon threshold already behind it, but not yet overdue, is
+ * reported as due soon right away.
+ */
+@Component
+@ConditionalOnProperty(name = "app.deadlines.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskDeadlineScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskDeadlineScheduler.class);
+
+    private static final Set<TaskStatus> ACTIVE_STATUSES =
+            EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.IN_REVIEW);
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HashedTimingWheel<DeadlineTimer> wheel;
+    private final Duration horizon;
+    private final Duration dueSoon;
+    private final int batchSize;
+    private final ExecutorService dispatcher;
+
+    private final ConcurrentHashMap<UUID, Long> stamps = new ConcurrentHashMap<>();
+    private final AtomicLong stampSequence = new AtomicLong();
+    private final ReentrantLock horizonLock = new ReentrantLock();
+    private volatile Instant loadedUntil;
+
+    public TaskDeadlineScheduler(TaskRepository taskRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${app.deadlines.tick:1s}") Duration tick,
+                                 @Value("${app.deadlines.wheel-size:512}") int wheelSize,
+                                 @Value("${app.deadlines.horizon:1h}") Duration horizon,
+                                 @Value("${app.stats.due-soon-hours:24}") int dueSoonHours,
+                                 @Value("${app.deadlines.batch-size:500}") int batchSize,
+                                 @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.horizon = horizon;
+        this.dueSoon = Duration.ofHours(dueSoonHours);
+        this.batchSize = Math.max(1, batchSize);
+        this.wheel = new HashedTimingWheel<>("task-deadline-wheel", tick, wheelSize, this::onExpired);
+        // Listeners may block on the database, so follow the application's threading mode
+        this.dispatcher = Executors.newSingleThreadExecutor(virtualThreads
+                ? Thread.ofVirtual().name("task-deadline-dispatch").factory()
+                : Thread.ofPlatform().name("task-deadline-dispatch").daemon().factory());
+    }
+
+    /**
+     * Load the first horizon once the application is up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        loadedUntil = Instant.now();
+        wheel.start();
+        extendHorizon();
+    }
+
+    /**
+     * Keep the loaded window one horizon ahead of the clock.
+     */
+    @Scheduled(fixedDelayString = "${app.deadlines.preload-interval-ms:60000}")
+    public void extendHorizon() {
+        if (loadedUntil == null) {
+            return;
+        }
+        horizonLock.lock();
+        try {
+            Instant from = loadedUntil;
+            Instant to = Instant.now().plus(horizon);
+            if (!to.isAfter(from)) {
+                return;
+            }
+            int loaded = load(TaskDeadlineEvent.Kind.OVERDUE, from, to, Duration.ZERO)
+                    + load(TaskDeadlineEvent.Kind.DUE_SOON, from, to, dueSoon);
+            loadedUntil = to;
+            log.debug("Loaded {} task deadlines for window {} - {}", loaded, from, to);
+        } finally {
+            horizonLock.unlock();
+        }
+    }
+
+    /**
+     * Reschedule a task whose due date, status or archive flag changed.
+     */
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskSnapshot previous = event.getPrevious();
+        TaskSnapshot current = event.getCurrent();
+        if (previous != null && current != null
+                && Objects.equals(previous.getDueDate(), current.getDueDate())
+                && previous.getStatus() == current.getStatus()
+                && Objects.equals(previous.getIsArchived(), current.getIsArchived())) {
+            return;
+        }
+        UUID taskId = event.getTaskId().getValue();
+        // Serialized with horizon loads so a load that read the old row cannot
+        // resurrect a stamp removed or replaced here
+        horizonLock.lock();
+        try {
+            if (current == null || !isSchedulable(current)) {
+                stamps.remove(taskId);
+                return;
+            }
+            long stamp = stampSequence.incrementAndGet();
+            Instant due = current.getDueDate().toInstant();
+            Instant now = Instant.now();
+            if (isDueSoon(due, now) && (previous == null || !isSchedulable(previous)
+                    || !isDueSoon(previous.getDueDate().toInstant(), now))) {
+                // The change, not the clock, moved the task into its due-soon window
+                dispatch(TaskDeadlineEvent.Kind.DUE_SOON, List.of(taskId), now);
+            }
+            boolean scheduled = scheduleIfLoaded(taskId, stamp, TaskDeadlineEvent.Kind.OVERDUE, due, now)
+                    | scheduleIfLoaded(taskId, stamp, TaskDeadlineEvent.Kind.DUE_SOON, due.minus(dueSoon), now);
+            if (scheduled) {
+                stamps.put(taskId, stamp);
+            } else {
+                // Nothing inside the loaded window; a later horizon load issues a fresh stamp
+                stamps.remove(taskId);
+            }
+        } finally {
+            horizonLock.unlock();
+        }
+    }
+
+    /**
+     * Number of deadline timers currently held in the wheel.
+     */
+    public long getScheduledCount() {
+        return wheel.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.close();
+        dispatcher.shutdown();
+    }
+
+    private int load(TaskDeadlineEvent.Kind kind, Instant from, Instant to, Duration lead) {
+        List<TaskDeadlineView> deadlines = taskRepository.findDeadlinesBetween(
+                OffsetDateTime.ofInstant(from.plus(lead), ZoneOffset.UTC),
+                OffsetDateTime.ofInstant(to.plus(lead), ZoneOffset.UTC),
+                ACTIVE_STATUSES);
+        for (TaskDeadlineView deadline : deadlines) {
+            // Reuse an existing stamp so loading the overdue threshold does not
+            // invalidate a due-soon timer of the same task
+            long stamp = stamps.computeIfAbsent(deadline.getId(), id -> stampSequence.incrementAndGet());
+            wheel.schedule(new DeadlineTimer(deadline.getId(), stamp, kind),
+                    deadline.getDueDate().toInstant().minus(lead));
+        }
+        return deadlines.size();
+    }
+
+    private boolean scheduleIfLoaded(UUID taskId, long stamp, TaskDeadlineEvent.Kind kind, Instant at, Instant now) {
+        // Thresholds beyond the loaded window are picked up by the next horizon load
+        if (loadedUntil == null || !at.isAfter(now) || !at.isBefore(loadedUntil)) {
+            return false;
+        }
+        wheel.schedule(new DeadlineTimer(taskId, stamp, kind), at);
+        return true;
+    }
+
+    private void onExpired(List<DeadlineTimer> timers) {
+        List<UUID> dueSoonIds = new ArrayList<>();
+        List<UUID> overdueIds = new ArrayList<>();
+        for (DeadlineTimer timer : timers) {
+            Long stamp = stamps.get(timer.taskId);
+            if (stamp == null || stamp != timer.stamp) {
+                continue;
+            }
+            if (timer.kind == TaskDeadlineEvent.Kind.OVERDUE) {
+                stamps.remove(timer.taskId, stamp);
+                overdueIds.add(timer.taskId);
+            } else {
+                dueSoonIds.add(timer.taskId);
+            }
+        }
+        Instant firedAt = Instant.now();
+        dispatch(TaskDeadlineEvent.Kind.DUE_SOON, dueSoonIds, firedAt);
+        dispatch(TaskDeadlineEvent.Kind.OVERDUE, overdueIds, firedAt);
+    }
+
+    private void dispatch(TaskDeadlineEvent.Kind kind, List<UUID> taskIds, Instant firedAt) {
+        for (int from = 0; from < taskIds.size(); from += batchSize) {
+            TaskDeadlineEvent event = new TaskDeadlineEvent(kind,
+                    taskIds.subList(from, Math.min(from + batchSize, taskIds.size())), firedAt);
+            try {
+                dispatcher.execute(() -> eventPublisher.publishEvent(event));
+            } catch (RejectedExecutionException e) {
+                log.debug("Dropping {} during shutdown", event);
+            }
+        }
+    }
+
+    private boolean isDueSoon(Instant due, Instant now) {
+        return due.isAfter(now) && !due.minus(dueSoon).isAfter(now);
+    }
+
+    private static boolean isSchedulable(TaskSnapshot task) {
+        return task.getDueDate() != null
+                && ACTIVE_STATUSES.contains(task.getStatus())
+                && !Boolean.TRUE.equals(task.getIsArchived());
+    }
+
+    private static final class DeadlineTimer {
+
+        private final UUID taskId;
+        private final long stamp;
+        private final TaskDeadlineEvent.Kind kind;
+
+        private DeadlineTimer(UUID taskId, long stamp, TaskDeadlineEvent.Kind kind) {
+            this.taskId = taskId;
+            this.stamp = stamp;
+            this.kind = kind;
+        }
+    }
+}
@@ -0,0 +1,518 @@
+package com.demo.copilot.taskmanager.infrastructure.search;
+
+import com.demo.copilot.taskmanager.application.event.TaskChangedEvent;
+import com.demo.copilot.taskmanager.application.event.TaskSnapshot;
+import com.demo.copilot.taskmanager.application.event.TasksEscalatedEvent;
+import com.demo.copilot.taskmanager.domain.entity.Task;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskCategory;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskId;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskPriority;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+import com.demo.copilot.taskmanager.domain.valueobject.UserId;
+import com.demo.copilot.taskmanager.infrastructure.datasource.ConnectionPoolContext;
+import com.demo.copilot.taskmanager.infrastructure.datasource.PoolType;
+import com.demo.copilot.taskmanager.infrastructure.datasource.PrimaryReadContext;
+import com.demo.copilot.taskmanager.infrastructure.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Embedded Lucene full-text index over task title, description and category.
+ *
+ * The index is kept current from committed {@link TaskChangedEvent}s and is
+ * refreshed near-real-time by a background reopen thread. On startup it is
+ * rebuilt from a streaming scan of the tasks table, with document building
+ * spread across a small worker pool. Search results are served entirely from
+ * stored fields, so queries never touch the database.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_KEY = "key";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_DESCRIPTION = "description";
+    static final String FIELD_CATEGORY = "category";
+    static final String FIELD_STATUS = "status";
+    static final String FIELD_PRIORITY = "priority";
+    static final String FIELD_ASSIGNED_TO = "assignedTo";
+    static final String FIELD_CREATED_BY = "createdBy";
+    static final String FIELD_ARCHIVED = "archived";
+    static final String FIELD_DUE_DATE = "dueDate";
+    static final String FIELD_CREATED_AT = "createdAt";
+    static final String FIELD_UPDATED_AT = "updatedAt";
+    static final String FIELD_GENERATION = "generation";
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Timer searchTimer;
+    private final int rebuildThreads;
+    private final int maxResultWindow;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    /**
+     * Ids written by live mutations while a rebuild is running. The rebuild
+     * skips them so that a stale row read by the scan never overwrites a
+     * newer document. Live and rebuild writes for an id both run inside a
+     * compute on this map, so the check and the write are atomic per id.
+     */
+    private final ConcurrentHashMap<TaskId, Boolean> touchedDuringRebuild = new ConcurrentHashMap<>();
+    /**
+     * Stamped on every document written; a rebuild starts a new generation
+     * and, once it has finished, deletes documents still carrying an older
+     * one. Readers keep seeing the previous contents while it runs.
+     */
+    private volatile String generation = UUID.randomUUID().toString();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public TaskSearchIndex(TaskRepository taskRepository,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.search.index-path:}") String indexPath,
+                           @Value("${app.search.rebuild-threads:2}") int rebuildThreads,
+                           @Value("${app.search.max-result-window:1000}") int maxResultWindow,
+                           @Value("${app.search.refresh-max-stale-ms:1000}") long refreshMaxStaleMs,
+                           @Value("${app.search.refresh-min-stale-ms:25}") long refreshMinStaleMs) throws IOException {
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rebuildThreads = Math.max(1, rebuildThreads);
+        this.maxResultWindow = maxResultWindow;
+        this.searchTimer = Timer.builder("taskmanager.search.latency")
+                .description("Full-text task search latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        this.directory = indexPath == null || indexPath.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(indexPath));
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, null);
+        this.reopenThread = new ControlledRealTimeReopenThread<>(
+                writer, searcherManager, refreshMaxStaleMs / 1000.0, refreshMinStaleMs / 1000.0);
+        this.reopenThread.setName("task-search-reopen");
+        this.reopenThread.setDaemon(true);
+        this.reopenThread.start();
+    }
+
+    /**
+     * Rebuild the index once the application is ready to serve traffic.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread thread = new Thread(() -> ConnectionPoolContext.run(PoolType.REPORTING, this::rebuild),
+                "task-search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Apply a committed task change to the index.
+     */
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        try {
+            if (event.getType() == TaskChangedEvent.Type.DELETED) {
+                writeLive(event.getTaskId(), () ->
+                        writer.deleteDocuments(new Term(FIELD_ID, event.getTaskId().toString())));
+            } else {
+                TaskSnapshot task = event.getCurrent();
+                writeLive(task.getId(), () ->
+                        writer.updateDocument(new Term(FIELD_ID, task.getId().toString()), toDocument(task)));
+            }
+        } catch (IOException e) {
+            log.error("Failed to index task {}: {}", event.getTaskId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Refresh tasks whose priority was raised by a set-based escalation.
+     *
+     * The re-read runs on the primary: the event has no principal to make
+     * it sticky, and a lagging replica would return the old priorities.
+     */
+    @EventListener
+    public void onTasksEscalated(TasksEscalatedEvent event) {
+        List<TaskId> ids = event.getTaskIds().stream().map(TaskId::of).toList();
+        List<TaskSnapshot> tasks = PrimaryReadContext.call(() -> readOnlyTransaction.execute(status ->
+                taskRepository.findAllById(ids).stream().map(TaskSnapshot::of).toList()));
+        try {
+            for (TaskSnapshot task : tasks) {
+                writeLive(task.getId(), () ->
+                        writer.updateDocument(new Term(FIELD_ID, task.getId().toString()), toDocument(task)));
+            }
+        } catch (IOException e) {
+            log.error("Failed to index {} escalated tasks: {}", tasks.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuild the whole index from a streaming scan of the tasks table.
+     *
+     * Documents are replaced in place, so searches keep returning the old
+     * contents until the rebuild is done; documents for tasks that no longer
+     * exist are removed at the end. If any batch fails, the stale documents
+     * are kept and the index is not marked ready. The scan reads the primary
+     * so that it never writes rows older than the live updates.
+     */
+    public void rebuild() {
+        long started = System.nanoTime();
+        generation = UUID.randomUUID().toString();
+        rebuilding = true;
+        touchedDuringRebuild.clear();
+        ExecutorService workers = Executors.newFixedThreadPool(rebuildThreads, namedThreads("task-search-indexer"));
+        Semaphore inFlight = new Semaphore(rebuildThreads * 2);
+        List<Future<?>> batches = new ArrayList<>();
+        AtomicLong indexed = new AtomicLong();
+        try {
+            PrimaryReadContext.run(() -> readOnlyTransaction.executeWithoutResult(status -> {
+                List<TaskSnapshot> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+                try (Stream<Task> tasks = taskRepository.streamAllBy()) {
+                    tasks.forEach(task -> {
+                        batch.add(TaskSnapshot.of(task));
+                        entityManager.detach(task);
+                        if (batch.size() == REBUILD_BATCH_SIZE) {
+                            batches.add(submitBatch(workers, inFlight, new ArrayList<>(batch), indexed));
+                            batch.clear();
+                        }
+                    });
+                }
+                if (!batch.isEmpty()) {
+                    batches.add(submitBatch(workers, inFlight, batch, indexed));
+                }
+            }));
+            workers.shutdown();
+            for (Future<?> batch : batches) {
+                batch.get();
+            }
+            writer.deleteDocuments(new BooleanQuery.Builder()
+                    .add(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER)
+                    .add(new TermQuery(new Term(FIELD_GENERATION, generation)), BooleanClause.Occur.MUST_NOT)
+                    .build());
+            writer.commit();
+            searcherManager.maybeRefresh();
+            ready = true;
+            log.info("Task search index rebuilt with {} documents in {} ms",
+                    indexed.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (IOException | RuntimeException e) {
+            log.error("Task search index rebuild failed: {}", e.getMessage());
+        } catch (ExecutionException e) {
+            log.error("Task search index rebuild failed: {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            workers.shutdownNow();
+            rebuilding = false;
+            touchedDuringRebuild.clear();
+        }
+    }
+
+    private Future<?> submitBatch(ExecutorService workers, Semaphore inFlight, List<TaskSnapshot> batch, AtomicLong indexed) {
+        inFlight.acquireUninterruptibly();
+        return workers.submit(() -> {
+            try {
+                for (TaskSnapshot task : batch) {
+                    touchedDuringRebuild.computeIfAbsent(task.getId(), id -> {
+                        applyUnchecked(() ->
+                                writer.updateDocument(new Term(FIELD_ID, id.toString()), toDocument(task)));
+                        indexed.incrementAndGet();
+                        return null;
+                    });
+                }
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    /**
+     * Apply a live write, recording its id first if a rebuild is running.
+     */
+    private void writeLive(TaskId id, IndexWrite write) throws IOException {
+        if (!rebuilding) {
+            write.apply();
+            return;
+        }
+        try {
+            touchedDuringRebuild.compute(id, (key, touched) -> {
+                applyUnchecked(write);
+                return Boolean.TRUE;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void applyUnchecked(IndexWrite write) {
+        try {
+            write.apply();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexWrite {
+        void apply() throws IOException;
+    }
+
+    /**
+     * Search tasks by free text using prefix and fuzzy matching.
+     *
+     * @param text  user supplied query text
+     * @param scope restrict results to tasks assigned to or created by this
+     *              user, or {@code null} to search all non-archived tasks
+     * @throws IllegalArgumentException if the page ends beyond
+     *              {@code app.search.max-result-window} hits
+     */
+    public Page<TaskSnapshot> search(String text, UserId scope, Pageable pageable) {
+        if (pageable.getOffset() + pageable.getPageSize() > maxResultWindow) {
+            throw new IllegalArgumentException(
+                    "Search results are limited to the first " + maxResultWindow + " hits");
+        }
+        long started = System.nanoTime();
+        try {
+            Query query = buildQuery(text, scope);
+            if (query == null) {
+                return Page.empty(pageable);
+            }
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int offset = (int) pageable.getOffset();
+                TopDocs topDocs = searcher.search(query, offset + pageable.getPageSize());
+                long total = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                        ? topDocs.totalHits.value
+                        : searcher.count(query);
+                List<TaskSnapshot> content = new ArrayList<>(pageable.getPageSize());
+                ScoreDoc[] hits = topDocs.scoreDocs;
+                for (int i = offset; i < hits.length; i++) {
+                    content.add(fromDocument(searcher.storedFields().document(hits[i].doc)));
+                }
+                return new PageImpl<>(content, pageable, total);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Task search failed", e);
+        } finally {
+            searchTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Whether the startup rebuild has completed.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    private Query buildQuery(String text, UserId scope) throws IOException {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder perTerm = new BooleanQuery.Builder();
+            addTermClauses(perTerm, FIELD_TITLE, term, 3.0f);
+            addTermClauses(perTerm, FIELD_DESCRIPTION, term, 1.0f);
+            perTerm.add(new TermQuery(new Term(FIELD_CATEGORY, term)), BooleanClause.Occur.SHOULD);
+            query.add(perTerm.build(), BooleanClause.Occur.MUST);
+        }
+        query.add(new TermQuery(new Term(FIELD_ARCHIVED, "false")), BooleanClause.Occur.FILTER);
+        if (scope != null) {
+            BooleanQuery.Builder access = new BooleanQuery.Builder()
+                    .add(new TermQuery(new Term(FIELD_ASSIGNED_TO, scope.toString())), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(FIELD_CREATED_BY, scope.toString())), BooleanClause.Occur.SHOULD);
+            query.add(access.build(), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private void addTermClauses(BooleanQuery.Builder builder, String field, String term, float boost) {
+        builder.add(new BoostQuery(new TermQuery(new Term(field, term)), boost * 2), BooleanClause.Occur.SHOULD);
+        if (term.length() >= MIN_PREFIX_LENGTH) {
+            builder.add(new BoostQuery(new PrefixQuery(new Term(field, term)), boost), BooleanClause.Occur.SHOULD);
+        }
+        int maxEdits = term.length() < 4 ? 0 : term.length() < 8 ? 1 : 2;
+        if (maxEdits > 0) {
+            builder.add(new BoostQuery(new FuzzyQuery(new Term(field, term), maxEdits, 1), boost / 2),
+                    BooleanClause.Occur.SHOULD);
+        }
+    }
+
+    private List<String> analyze(String text) throws IOException {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(FIELD_TITLE, text)) {
+            CharTermAttribute attribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(attribute.toString());
+            }
+            stream.end();
+        }
+        return terms;
+    }
+
+    private Document toDocument(TaskSnapshot task) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, task.getId().toString(), Field.Store.YES));
+        document.add(new StringField(FIELD_GENERATION, generation, Field.Store.NO));
+        if (task.getTaskKey() != null) {
+            document.add(new StoredField(FIELD_KEY, task.getTaskKey()));
+        }
+        document.add(new TextField(FIELD_TITLE, nullToEmpty(task.getTitle()), Field.Store.YES));
+        if (task.getDescription() != null) {
+            document.add(new TextField(FIELD_DESCRIPTION, task.getDescription(), Field.Store.NO));
+        }
+        if (task.getCategory() != null) {
+            document.add(new TextField(FIELD_CATEGORY,
+                    task.getCategory().name().toLowerCase(Locale.ROOT) + " " + task.getCategory().getDisplayName(),
+                    Field.Store.NO));
+            document.add(new StoredField(FIELD_CATEGORY, task.getCategory().name()));
+        }
+        document.add(new StoredField(FIELD_STATUS, task.getStatus().name()));
+        document.add(new StoredField(FIELD_PRIORITY, task.getPriority().name()));
+        document.add(new StringField(FIELD_ASSIGNED_TO, task.getAssignedTo().toString(), Field.Store.YES));
+        document.add(new StringField(FIELD_CREATED_BY, task.getCreatedBy().toString(), Field.Store.YES));
+        document.add(new StringField(FIELD_ARCHIVED, String.valueOf(Boolean.TRUE.equals(task.getIsArchived())), Field.Store.NO));
+        storeDate(document, FIELD_DUE_DATE, task.getDueDate());
+        storeDate(document, FIELD_CREATED_AT, task.getCreatedAt());
+        storeDate(document, FIELD_UPDATED_AT, task.getUpdatedAt());
+        return document;
+    }
+
+    private TaskSnapshot fromDocument(Document document) {
+        String category = document.get(FIELD_CATEGORY);
+        return new TaskSnapshot.Builder()
+                .id(TaskId.of(document.get(FIELD_ID)))
+                .taskKey(document.get(FIELD_KEY))
+                .title(document.get(FIELD_TITLE))
+                .status(TaskStatus.valueOf(document.get(FIELD_STATUS)))
+                .priority(TaskPriority.valueOf(document.get(FIELD_PRIORITY)))
+                .category(category != null ? TaskCategory.valueOf(category) : null)
+                .assignedTo(UserId.of(document.get(FIELD_ASSIGNED_TO)))
+                .createdBy(UserId.of(document.get(FIELD_CREATED_BY)))
+                .dueDate(readDate(document, FIELD_DUE_DATE))
+                .createdAt(readDate(document, FIELD_CREATED_AT))
+                .updatedAt(readDate(document, FIELD_UPDATED_AT))
+                .build();
+    }
+
+    private static void storeDate(Document document, String field, OffsetDateTime value) {
+        if (value != null) {
+            document.add(new StoredField(field, value.toString()));
+        }
+    }
+
+    private static OffsetDateTime readDate(Document document, String field) {
+        String value = document.get(field);
+        return value != null ? OffsetDateTime.parse(value) : null;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+}
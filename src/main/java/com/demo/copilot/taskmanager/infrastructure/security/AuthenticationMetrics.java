@@ -0,0 +1,124 @@
+package com.demo.copilot.taskmanager.infrastructure.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authentication counters and timings.
+ *
+ * Every tag value comes from the enums below, never from user input, so
+ * credential-stuffing traffic cannot blow up the number of series:
+ * <ul>
+ *   <li>{@code taskmanager.auth.success} by method</li>
+ *   <li>{@code taskmanager.auth.failure} by method and reason</li>
+ *   <li>{@code taskmanager.auth.rejected} by reason, for requests turned away
+ *       without checking credentials</li>
+ *   <li>{@code taskmanager.auth.latency} by method, including BCrypt</li>
+ * </ul>
+ */
+@Component
+public class AuthenticationMetrics {
+
+    public enum Method {
+        LOGIN, REGISTER, TOKEN
+    }
+
+    public enum FailureReason {
+        BAD_CREDENTIALS, DISABLED, LOCKED, EXPIRED_TOKEN, INVALID_TOKEN, OTHER
+    }
+
+    public enum RejectionReason {
+        THROTTLED, UNAUTHENTICATED
+    }
+
+    private final Map<Method, Counter> successes = new EnumMap<>(Method.class);
+    private final Map<Method, Map<FailureReason, Counter>> failures = new EnumMap<>(Method.class);
+    private final Map<RejectionReason, Counter> rejections = new EnumMap<>(RejectionReason.class);
+    private final Map<Method, Timer> latencies = new EnumMap<>(Method.class);
+
+    public AuthenticationMetrics(MeterRegistry meterRegistry) {
+        for (Method method : Method.values()) {
+            successes.put(method, Counter.builder("taskmanager.auth.success")
+                    .description("Successful authentications")
+                    .tag("method", tagValue(method))
+                    .register(meterRegistry));
+            Map<FailureReason, Counter> byReason = new EnumMap<>(FailureReason.class);
+            for (FailureReason reason : FailureReason.values()) {
+                byReason.put(reason, Counter.builder("taskmanager.auth.failure")
+                        .description("Failed authentications")
+                        .tag("method", tagValue(method))
+                        .tag("reason", tagValue(reason))
+                        .register(meterRegistry));
+            }
+            failures.put(method, byReason);
+            latencies.put(method, Timer.builder("taskmanager.auth.latency")
+                    .description("Time spent verifying credentials or tokens")
+                    .tag("method", tagValue(method))
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(5))
+                    .register(meterRegistry));
+        }
+        for (RejectionReason reason : RejectionReason.values()) {
+            rejections.put(reason, Counter.builder("taskmanager.auth.rejected")
+                    .description("Requests refused without verifying credentials")
+                    .tag("reason", tagValue(reason))
+                    .register(meterRegistry));
+        }
+    }
+
+    public void success(Method method, long startedNanos) {
+        successes.get(method).increment();
+        latencies.get(method).record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void failure(Method method, FailureReason reason, long startedNanos) {
+        failures.get(method).get(reason).increment();
+        latencies.get(method).record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void failure(Method method, Exception cause, long startedNanos) {
+        failure(method, reasonOf(cause), startedNanos);
+    }
+
+    public void rejected(RejectionReason reason) {
+        rejections.get(reason).increment();
+    }
+
+    static FailureReason reasonOf(Exception cause) {
+        if (cause instanceof BadCredentialsException) {
+            return FailureReason.BAD_CREDENTIALS;
+        }
+        if (cause instanceof DisabledException) {
+            return FailureReason.DISABLED;
+        }
+        if (cause instanceof LockedException) {
+            return FailureReason.LOCKED;
+        }
+        if (cause instanceof ExpiredJwtException) {
+            return FailureReason.EXPIRED_TOKEN;
+        }
+        if (cause instanceof JwtException || cause instanceof UsernameNotFoundException) {
+            return FailureReason.INVALID_TOKEN;
+        }
+        return FailureReason.OTHER;
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,99 @@
+package com.demo.copilot.taskmanager.infrastructure.security;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Fixed-size frequency estimator for string keys.
+ *
+ * A count-min sketch never underestimates a count and overestimates it by a
+ * bounded amount that depends only on its width, so memory is the same for
+ * ten keys or ten million. Every row is incremented atomically, so concurrent
+ * updates never lose a count; conservative update (raising only the rows at
+ * the minimum) would overestimate less but cannot be done without a lock.
+ * {@link #halve()} ages all counts at once. Keys are hashed with a random
+ * per-instance seed so collisions cannot be chosen in advance.
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final AtomicIntegerArray counters;
+    private final long seed = ThreadLocalRandom.current().nextLong();
+
+    /**
+     * @param width counters per row, rounded up to a power of two
+     * @param depth number of rows
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("Sketch width and depth must be positive");
+        }
+        int size = 1;
+        while (size < width) {
+            size <<= 1;
+        }
+        this.depth = depth;
+        this.mask = size - 1;
+        this.counters = new AtomicIntegerArray(size * depth);
+    }
+
+    /**
+     * Count one occurrence of the key.
+     *
+     * @return the estimated count including this occurrence
+     */
+    public int increment(String key) {
+        long hash = hash(key);
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int count = counters.updateAndGet(index(hash, row), value -> value == Integer.MAX_VALUE ? value : value + 1);
+            min = Math.min(min, count);
+        }
+        return min;
+    }
+
+    /**
+     * Estimated count of the key; never lower than the true count since the last aging.
+     */
+    public int estimate(String key) {
+        return estimate(hash(key));
+    }
+
+    /**
+     * Halve every counter so old occurrences fade out.
+     */
+    public void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, value -> value >>> 1);
+        }
+    }
+
+    private int estimate(long hash) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(index(hash, row)));
+        }
+        return min;
+    }
+
+    private int index(long hash, int row) {
+        // Double hashing derives one independent-enough index per row from a single hash
+        int combined = (int) hash + row * (int) (hash >>> 32);
+        return row * (mask + 1) + (combined & mask);
+    }
+
+    private long hash(String key) {
+        long h = seed;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        // Final avalanche from MurmurHash3
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h | 1L << 32;
+    }
+}
@@ -1,11 +1,14 @@
 package com.demo.copilot.taskmanager.infrastructure.security;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
@@ -22,14 +25,25 @@ import jakarta.servlet.http.HttpServletResponse;
  * 
  * This entry point is triggered when an unauthenticated user tries to access
  * a protected resource. It returns a structured JSON error response.
+ * Clients whose IP is blocked by the {@link LoginFailureTracker} get a
+ * pre-serialized 429 body instead, so turning them away costs no JSON
+ * serialization.
  */
 @Component
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
+    private static final byte[] THROTTLED_BODY = ("{\"status\":429,\"error\":\"Too Many Requests\","
+            + "\"message\":\"Too many failed login attempts, please retry later\"}").getBytes(StandardCharsets.UTF_8);
+
     private final ObjectMapper objectMapper;
+    private final LoginFailureTracker loginFailureTracker;
+    private final AuthenticationMetrics authenticationMetrics;
 
-    public JwtAuthenticationEntryPoint(ObjectMapper objectMapper) {
+    public JwtAuthenticationEntryPoint(ObjectMapper objectMapper, LoginFailureTracker loginFailureTracker,
+                                       AuthenticationMetrics authenticationMetrics) {
         this.objectMapper = objectMapper;
+        this.loginFailureTracker = loginFailureTracker;
+        this.authenticationMetrics = authenticationMetrics;
     }
 
     @Override
@@ -37,6 +51,18 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
                         HttpServletResponse response,
                         AuthenticationException authException) throws IOException, ServletException {
 
+        if (loginFailureTracker.isIpBlocked(request.getRemoteAddr())) {
+            authenticationMetrics.rejected(AuthenticationMetrics.RejectionReason.THROTTLED);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER,
+                    Long.toString(Math.max(1, loginFailureTracker.getRetryAfter().toSeconds())));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(THROTTLED_BODY.length);
+            response.getOutputStream().write(THROTTLED_BODY);
+            return;
+        }
+
+        authenticationMetrics.rejected(AuthenticationMetrics.RejectionReason.UNAUTHENTICATED);
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
 
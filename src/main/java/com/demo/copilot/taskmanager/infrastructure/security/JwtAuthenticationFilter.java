@@ -1,7 +1,10 @@
 package com.demo.copilot.taskmanager.infrastructure.security;
 
 import java.io.IOException;
+import java.util.Locale;
 
+import com.demo.copilot.taskmanager.infrastructure.diagnostics.AuthenticationFilterEvent;
+import com.demo.copilot.taskmanager.infrastructure.diagnostics.RequestTimings;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,6 +24,7 @@ import jakarta.servlet.http.HttpServletResponse;
  * 
  * This filter extracts JWT tokens from the Authorization header,
  * validates them, and sets up the security context for authenticated users.
+ * Each attempt is recorded as an {@link AuthenticationFilterEvent}.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -30,10 +34,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final AuthenticationMetrics authenticationMetrics;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService,
+                                   AuthenticationMetrics authenticationMetrics) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.authenticationMetrics = authenticationMetrics;
     }
 
     @Override
@@ -55,6 +62,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Extract JWT token
         jwt = authHeader.substring(BEARER_PREFIX.length());
 
+        long started = System.nanoTime();
+        AuthenticationFilterEvent event = new AuthenticationFilterEvent();
+        event.begin();
         try {
             // Extract username from JWT
             username = jwtService.getUsernameFromToken(jwt);
@@ -80,11 +90,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     
                     // Set authentication in SecurityContext
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    authenticationMetrics.success(AuthenticationMetrics.Method.TOKEN, started);
+                    event.setOutcome("authenticated");
+                } else {
+                    authenticationMetrics.failure(AuthenticationMetrics.Method.TOKEN,
+                            AuthenticationMetrics.FailureReason.INVALID_TOKEN, started);
+                    event.setOutcome("invalid_token");
                 }
+            } else {
+                event.setOutcome("already_authenticated");
             }
         } catch (Exception e) {
-            // Log the exception (in a real app, use proper logging)
-            logger.error("Cannot set user authentication: " + e.getMessage());
+            authenticationMetrics.failure(AuthenticationMetrics.Method.TOKEN, e, started);
+            event.setOutcome(AuthenticationMetrics.reasonOf(e).name().toLowerCase(Locale.ROOT));
+            // A bad token is the client's problem; warnings are rate limited with the security category
+            logger.warn("Cannot set user authentication: " + e.getMessage());
+        }
+        RequestTimings.recordAuthentication(System.nanoTime() - started);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setRequest(request.getMethod(), request.getRequestURI());
+            event.commit();
         }
 
         filterChain.doFilter(request, response);
@@ -1,7 +1,10 @@
 package com.demo.copilot.taskmanager.infrastructure.security;
 
+import com.demo.copilot.taskmanager.infrastructure.diagnostics.JwtOperationEvent;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -14,10 +17,13 @@ import java.util.function.Function;
 
 /**
  * JWT token service for generating and validating JWT tokens.
+ * Signing and parsing are recorded as {@link JwtOperationEvent}s.
  */
 @Service
 public class JwtService {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtService.class);
+
     @Value("${spring.security.jwt.secret}")
     private String jwtSecret;
 
@@ -38,11 +44,20 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        JwtOperationEvent event = new JwtOperationEvent("parse");
+        event.begin();
+        try {
+            return Jwts.parser()
+                    .verifyWith(getSignInKey())
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.commit();
+        }
     }
 
     private Boolean isTokenExpired(String token) {
@@ -62,13 +77,22 @@ public class JwtService {
             UserDetails userDetails,
             long expiration
     ) {
-        return Jwts.builder()
-                .claims(extraClaims)
-                .subject(userDetails.getUsername())
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey())
-                .compact();
+        JwtOperationEvent event = new JwtOperationEvent("generate");
+        event.begin();
+        try {
+            return Jwts.builder()
+                    .claims(extraClaims)
+                    .subject(userDetails.getUsername())
+                    .issuedAt(new Date(System.currentTimeMillis()))
+                    .expiration(new Date(System.currentTimeMillis() + expiration))
+                    .signWith(getSignInKey())
+                    .compact();
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.commit();
+        }
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
@@ -77,6 +101,8 @@ public class JwtService {
     }
 
     public boolean validateToken(String token) {
+        JwtOperationEvent event = new JwtOperationEvent("validate");
+        event.begin();
         try {
             Jwts.parser()
                 .verifyWith(getSignInKey())
@@ -84,13 +110,19 @@ public class JwtService {
                 .parseSignedClaims(token);
             return true;
         } catch (ExpiredJwtException e) {
-            System.err.println("JWT token is expired: " + e.getMessage());
+            event.failed(e);
+            log.debug("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
-            System.err.println("JWT token is unsupported: " + e.getMessage());
+            event.failed(e);
+            log.warn("JWT token is unsupported: {}", e.getMessage());
         } catch (MalformedJwtException e) {
-            System.err.println("JWT token is malformed: " + e.getMessage());
+            event.failed(e);
+            log.warn("JWT token is malformed: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
-            System.err.println("JWT claims string is empty: " + e.getMessage());
+            event.failed(e);
+            log.warn("JWT claims string is empty: {}", e.getMessage());
+        } finally {
+            event.commit();
         }
         return false;
     }
@@ -0,0 +1,88 @@
+package com.demo.copilot.taskmanager.infrastructure.security;
+
+import com.demo.copilot.taskmanager.application.exception.LoginThrottledException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Counts failed logins per client IP and per account in a fixed-memory
+ * {@link CountMinSketch} and refuses further attempts once either count
+ * crosses its threshold.
+ *
+ * The check runs before any password is verified, so a credential-stuffing
+ * attack stops costing BCrypt work as soon as it is detected. Counts are
+ * halved every decay interval, which lets a blocked IP or account recover
+ * after a few quiet intervals.
+ *
+ * The IP is {@code getRemoteAddr()}, which is only the client's address when
+ * the load balancer is listed in {@code server.tomcat.remoteip.internal-proxies}.
+ * Otherwise every client behind it shares one IP and one failure budget.
+ */
+@Component
+public class LoginFailureTracker {
+
+    private final boolean enabled;
+    private final CountMinSketch failures;
+    private final int ipThreshold;
+    private final int accountThreshold;
+    private final Duration retryAfter;
+
+    public LoginFailureTracker(@Value("${app.auth.throttle.enabled:true}") boolean enabled,
+                               @Value("${app.auth.throttle.sketch-width:65536}") int sketchWidth,
+                               @Value("${app.auth.throttle.sketch-depth:4}") int sketchDepth,
+                               @Value("${app.auth.throttle.ip-threshold:50}") int ipThreshold,
+                               @Value("${app.auth.throttle.account-threshold:10}") int accountThreshold,
+                               @Value("${app.auth.throttle.decay-interval-ms:300000}") long decayIntervalMs) {
+        this.enabled = enabled;
+        this.failures = new CountMinSketch(sketchWidth, sketchDepth);
+        this.ipThreshold = ipThreshold;
+        this.accountThreshold = accountThreshold;
+        this.retryAfter = Duration.ofMillis(decayIntervalMs);
+    }
+
+    /**
+     * Reject the login attempt if the IP or the account has failed too often.
+     *
+     * @throws LoginThrottledException when the attempt must not be verified
+     */
+    public void checkAllowed(String ip, String account) {
+        if (isIpBlocked(ip) || (enabled && failures.estimate(accountKey(account)) >= accountThreshold)) {
+            throw new LoginThrottledException(retryAfter);
+        }
+    }
+
+    /**
+     * Whether requests from this IP should be turned away without further work.
+     */
+    public boolean isIpBlocked(String ip) {
+        return enabled && failures.estimate(ipKey(ip)) >= ipThreshold;
+    }
+
+    public void recordFailure(String ip, String account) {
+        if (enabled) {
+            failures.increment(ipKey(ip));
+            failures.increment(accountKey(account));
+        }
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.throttle.decay-interval-ms:300000}")
+    public void decay() {
+        failures.halve();
+    }
+
+    private static String ipKey(String ip) {
+        return "ip:" + ip;
+    }
+
+    private static String accountKey(String account) {
+        return "account:" + (account == null ? "" : account.toLowerCase(Locale.ROOT));
+    }
+}
@@ -1,5 +1,10 @@
 package com.demo.copilot.taskmanager.infrastructure.security;
 
+import com.demo.copilot.taskmanager.infrastructure.ratelimit.GcraRateLimiter;
+import com.demo.copilot.taskmanager.infrastructure.ratelimit.RateLimitFilter;
+import com.demo.copilot.taskmanager.infrastructure.ratelimit.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -21,6 +26,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * 
  * This configuration sets up JWT-based stateless authentication with:
  * - JWT authentication filter for Bearer tokens
+ * - Per-principal / per-IP rate limiting right after authentication
  * - Stateless session management
  * - Method-level security
  * - Public endpoints for authentication and documentation
@@ -33,14 +39,23 @@ public class SecurityConfig {
     private final UserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final RateLimitProperties rateLimitProperties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     public SecurityConfig(
             UserDetailsService userDetailsService,
             JwtAuthenticationFilter jwtAuthenticationFilter,
-            JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint) {
+            JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
+            RateLimitProperties rateLimitProperties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
         this.userDetailsService = userDetailsService;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
+        this.rateLimitProperties = rateLimitProperties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -89,6 +104,11 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 // Public endpoints (relative to context path /api)
                 .requestMatchers("/auth/**").permitAll()
+                // Recordings can contain system properties and environment variables;
+                // fingerprints and allocations reveal query shapes and routes and can be reset
+                .requestMatchers("/actuator/flightrecorder/**", "/actuator/flightrecorder",
+                        "/actuator/sqlfingerprints/**", "/actuator/sqlfingerprints",
+                        "/actuator/allocations/**", "/actuator/allocations").hasRole("ADMIN")
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/swagger-ui.html").permitAll()
                 .requestMatchers("/v3/api-docs/**", "/v3/api-docs").permitAll()
@@ -107,6 +127,14 @@ public class SecurityConfig {
             // Add JWT authentication filter before username/password authentication
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
+        // Rate limit once the principal is known. Not a bean, so it only runs inside this chain
+        if (rateLimitProperties.isEnabled()) {
+            GcraRateLimiter rateLimiter = new GcraRateLimiter(
+                    rateLimitProperties.getMaxKeys(), rateLimitProperties.getIdleTimeout());
+            http.addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitProperties, objectMapper, meterRegistry),
+                    JwtAuthenticationFilter.class);
+        }
+
         // For H2 console (development only)
         http.headers(headers -> headers.frameOptions().disable());
 
@@ -0,0 +1,30 @@
+package com.demo.copilot.taskmanager.infrastructure.sequence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * High-water mark of a block-allocated key sequence.
+ *
+ * Rows are advanced with plain JDBC by {@link TaskKeyAllocator}; the mapping
+ * exists so that Hibernate can create the table in profiles that do not run
+ * Flyway.
+ */
+@Entity
+@Table(name = "key_blocks")
+public class KeyBlock {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    protected KeyBlock() {}
+
+    public String getName() { return name; }
+    public long getNextValue() { return nextValue; }
+}
@@ -0,0 +1,161 @@
+package com.demo.copilot.taskmanager.infrastructure.sequence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Allocates human-readable task keys such as {@code TM-10423}.
+ *
+ * Each node reserves a block of numbers by advancing a row in
+ * {@code key_blocks} in its own short transaction and then hands out keys
+ * from memory. The reservation uses a connection opened outside the
+ * application's pools: callers waiting for the refill already hold pooled
+ * connections, and with a small pool the refill could otherwise wait for
+ * one of them until the pool times out. Reserving is the only step that touches the database and the
+ * only one that takes a lock; handing out a key from the current block is a
+ * single atomic increment, so concurrent creates do not serialize. Blocks
+ * never overlap across nodes, but keys are not gap-free: numbers left in a
+ * block when a node stops are skipped, and keys from different nodes
+ * interleave.
+ *
+ * The prefix is fixed once keys exist: keys already issued, including those
+ * backfilled by the V6 migration from {@code app.task-keys.prefix}, keep it,
+ * and {@link #isKey(String)} only accepts the current one.
+ */
+@Component
+public class TaskKeyAllocator {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskKeyAllocator.class);
+
+    static final String SEQUENCE_NAME = "task";
+
+    private static final String ADVANCE_SQL = "UPDATE key_blocks SET next_value = next_value + ? WHERE name = ?";
+    private static final String READ_SQL = "SELECT next_value FROM key_blocks WHERE name = ?";
+    private static final String INSERT_SQL = "INSERT INTO key_blocks (name, next_value) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate reserveTransaction;
+    private final String prefix;
+    private final int blockSize;
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    private volatile Block block = Block.EMPTY;
+
+    @Autowired
+    public TaskKeyAllocator(DataSourceProperties properties,
+                            @Value("${app.task-keys.prefix:TM}") String prefix,
+                            @Value("${app.task-keys.block-size:1000}") int blockSize) {
+        this(properties.initializeDataSourceBuilder().type(SimpleDriverDataSource.class).build(), prefix, blockSize);
+    }
+
+    /**
+     * @param dataSource source of the connections that reserve blocks; should
+     *                   not be a pool the callers of {@link #nextKey()} draw from
+     */
+    public TaskKeyAllocator(DataSource dataSource, String prefix, int blockSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // Never joins the caller's transaction, so a rollback never hands a block out twice
+        this.reserveTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.prefix = prefix + "-";
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    /**
+     * Allocate the next task key.
+     */
+    public String nextKey() {
+        return prefix + nextValue();
+    }
+
+    /**
+     * Allocate the next number of the sequence.
+     */
+    public long nextValue() {
+        while (true) {
+            Block current = block;
+            long value = current.next.getAndIncrement();
+            if (value < current.end) {
+                return value;
+            }
+            refill(current);
+        }
+    }
+
+    /**
+     * Whether a string has the shape of a key issued by this allocator.
+     */
+    public boolean isKey(String key) {
+        if (key == null || !key.startsWith(prefix) || key.length() == prefix.length()) {
+            return false;
+        }
+        for (int i = prefix.length(); i < key.length(); i++) {
+            if (!Character.isDigit(key.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void refill(Block exhausted) {
+        refillLock.lock();
+        try {
+            // Another thread may have refilled while this one waited
+            if (block != exhausted) {
+                return;
+            }
+            long end;
+            try {
+                end = reserveTransaction.execute(status -> reserve());
+            } catch (DuplicateKeyException e) {
+                // Another node created the row first. The failed insert aborted
+                // the transaction (PostgreSQL refuses further statements in it),
+                // so advance the now existing row in a new one.
+                end = reserveTransaction.execute(status -> reserve());
+            }
+            block = new Block(end - blockSize, end);
+            log.debug("Reserved task keys {} - {}", end - blockSize, end - 1);
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    /**
+     * Advance the high-water mark by one block and return its new value; the
+     * reserved range is the block just below it. Creates the row on first use,
+     * which throws {@link DuplicateKeyException} if another node got there first.
+     */
+    private long reserve() {
+        if (jdbcTemplate.update(ADVANCE_SQL, blockSize, SEQUENCE_NAME) == 0) {
+            jdbcTemplate.update(INSERT_SQL, SEQUENCE_NAME, 1L + blockSize);
+            return 1L + blockSize;
+        }
+        return jdbcTemplate.queryForObject(READ_SQL, Long.class, SEQUENCE_NAME);
+    }
+
+    private static final class Block {
+
+        static final Block EMPTY = new Block(0, 0);
+
+        final AtomicLong next;
+        final long end;
+
+        Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
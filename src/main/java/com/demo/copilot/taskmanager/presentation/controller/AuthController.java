@@ -2,18 +2,23 @@ package com.demo.copilot.taskmanager.presentation.controller;
 
 import com.demo.copilot.taskmanager.application.dto.user.CreateUserRequest;
 import com.demo.copilot.taskmanager.application.dto.user.UserResponse;
+import com.demo.copilot.taskmanager.application.exception.LoginThrottledException;
 import com.demo.copilot.taskmanager.application.service.UserService;
+import com.demo.copilot.taskmanager.infrastructure.security.AuthenticationMetrics;
 import com.demo.copilot.taskmanager.infrastructure.security.JwtService;
+import com.demo.copilot.taskmanager.infrastructure.security.LoginFailureTracker;
 import com.demo.copilot.taskmanager.presentation.dto.request.LoginRequest;
 import com.demo.copilot.taskmanager.presentation.dto.response.AuthResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,13 +33,19 @@ public class AuthController {
     private final UserService userService;
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
+    private final LoginFailureTracker loginFailureTracker;
+    private final AuthenticationMetrics authenticationMetrics;
 
     public AuthController(UserService userService, 
                          AuthenticationManager authenticationManager,
-                         JwtService jwtService) {
+                         JwtService jwtService,
+                         LoginFailureTracker loginFailureTracker,
+                         AuthenticationMetrics authenticationMetrics) {
         this.userService = userService;
         this.authenticationManager = authenticationManager;
         this.jwtService = jwtService;
+        this.loginFailureTracker = loginFailureTracker;
+        this.authenticationMetrics = authenticationMetrics;
     }
 
     @PostMapping("/register")
@@ -43,9 +54,17 @@ public class AuthController {
         UserResponse user = userService.createUser(request);
         
         // Generate JWT token for the new user
-        Authentication authentication = authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
+        long started = System.nanoTime();
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
+            );
+        } catch (AuthenticationException e) {
+            authenticationMetrics.failure(AuthenticationMetrics.Method.REGISTER, e, started);
+            throw e;
+        }
+        authenticationMetrics.success(AuthenticationMetrics.Method.REGISTER, started);
         
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
         String token = jwtService.generateToken(userDetails);
@@ -61,10 +80,29 @@ public class AuthController {
 
     @PostMapping("/login")
     @Operation(summary = "Authenticate user and return JWT token")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request,
+                                              HttpServletRequest httpRequest) {
+        // Refuse before BCrypt runs when this IP or account keeps failing
+        String clientIp = httpRequest.getRemoteAddr();
+        try {
+            loginFailureTracker.checkAllowed(clientIp, request.getEmail());
+        } catch (LoginThrottledException e) {
+            authenticationMetrics.rejected(AuthenticationMetrics.RejectionReason.THROTTLED);
+            throw e;
+        }
+
+        long started = System.nanoTime();
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
+            );
+        } catch (AuthenticationException e) {
+            loginFailureTracker.recordFailure(clientIp, request.getEmail());
+            authenticationMetrics.failure(AuthenticationMetrics.Method.LOGIN, e, started);
+            throw e;
+        }
+        authenticationMetrics.success(AuthenticationMetrics.Method.LOGIN, started);
         
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
         String token = jwtService.generateToken(userDetails);
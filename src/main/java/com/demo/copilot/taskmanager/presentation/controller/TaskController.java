@@ -1,7 +1,9 @@
 package com.demo.copilot.taskmanager.presentation.controller;
 
 import com.demo.copilot.taskmanager.application.dto.task.CreateTaskRequest;
+import com.demo.copilot.taskmanager.application.dto.task.TaskCountersResponse;
 import com.demo.copilot.taskmanager.application.dto.task.TaskResponse;
+import com.demo.copilot.taskmanager.application.dto.task.TaskStatsResponse;
 import com.demo.copilot.taskmanager.application.dto.task.TaskSummaryResponse;
 import com.demo.copilot.taskmanager.application.dto.task.UpdateTaskRequest;
 import com.demo.copilot.taskmanager.application.service.TaskService;
@@ -70,6 +72,23 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/key/{key}")
+    @Operation(summary = "Get task by key", description = "Retrieves a task by its human-readable key")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Task found",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid task key"),
+        @ApiResponse(responseCode = "404", description = "Task not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    public ResponseEntity<TaskResponse> getTaskByKey(
+            @Parameter(description = "Task key", example = "TM-10423")
+            @PathVariable String key) {
+        TaskResponse response = taskService.getTaskByKey(key);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
     @Operation(summary = "Get all tasks", description = "Retrieves all tasks with pagination and optional filtering")
     @ApiResponses(value = {
@@ -92,6 +111,49 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/stats")
+    @Operation(summary = "Get task statistics", description = "Retrieves dashboard counts by status, priority, overdue and due soon in a single query")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskStatsResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    public ResponseEntity<TaskStatsResponse> getTaskStatistics() {
+        TaskStatsResponse response = taskService.getTaskStatistics();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/my/counters")
+    @Operation(summary = "Get my task counters", description = "Retrieves badge counts of tasks assigned to the current user by status")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Counters retrieved successfully",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskCountersResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    public ResponseEntity<TaskCountersResponse> getMyTaskCounters() {
+        TaskCountersResponse response = taskService.getMyTaskCounters();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search tasks", description = "Full-text search over task title, description and category with prefix and fuzzy matching")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search results retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Empty search query"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    public ResponseEntity<Page<TaskSummaryResponse>> searchTasks(
+            @Parameter(description = "Search text", example = "authentication")
+            @RequestParam("q") String query,
+            @Parameter(description = "Pagination parameters")
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<TaskSummaryResponse> response = taskService.searchTasks(query, pageable);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update task", description = "Updates an existing task with the provided details")
     @ApiResponses(value = {
@@ -0,0 +1,14 @@
+-- Covering indexes for the single-query dashboard statistics endpoint (GET /tasks/stats).
+-- Each branch of the per-user query and the organization-wide query can be answered
+-- with an index-only scan, so dashboard loads never touch the heap.
+
+-- Tasks assigned to a user
+CREATE INDEX idx_task_stats_assigned ON tasks (assigned_to_id)
+    INCLUDE (status, priority, due_date) WHERE is_archived = false;
+
+-- Tasks created by a user but assigned to someone else
+CREATE INDEX idx_task_stats_created ON tasks (created_by_id)
+    INCLUDE (assigned_to_id, status, priority, due_date) WHERE is_archived = false;
+
+-- Organization-wide statistics for admins
+CREATE INDEX idx_task_stats_org ON tasks (status, priority, due_date) WHERE is_archived = false;
@@ -0,0 +1,19 @@
+-- Per-user task counter read model, maintained incrementally by the application
+-- and corrected nightly by the counter rebuild job.
+CREATE TABLE task_counters (
+    user_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    task_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, status)
+);
+
+ALTER TABLE task_counters ADD CONSTRAINT chk_task_counter_status
+    CHECK (status IN ('TODO', 'IN_PROGRESS', 'IN_REVIEW', 'COMPLETED', 'CANCELLED'));
+
+-- Backfill from existing tasks
+INSERT INTO task_counters (user_id, status, task_count)
+SELECT assigned_to_id, status, COUNT(*)
+FROM tasks
+WHERE is_archived = false
+GROUP BY assigned_to_id, status;
@@ -0,0 +1,12 @@
+-- Change records written by the SLA escalation job
+CREATE TABLE task_escalations (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id UUID NOT NULL REFERENCES tasks(id) ON DELETE CASCADE,
+    rule_name VARCHAR(100) NOT NULL,
+    from_priority VARCHAR(10) NOT NULL,
+    to_priority VARCHAR(10) NOT NULL,
+    task_version BIGINT NOT NULL,
+    escalated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_task_escalation_task ON task_escalations (task_id);
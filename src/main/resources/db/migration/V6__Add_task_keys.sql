@@ -0,0 +1,20 @@
+-- Human-readable task keys (<prefix>-<n>) allocated in blocks by the application.
+-- The prefix comes from app.task-keys.prefix through the taskKeyPrefix
+-- placeholder and is fixed once this has run.
+CREATE TABLE key_blocks (
+    name VARCHAR(50) PRIMARY KEY,
+    next_value BIGINT NOT NULL
+);
+
+ALTER TABLE tasks ADD COLUMN task_key VARCHAR(32);
+
+-- Backfill existing tasks in creation order
+UPDATE tasks t
+SET task_key = '${taskKeyPrefix}-' || k.rn
+FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY created_at, id) AS rn FROM tasks) k
+WHERE t.id = k.id;
+
+INSERT INTO key_blocks (name, next_value)
+SELECT 'task', COUNT(*) + 1 FROM tasks;
+
+CREATE UNIQUE INDEX idx_task_key ON tasks (task_key);
@@ -3,17 +3,24 @@ package com.demo.copilot.taskmanager.application.service;
 import com.demo.copilot.taskmanager.application.dto.task.CreateTaskRequest;
 import com.demo.copilot.taskmanager.application.dto.task.TaskResponse;
 import com.demo.copilot.taskmanager.application.dto.task.TaskSummaryResponse;
+import com.demo.copilot.taskmanager.application.event.TaskChangedEvent;
+import com.demo.copilot.taskmanager.application.event.TaskSnapshot;
 import com.demo.copilot.taskmanager.application.exception.TaskNotFoundException;
 import com.demo.copilot.taskmanager.application.mapper.TaskMapper;
 import com.demo.copilot.taskmanager.domain.entity.Task;
 import com.demo.copilot.taskmanager.domain.valueobject.*;
+import com.demo.copilot.taskmanager.infrastructure.cache.TaskStatsCache;
+import com.demo.copilot.taskmanager.infrastructure.counter.TaskCounterStore;
+import com.demo.copilot.taskmanager.infrastructure.sequence.TaskKeyAllocator;
 import com.demo.copilot.taskmanager.infrastructure.repository.TaskRepository;
+import com.demo.copilot.taskmanager.infrastructure.search.TaskSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -48,6 +55,21 @@ class TaskServiceTest {
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskStatsCache taskStatsCache;
+
+    @Mock
+    private TaskCounterStore taskCounterStore;
+
+    @Mock
+    private TaskKeyAllocator taskKeyAllocator;
+
     @Mock
     private SecurityContext securityContext;
 
@@ -125,6 +147,7 @@ class TaskServiceTest {
         
         verify(taskRepository).save(any(Task.class));
         verify(taskMapper).toResponse(any(Task.class));
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
     }
 
     @Test
@@ -145,6 +168,19 @@ class TaskServiceTest {
         verify(taskMapper).toResponse(sampleTask);
     }
 
+    @Test
+    void getTaskByKey_WithMalformedKey_ShouldThrowException() {
+        // Given
+        when(taskKeyAllocator.isKey("TM-abc")).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.getTaskByKey("TM-abc"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid task key format");
+
+        verify(taskRepository, never()).findByTaskKey(any());
+    }
+
     @Test
     void getTaskById_WhenTaskNotExists_ShouldThrowException() {
         // Given
@@ -241,4 +277,29 @@ class TaskServiceTest {
         verify(taskRepository).findById(any(TaskId.class));
         verify(taskRepository, never()).delete(any(Task.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchTasks_AsRegularUser_ShouldScopeToCurrentUser() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<TaskSnapshot> hits = new PageImpl<>(List.of(TaskSnapshot.of(sampleTask)));
+        when(taskSearchIndex.search(eq("test"), eq(currentUserId), any(Pageable.class))).thenReturn(hits);
+        when(taskMapper.toSummaryResponse(any(TaskSnapshot.class))).thenReturn(mock(TaskSummaryResponse.class));
+
+        // When
+        Page<TaskSummaryResponse> result = taskService.searchTasks("test", pageable);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        verify(taskSearchIndex).search("test", currentUserId, pageable);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void searchTasks_WithBlankQuery_ShouldThrowException() {
+        assertThatThrownBy(() -> taskService.searchTasks("  ", PageRequest.of(0, 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(taskSearchIndex);
+    }
+}
@@ -0,0 +1,128 @@
+package com.demo.copilot.taskmanager.infrastructure.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void tryAcquire_WhenLimitIsFilled_ShouldShedListingsBeforeWrites() {
+        // Given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new GradientLimit(10, 1, 10, 0.2, 1.5, 100),
+                Map.of(RequestPriority.OWN_READ, 0.8, RequestPriority.LISTING, 0.5));
+        List<ConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            permits.add(limiter.tryAcquire(RequestPriority.LISTING).orElseThrow());
+        }
+
+        // When & Then
+        assertThat(limiter.tryAcquire(RequestPriority.LISTING)).isEmpty();
+        for (int i = 0; i < 3; i++) {
+            permits.add(limiter.tryAcquire(RequestPriority.OWN_READ).orElseThrow());
+        }
+        assertThat(limiter.tryAcquire(RequestPriority.OWN_READ)).isEmpty();
+        permits.add(limiter.tryAcquire(RequestPriority.WRITE).orElseThrow());
+        permits.add(limiter.tryAcquire(RequestPriority.WRITE).orElseThrow());
+        assertThat(limiter.tryAcquire(RequestPriority.WRITE)).isEmpty();
+
+        permits.forEach(permit -> permit.release(false));
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    void onSample_WhenLatencyRises_ShouldShrinkLimitAndRecoverAfterwards() {
+        // Given
+        GradientLimit limit = new GradientLimit(50, 4, 200, 0.2, 1.5, 100);
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), 50, false);
+        }
+        int steady = limit.getLimit();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(200), steady, false);
+        }
+        int degraded = limit.getLimit();
+
+        // Then
+        assertThat(degraded).isLessThan(steady / 2);
+        limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), degraded, true);
+        assertThat(limit.getLimit()).isLessThan(degraded);
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), limit.getLimit(), false);
+        }
+        assertThat(limit.getLimit()).isGreaterThan(degraded);
+    }
+
+    @Test
+    void doFilter_WhenRejected_ShouldReturn503WithRetryAfter() throws Exception {
+        // Given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new GradientLimit(2, 1, 2, 0.2, 1.5, 100),
+                Map.of(RequestPriority.LISTING, 0.5));
+        ConcurrencyLimiter.Permit held = limiter.tryAcquire(RequestPriority.WRITE).orElseThrow();
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, new ObjectMapper(),
+                Duration.ofSeconds(2), new SimpleMeterRegistry());
+        MockHttpServletRequest listing = new MockHttpServletRequest("GET", "/api/tasks/search");
+        listing.setContextPath("/api");
+        MockHttpServletRequest update = new MockHttpServletRequest("PUT", "/api/tasks/42");
+        update.setContextPath("/api");
+
+        // When
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(listing, rejected, new MockFilterChain());
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(update, admitted, new MockFilterChain());
+
+        // Then
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(admitted.getStatus()).isEqualTo(200);
+        held.release(false);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    void classify_ShouldSeparateWritesOwnReadsAndListings() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("admin", null, "ROLE_ADMIN"));
+        assertThat(ConcurrencyLimitFilter.classify(request("POST", "/api/tasks"))).isEqualTo(RequestPriority.WRITE);
+        assertThat(ConcurrencyLimitFilter.classify(request("GET", "/api/tasks/my/assigned"))).isEqualTo(RequestPriority.OWN_READ);
+        assertThat(ConcurrencyLimitFilter.classify(request("GET", "/api/tasks/key/TM-1"))).isEqualTo(RequestPriority.OWN_READ);
+        assertThat(ConcurrencyLimitFilter.classify(request("GET", "/api/tasks/42"))).isEqualTo(RequestPriority.OWN_READ);
+        assertThat(ConcurrencyLimitFilter.classify(request("GET", "/api/tasks"))).isEqualTo(RequestPriority.LISTING);
+        assertThat(ConcurrencyLimitFilter.classify(request("GET", "/api/tasks/stats"))).isEqualTo(RequestPriority.LISTING);
+    }
+
+    @Test
+    void classify_ForNonAdmin_ShouldTreatListingsAsOwnReads() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "ROLE_USER"));
+        assertThat(ConcurrencyLimitFilter.classify(request("GET", "/api/tasks"))).isEqualTo(RequestPriority.OWN_READ);
+        assertThat(ConcurrencyLimitFilter.classify(request("GET", "/api/tasks/search"))).isEqualTo(RequestPriority.OWN_READ);
+        assertThat(ConcurrencyLimitFilter.classify(request("PUT", "/api/tasks/42"))).isEqualTo(RequestPriority.WRITE);
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setContextPath("/api");
+        return request;
+    }
+}
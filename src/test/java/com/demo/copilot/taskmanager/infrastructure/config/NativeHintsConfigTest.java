@@ -0,0 +1,59 @@
+package com.demo.copilot.taskmanager.infrastructure.config;
+
+import com.demo.copilot.taskmanager.domain.valueobject.Email;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskId;
+import com.demo.copilot.taskmanager.domain.valueobject.UserId;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.PreparedStatement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeHintsConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void registerHints_ShouldCoverEmbeddablesMappersAndJjwt() throws Exception {
+        // Given
+        new NativeHintsConfig.TaskManagerRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // When & Then
+        for (Class<?> embeddable : new Class<?>[] {TaskId.class, UserId.class, Email.class}) {
+            assertThat(RuntimeHintsPredicates.reflection().onConstructor(embeddable.getDeclaredConstructor()))
+                    .accepts(hints);
+            assertThat(RuntimeHintsPredicates.reflection().onType(embeddable)
+                    .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+        }
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("com.demo.copilot.taskmanager.application.mapper.TaskMapperImpl")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Serializer"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("openapi/openapi.json")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, PreparedStatement.class))
+                .accepts(hints);
+    }
+
+    @Test
+    void jjwtImplementations_ShouldAllExistOnTheClasspath() {
+        // A renamed class in a JJWT upgrade would otherwise only fail in the native binary
+        for (String implementation : NativeHintsConfig.JJWT_IMPLEMENTATIONS) {
+            assertThat(isPresent(implementation)).as(implementation).isTrue();
+        }
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, NativeHintsConfigTest.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
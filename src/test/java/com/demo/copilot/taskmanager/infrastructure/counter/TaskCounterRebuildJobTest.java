@@ -0,0 +1,88 @@
+package com.demo.copilot.taskmanager.infrastructure.counter;
+
+import com.demo.copilot.taskmanager.application.event.TaskChangedEvent;
+import com.demo.copilot.taskmanager.domain.entity.Task;
+import com.demo.copilot.taskmanager.domain.valueobject.*;
+import com.demo.copilot.taskmanager.infrastructure.cluster.DatabaseLeaderLock;
+import com.demo.copilot.taskmanager.infrastructure.repository.TaskRepository;
+import com.demo.copilot.taskmanager.infrastructure.sequence.TaskKeyAllocator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskCounterRebuildJobTest {
+
+    @Autowired
+    private TaskCounterStore taskCounterStore;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskKeyAllocator taskKeyAllocator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseLeaderLock leaderLock;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void rebuild_ShouldCorrectDriftWithoutCountingPendingDeltasTwice() {
+        // Given - three tasks the counters never heard of, one whose delta is
+        // still queued in memory, and a stale row for a status with no tasks
+        UserId userId = UserId.generate();
+        taskRepository.saveAll(List.of(task(userId), task(userId), task(userId)));
+        Task queued = taskRepository.save(task(userId));
+        taskCounterStore.onTaskChanged(TaskChangedEvent.created(queued));
+        jdbcTemplate.update(TaskCounterStore.INSERT_SQL,
+                5L, Timestamp.from(Instant.now()), userId.getValue(), TaskStatus.IN_PROGRESS.name());
+        TaskCounterRebuildJob job = new TaskCounterRebuildJob(taskCounterStore, jdbcTemplate, leaderLock,
+                transactionManager, 2, 1, 0);
+
+        // When
+        job.rebuild();
+        taskCounterStore.flush();
+
+        // Then
+        assertThat(stored(userId, TaskStatus.TODO)).isEqualTo(4);
+        assertThat(stored(userId, TaskStatus.IN_PROGRESS)).isZero();
+        assertThat(taskCounterStore.getCounts(userId))
+                .containsEntry(TaskStatus.TODO, 4L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 0L);
+    }
+
+    private long stored(UserId userId, TaskStatus status) {
+        return jdbcTemplate.queryForObject(
+                "SELECT task_count FROM task_counters WHERE user_id = ? AND status = ?",
+                Long.class, userId.getValue(), status.name());
+    }
+
+    private Task task(UserId userId) {
+        return new Task.Builder()
+                .id(TaskId.generate())
+                .taskKey(taskKeyAllocator.nextKey())
+                .title("Counted task")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .category(TaskCategory.DEVELOPMENT)
+                .createdBy(userId)
+                .assignedTo(userId)
+                .isArchived(false)
+                .build();
+    }
+}
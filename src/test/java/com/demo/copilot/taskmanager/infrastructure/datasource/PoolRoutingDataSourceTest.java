@@ -0,0 +1,101 @@
+package com.demo.copilot.taskmanager.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes between three independent in-memory H2 databases standing in for
+ * the write, interactive-read and reporting pools. Each holds a single row
+ * naming itself.
+ */
+class PoolRoutingDataSourceTest {
+
+    private final Map<PoolType, HikariDataSource> pools = new EnumMap<>(PoolType.class);
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        for (PoolType type : PoolType.values()) {
+            pools.put(type, database(type.name()));
+        }
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(new PoolRoutingDataSource(pools));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+
+    @Test
+    void getConnection_WithoutBinding_ShouldRouteByTransactionReadOnlyFlag() {
+        assertThat(nodeIn(readOnly)).isEqualTo("INTERACTIVE_READ");
+        assertThat(nodeIn(readWrite)).isEqualTo("WRITE");
+    }
+
+    @Test
+    void getConnection_WithBoundPool_ShouldUseThatPoolForReadOnlyTransactionsOnly() {
+        assertThat(ConnectionPoolContext.call(PoolType.REPORTING, () -> nodeIn(readOnly))).isEqualTo("REPORTING");
+        assertThat(ConnectionPoolContext.call(PoolType.REPORTING, () -> nodeIn(readWrite))).isEqualTo("WRITE");
+        assertThat(ConnectionPoolContext.current()).isNull();
+    }
+
+    @Test
+    void connectionPoolAspect_ShouldBindAnnotatedMethodsAndRestoreAfterwards() {
+        // Given
+        AspectJProxyFactory factory = new AspectJProxyFactory(new ReportService());
+        factory.addAspect(new ConnectionPoolAspect());
+        ReportService service = factory.getProxy();
+
+        // When & Then
+        assertThat(service.report()).isEqualTo("REPORTING");
+        assertThat(service.unannotated()).isEqualTo("INTERACTIVE_READ");
+        assertThat(ConnectionPoolContext.current()).isNull();
+    }
+
+    private String nodeIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static HikariDataSource database(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE node (name VARCHAR(20))");
+        setup.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    class ReportService {
+
+        @ConnectionPool(PoolType.REPORTING)
+        public String report() {
+            return nodeIn(readOnly);
+        }
+
+        public String unannotated() {
+            return nodeIn(readOnly);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.demo.copilot.taskmanager.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes between two independent in-memory H2 databases standing in for a
+ * primary and a replica. Each holds a single row naming itself.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private final AtomicInteger replicaRequests = new AtomicInteger();
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        DataSource countingReplica = new DelegatingDataSource(replica) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                replicaRequests.incrementAndGet();
+                return super.getConnection();
+            }
+        };
+        routingDataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-0", countingReplica),
+                new ReadYourWritesTracker(Duration.ofMinutes(1)), Duration.ofSeconds(2), Duration.ofMinutes(1));
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "ROLE_USER"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        SecurityContextHolder.clearContext();
+        routingDataSource.close();
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void getConnection_ShouldRouteByTransactionReadOnlyFlag() {
+        assertThat(nodeIn(readOnly)).isEqualTo("replica");
+        assertThat(nodeIn(readWrite)).isEqualTo("primary");
+    }
+
+    @Test
+    void getConnection_AfterOwnWrite_ShouldKeepThatUserOnPrimary() {
+        // Given
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET touched = true"));
+
+        // When & Then
+        assertThat(nodeIn(readOnly)).isEqualTo("primary");
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bob", null, "ROLE_USER"));
+        assertThat(nodeIn(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void getConnection_InsidePrimaryReadContext_ShouldStayOnPrimary() {
+        // When & Then
+        assertThat(PrimaryReadContext.call(() -> nodeIn(readOnly))).isEqualTo("primary");
+        assertThat(nodeIn(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void getConnection_WhenReplicaIsDown_ShouldFallBackToPrimary() {
+        // Given
+        replica.close();
+        replicaRequests.set(0);
+
+        // When & Then
+        assertThat(nodeIn(readOnly)).isEqualTo("primary");
+        assertThat(routingDataSource.getHealthyReplicas()).isEmpty();
+
+        assertThat(nodeIn(readOnly)).isEqualTo("primary");
+        assertThat(replicaRequests).hasValue(1);
+    }
+
+    @Test
+    void getConnection_WhenReplicaPoolIsExhausted_ShouldUsePrimaryWithoutMarkingReplicaDown() throws SQLException {
+        // Given
+        replica.setConnectionTimeout(250);
+        try (Connection first = replica.getConnection(); Connection second = replica.getConnection()) {
+
+            // When & Then
+            assertThat(nodeIn(readOnly)).isEqualTo("primary");
+            assertThat(routingDataSource.getHealthyReplicas()).containsExactly("replica-0");
+        }
+        assertThat(nodeIn(readOnly)).isEqualTo("replica");
+    }
+
+    private String nodeIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static HikariDataSource database(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE node (name VARCHAR(20), touched BOOLEAN DEFAULT false)");
+        setup.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
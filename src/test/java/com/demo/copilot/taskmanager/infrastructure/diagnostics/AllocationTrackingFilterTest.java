@@ -0,0 +1,83 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AllocationTrackingFilterTest {
+
+    private static final int ALLOCATED = 1024 * 1024;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AllocationStats stats = new AllocationStats(10);
+    private byte[] retained;
+
+    private final FilterChain allocatingChain = (request, response) -> {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/tasks/{id}");
+        retained = new byte[ALLOCATED];
+    };
+
+    @Test
+    void doFilter_ShouldRecordBytesAllocatedPerRoute() throws Exception {
+        // Given
+        AllocationTrackingFilter filter = new AllocationTrackingFilter(properties(1.0), registry, stats);
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks/42"), new MockHttpServletResponse(), allocatingChain);
+
+        // Then
+        assertThat(registry.get(AllocationTrackingFilter.METRIC_NAME)
+                .tag("method", "GET").tag("uri", "/tasks/{id}")
+                .summary().totalAmount()).isGreaterThanOrEqualTo(ALLOCATED);
+        assertThat(stats.top(5)).singleElement().satisfies(summary -> {
+            assertThat(summary.getRoute()).isEqualTo("GET /tasks/{id}");
+            assertThat(summary.getCount()).isEqualTo(1);
+            assertThat(summary.getMaxBytes()).isGreaterThanOrEqualTo(ALLOCATED);
+        });
+    }
+
+    @Test
+    void doFilter_ShouldSkipRequestsOutsideTheSample() throws Exception {
+        // Given
+        AllocationTrackingFilter filter = new AllocationTrackingFilter(properties(0.0), registry, stats);
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks/42"), new MockHttpServletResponse(), allocatingChain);
+
+        // Then
+        assertThat(retained).hasSize(ALLOCATED);
+        assertThat(registry.find(AllocationTrackingFilter.METRIC_NAME).summaries()).isEmpty();
+        assertThat(stats.top(5)).isEmpty();
+    }
+
+    @Test
+    void doFilter_ShouldBoundMethodAndRouteTags() throws Exception {
+        // Given
+        AllocationTrackingProperties properties = properties(1.0);
+        properties.setMaxRoutes(1);
+        AllocationTrackingFilter filter = new AllocationTrackingFilter(properties, registry, stats);
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("BREW", "/tasks/42"), new MockHttpServletResponse(), allocatingChain);
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks/42"), new MockHttpServletResponse(), allocatingChain);
+
+        // Then
+        assertThat(registry.find(AllocationTrackingFilter.METRIC_NAME).summaries()).hasSize(2);
+        assertThat(registry.get(AllocationTrackingFilter.METRIC_NAME)
+                .tag("method", "UNKNOWN").tag("uri", "/tasks/{id}").summary().count()).isEqualTo(1);
+        assertThat(registry.get(AllocationTrackingFilter.METRIC_NAME)
+                .tag("uri", AllocationStats.OTHER).summary().count()).isEqualTo(1);
+        assertThat(registry.find(AllocationTrackingFilter.METRIC_NAME).tag("method", "BREW").summaries()).isEmpty();
+    }
+
+    private static AllocationTrackingProperties properties(double sampleRate) {
+        AllocationTrackingProperties properties = new AllocationTrackingProperties();
+        properties.setSampleRate(sampleRate);
+        return properties;
+    }
+}
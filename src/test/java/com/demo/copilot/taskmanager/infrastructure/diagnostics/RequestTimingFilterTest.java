@@ -0,0 +1,145 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RequestTimingFilterTest {
+
+    private static final String TOKEN = "let-me-see";
+    private static final String FINGERPRINT = "select * from tasks where id = ?";
+
+    private final DataSource pool = mock(DataSource.class);
+    private final DataSource dataSource = new ConnectionWaitDataSource(pool);
+    private final AtomicReference<ServletResponse> seenByChain = new AtomicReference<>();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RequestTimingFilter.class);
+
+    private final FilterChain timedChain = (request, response) -> {
+        seenByChain.set(response);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/tasks/{id}");
+        try (Connection connection = dataSource.getConnection()) {
+            RequestTimings.recordStatement(FINGERPRINT, 2_000_000);
+            RequestTimings.recordStatement(FINGERPRINT, 1_000_000);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        RequestTimings.recordSerialization(3_000_000);
+        response.getWriter().write("{\"id\":42}");
+    };
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(pool.getConnection()).thenReturn(mock(Connection.class));
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void doFilter_WithDebugToken_ShouldReportBreakdownInServerTiming() throws Exception {
+        // Given
+        RequestTimingFilter filter = new RequestTimingFilter(properties(TOKEN, Duration.ofMinutes(1)));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/42");
+        request.addHeader(RequestTimingFilter.DEBUG_HEADER, TOKEN);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, timedChain);
+
+        // Then
+        assertThat(response.getHeader(RequestTimingFilter.SERVER_TIMING_HEADER))
+                .startsWith("db;dur=3.00;desc=\"2 statements\", conn;dur=")
+                .contains(";desc=\"1 connections\"")
+                .contains("ser;dur=3.00;desc=\"JSON serialization\"")
+                .contains("total;dur=");
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":42}");
+    }
+
+    @Test
+    void doFilter_WithoutOrWithWrongToken_ShouldNeitherBufferNorAddHeader() throws Exception {
+        // Given
+        RequestTimingFilter filter = new RequestTimingFilter(properties(TOKEN, Duration.ofMinutes(1)));
+        MockHttpServletRequest wrongToken = new MockHttpServletRequest("GET", "/tasks/42");
+        wrongToken.addHeader(RequestTimingFilter.DEBUG_HEADER, "guess");
+
+        for (MockHttpServletRequest request : new MockHttpServletRequest[] {
+                new MockHttpServletRequest("GET", "/tasks/42"), wrongToken }) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // When
+            filter.doFilter(request, response, timedChain);
+
+            // Then
+            assertThat(seenByChain.get()).isSameAs(response);
+            assertThat(response.getHeader(RequestTimingFilter.SERVER_TIMING_HEADER)).isNull();
+            assertThat(response.getContentAsString()).isEqualTo("{\"id\":42}");
+        }
+    }
+
+    @Test
+    void doFilter_WhenBlankTokenIsConfigured_ShouldIgnoreBlankHeader() throws Exception {
+        // Given
+        RequestTimingFilter filter = new RequestTimingFilter(properties("", Duration.ofMinutes(1)));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/42");
+        request.addHeader(RequestTimingFilter.DEBUG_HEADER, "");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, timedChain);
+
+        // Then
+        assertThat(seenByChain.get()).isSameAs(response);
+        assertThat(response.getHeader(RequestTimingFilter.SERVER_TIMING_HEADER)).isNull();
+    }
+
+    @Test
+    void doFilter_WhenSlow_ShouldLogBreakdownAndSlowestStatements() throws Exception {
+        // Given
+        RequestTimingFilter filter = new RequestTimingFilter(properties(TOKEN, Duration.ZERO));
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks/42"), new MockHttpServletResponse(), timedChain);
+
+        // Then
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getFormattedMessage())
+                    .startsWith("Slow request GET /tasks/42 took")
+                    .endsWith("(2 statements, 3.0 ms in SQL)");
+            assertThat(event.getMarkerList()).singleElement().asString()
+                    .contains("route=/tasks/{id}")
+                    .contains("statements=2")
+                    .contains("serialization_ms=3.0")
+                    .contains("top_statements=[{fingerprint=" + FINGERPRINT + ", count=2, ms=3.0}]");
+        });
+    }
+
+    private static RequestTimingProperties properties(String debugToken, Duration slowThreshold) {
+        RequestTimingProperties properties = new RequestTimingProperties();
+        properties.setDebugToken(debugToken);
+        properties.setSlowThreshold(slowThreshold);
+        return properties;
+    }
+}
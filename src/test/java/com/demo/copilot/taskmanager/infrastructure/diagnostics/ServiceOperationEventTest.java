@@ -0,0 +1,80 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageImpl;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServiceOperationEventTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void start_ShouldReturnNullWhileNoRecordingEnablesTheEvent() throws Exception {
+        // When
+        ServiceOperationEvent event = ServiceOperationEvent.start(method("getAllTasks"));
+        ServiceOperationEvent.recordCacheLookup(true);
+
+        // Then
+        assertThat(event).isNull();
+    }
+
+    @Test
+    void finish_ShouldRecordRowsAndCacheLookupsOfNestedCalls() throws Exception {
+        // Given
+        Path file = directory.resolve("events.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(ServiceOperationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            // When
+            ServiceOperationEvent outer = ServiceOperationEvent.start(method("getAllTasks"));
+            ServiceOperationEvent.recordCacheLookup(false);
+            ServiceOperationEvent inner = ServiceOperationEvent.start(method("getTaskStatistics"));
+            ServiceOperationEvent.recordCacheLookup(true);
+            ServiceOperationEvent.finish(inner, "stats", "success");
+            ServiceOperationEvent.finish(outer, new PageImpl<>(List.of("a", "b", "c")), "success");
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(ServiceOperationEvent.NAME))
+                .toList();
+        assertThat(events).hasSize(2);
+        RecordedEvent inner = events.stream().filter(e -> e.getString("operation").equals("getTaskStatistics"))
+                .findFirst().orElseThrow();
+        RecordedEvent outer = events.stream().filter(e -> e.getString("operation").equals("getAllTasks"))
+                .findFirst().orElseThrow();
+        assertThat(inner.getLong("rows")).isEqualTo(1);
+        assertThat(inner.getInt("cacheHits")).isEqualTo(1);
+        assertThat(outer.getLong("rows")).isEqualTo(3);
+        assertThat(outer.getInt("cacheHits")).isZero();
+        assertThat(outer.getInt("cacheMisses")).isEqualTo(1);
+        assertThat(outer.getString("service")).isEqualTo("ServiceOperationEventTest");
+    }
+
+    private static Method method(String name) throws NoSuchMethodException {
+        return ServiceOperationEventTest.class.getDeclaredMethod(name);
+    }
+
+    // Stand-ins for service methods; only their names are recorded
+    void getAllTasks() {
+    }
+
+    void getTaskStatistics() {
+    }
+}
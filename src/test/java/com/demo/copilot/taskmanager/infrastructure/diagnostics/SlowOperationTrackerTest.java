@@ -0,0 +1,52 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowOperationTrackerTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final SlowOperationTracker tracker = new SlowOperationTracker(3, Duration.ofMinutes(5), clock::get);
+
+    @Test
+    void top_ShouldKeepOnlyTheSlowestOperations() {
+        // When
+        for (int millis = 1; millis <= 10; millis++) {
+            tracker.record(operation("op" + millis, millis));
+        }
+
+        // Then
+        assertThat(tracker.top(10)).extracting(SlowOperationTracker.SlowOperation::getOperation)
+                .containsExactly("op10", "op9", "op8");
+        assertThat(tracker.top(2)).hasSize(2);
+    }
+
+    @Test
+    void top_ShouldDropOperationsOlderThanTheWindow() {
+        // Given
+        tracker.record(operation("old", 500));
+        clock.addAndGet(Duration.ofMinutes(3).toMillis());
+        tracker.record(operation("recent", 5));
+
+        // When the first bucket is still inside the window
+        assertThat(tracker.top(10)).extracting(SlowOperationTracker.SlowOperation::getOperation)
+                .containsExactly("old", "recent");
+
+        // When it has left the window
+        clock.addAndGet(Duration.ofMinutes(3).toMillis());
+
+        // Then
+        assertThat(tracker.top(10)).extracting(SlowOperationTracker.SlowOperation::getOperation)
+                .containsExactly("recent");
+    }
+
+    private static SlowOperationTracker.SlowOperation operation(String name, long millis) {
+        return new SlowOperationTracker.SlowOperation("service", name, "success", Duration.ofMillis(millis),
+                Instant.now(), "main", 1L, 0, 0);
+    }
+}
@@ -0,0 +1,45 @@
+package com.demo.copilot.taskmanager.infrastructure.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlFingerprintTest {
+
+    @Test
+    void normalize_ShouldReplaceLiteralsAndCollapseLists() {
+        assertThat(SqlFingerprint.normalize(
+                "select t1_0.id from tasks t1_0\n   where t1_0.title = 'O''Brien'  and t1_0.priority > 3 limit 20"))
+                .isEqualTo("select t1_0.id from tasks t1_0 where t1_0.title = ? and t1_0.priority > ? limit ?");
+        assertThat(SqlFingerprint.normalize("select * from tasks where id in (?, ?,?)"))
+                .isEqualTo(SqlFingerprint.normalize("select * from tasks where id IN (?)"));
+        assertThat(SqlFingerprint.normalize("insert into key_blocks (name, next_value) values (?, ?), (?, ?), (?, ?)"))
+                .isEqualTo("insert into key_blocks (name, next_value) values (?, ?), ...");
+        assertThat(SqlFingerprint.normalize("/* load Task */ select 1"))
+                .isEqualTo("select ?");
+    }
+
+    @Test
+    void stats_ShouldRankByTotalTimeAndFoldOverflowIntoOther() {
+        // Given
+        SqlFingerprintStats stats = new SqlFingerprintStats(2);
+
+        // When
+        stats.record("select a", 1_000_000);
+        stats.record("select a", 3_000_000);
+        stats.record("select b", 10_000_000);
+        stats.record("select c", 500_000);
+        stats.record("select d", 500_000);
+
+        // Then
+        List<SqlFingerprintStats.Summary> top = stats.top(10);
+        assertThat(top).extracting(SqlFingerprintStats.Summary::getFingerprint)
+                .containsExactly("select b", "select a", SqlFingerprintStats.OTHER);
+        assertThat(top.get(1).getCount()).isEqualTo(2);
+        assertThat(top.get(1).getMeanMs()).isEqualTo(2.0);
+        assertThat(top.get(1).getMaxMs()).isEqualTo(3.0);
+        assertThat(top.get(2).getCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,132 @@
+package com.demo.copilot.taskmanager.infrastructure.escalation;
+
+import com.demo.copilot.taskmanager.application.event.TasksEscalatedEvent;
+import com.demo.copilot.taskmanager.domain.entity.Task;
+import com.demo.copilot.taskmanager.domain.valueobject.*;
+import com.demo.copilot.taskmanager.infrastructure.cluster.DatabaseLeaderLock;
+import com.demo.copilot.taskmanager.infrastructure.config.JpaAuditingConfig;
+import com.demo.copilot.taskmanager.infrastructure.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaAuditingConfig.class)
+class TaskEscalationJobTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UserId.generate();
+    }
+
+    @Test
+    void escalateAll_ShouldRaiseOverdueTasksOnceAndRecordChanges() {
+        // Given
+        Task overdueMedium = task(TaskPriority.MEDIUM, TaskStatus.TODO, OffsetDateTime.now().minusHours(2));
+        Task futureMedium = task(TaskPriority.MEDIUM, TaskStatus.TODO, OffsetDateTime.now().plusDays(1));
+        Task completedMedium = task(TaskPriority.MEDIUM, TaskStatus.COMPLETED, OffsetDateTime.now().minusHours(2));
+        Task overdueHigh = task(TaskPriority.HIGH, TaskStatus.IN_PROGRESS, OffsetDateTime.now().minusDays(2));
+        taskRepository.saveAllAndFlush(List.of(overdueMedium, futureMedium, completedMedium, overdueHigh));
+
+        TaskEscalationJob job = job(2,
+                rule("overdue-medium", TaskPriority.MEDIUM, TaskPriority.HIGH, Duration.ZERO),
+                rule("stale-high", TaskPriority.HIGH, TaskPriority.URGENT, Duration.ofDays(1)));
+
+        // When
+        int escalated = job.escalateAll();
+
+        // Then - the medium task is raised to HIGH but not on to URGENT in the same run
+        assertThat(escalated).isEqualTo(2);
+        assertThat(priorityOf(overdueMedium)).isEqualTo("HIGH");
+        assertThat(priorityOf(overdueHigh)).isEqualTo("URGENT");
+        assertThat(priorityOf(futureMedium)).isEqualTo("MEDIUM");
+        assertThat(priorityOf(completedMedium)).isEqualTo("MEDIUM");
+
+        Map<String, Object> record = jdbcTemplate.queryForMap(
+                "SELECT rule_name, from_priority, to_priority, task_version FROM task_escalations WHERE task_id = :id",
+                Map.of("id", overdueMedium.getId().getValue()));
+        assertThat(record.get("RULE_NAME")).isEqualTo("overdue-medium");
+        assertThat(record.get("FROM_PRIORITY")).isEqualTo("MEDIUM");
+        assertThat(record.get("TO_PRIORITY")).isEqualTo("HIGH");
+        assertThat(((Number) record.get("TASK_VERSION")).longValue()).isEqualTo(overdueMedium.getVersion() + 1);
+        verify(eventPublisher, times(2)).publishEvent(any(TasksEscalatedEvent.class));
+    }
+
+    @Test
+    void constructor_WithNonRaisingRule_ShouldThrowException() {
+        assertThatThrownBy(() -> job(10, rule("downgrade", TaskPriority.HIGH, TaskPriority.MEDIUM, Duration.ZERO)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("must raise priority");
+    }
+
+    private TaskEscalationJob job(int chunkSize, EscalationProperties.Rule... rules) {
+        EscalationProperties properties = new EscalationProperties();
+        properties.setChunkSize(chunkSize);
+        properties.setRules(List.of(rules));
+        return new TaskEscalationJob(jdbcTemplate, transactionManager,
+                new DatabaseLeaderLock(dataSource), eventPublisher, properties);
+    }
+
+    private static EscalationProperties.Rule rule(String name, TaskPriority from, TaskPriority to, Duration overdueFor) {
+        EscalationProperties.Rule rule = new EscalationProperties.Rule();
+        rule.setName(name);
+        rule.setFrom(from);
+        rule.setTo(to);
+        rule.setOverdueFor(overdueFor);
+        return rule;
+    }
+
+    private Task task(TaskPriority priority, TaskStatus status, OffsetDateTime dueDate) {
+        return new Task.Builder()
+                .id(TaskId.generate())
+                .title("Task " + priority)
+                .status(status)
+                .priority(priority)
+                .category(TaskCategory.DEVELOPMENT)
+                .createdBy(userId)
+                .assignedTo(userId)
+                .dueDate(dueDate)
+                .isArchived(false)
+                .build();
+    }
+
+    private String priorityOf(Task task) {
+        return jdbcTemplate.queryForObject("SELECT priority FROM tasks WHERE id = :id",
+                Map.of("id", task.getId().getValue()), String.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.demo.copilot.taskmanager.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryRateLimitFilterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private final LoggerContext context = new LoggerContext();
+    private final CategoryRateLimitFilter filter = new CategoryRateLimitFilter(clock::get);
+    private CategoryRateLimitFilter.Category sql;
+
+    @BeforeEach
+    void setUp() {
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.DEBUG);
+        sql = new CategoryRateLimitFilter.Category();
+        sql.setName("sql");
+        sql.setLoggers("org.hibernate.SQL, org.hibernate.orm.jdbc.bind");
+        sql.setRatePerSecond(10);
+        sql.setBurst(2);
+        sql.setPassLevel("WARN");
+        filter.addCategory(sql);
+        filter.setContext(context);
+        filter.start();
+    }
+
+    @Test
+    void decide_ShouldAllowBurstThenDropUntilRefilled() {
+        // Given
+        Logger logger = context.getLogger("org.hibernate.SQL");
+
+        // When & Then
+        assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.DENY);
+        assertThat(sql.getSuppressed()).isEqualTo(1);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(decide(context.getLogger("org.hibernate.orm.jdbc.bind"), Level.DEBUG))
+                .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    void decide_ShouldLeaveOtherLoggersLevelChecksAndPassLevelAlone() {
+        // Given
+        Logger logger = context.getLogger("org.hibernate.SQL");
+        sql.setSampleRate(0.0);
+
+        // When & Then
+        assertThat(decide(context.getLogger("org.hibernate.SQLQuery"), Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(context.getLogger("com.demo.copilot.taskmanager"), Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, logger, Level.DEBUG, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.TRACE)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(sql.getSuppressed()).isZero();
+
+        assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.DENY);
+        assertThat(sql.getSuppressed()).isEqualTo(1);
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "select 1", null, null);
+    }
+}
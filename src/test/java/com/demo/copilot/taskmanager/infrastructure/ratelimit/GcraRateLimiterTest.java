@@ -0,0 +1,76 @@
+package com.demo.copilot.taskmanager.infrastructure.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GcraRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private final GcraRateLimiter limiter = new GcraRateLimiter(1_000, Duration.ofMinutes(10), clock::get);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void tryAcquire_ShouldAllowBurstThenRefillAtSustainedRate() {
+        // Given 10 per second, 3 back to back
+        GcraRateLimiter.Policy policy = new GcraRateLimiter.Policy(10, Duration.ofSeconds(1), 3);
+
+        // When & Then
+        assertThat(limiter.tryAcquire("alice", policy).getRemaining()).isEqualTo(2);
+        assertThat(limiter.tryAcquire("alice", policy).getRemaining()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("alice", policy).getRemaining()).isZero();
+
+        GcraRateLimiter.Decision rejected = limiter.tryAcquire("alice", policy);
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getRetryAfterNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(limiter.tryAcquire("bob", policy).isAllowed()).isTrue();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(limiter.tryAcquire("alice", policy).isAllowed()).isTrue();
+        assertThat(limiter.tryAcquire("alice", policy).isAllowed()).isFalse();
+    }
+
+    @Test
+    void doFilter_WhenPrincipalExceedsLimit_ShouldReturn429WithRateLimitHeaders() throws Exception {
+        // Given
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getList().setLimit(1);
+        properties.getList().setPeriod(Duration.ofSeconds(2));
+        properties.getList().setBurst(1);
+        RateLimitFilter filter = new RateLimitFilter(limiter, properties, new ObjectMapper(), new SimpleMeterRegistry());
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "ROLE_USER"));
+
+        // When
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks"), first, new MockFilterChain());
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks"), second, new MockFilterChain());
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/tasks"), write, new MockFilterChain());
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getHeader(RateLimitFilter.LIMIT_HEADER)).isEqualTo("1");
+        assertThat(first.getHeader(RateLimitFilter.REMAINING_HEADER)).isEqualTo("0");
+        assertThat(first.getHeader(RateLimitFilter.RESET_HEADER)).isEqualTo("2");
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(write.getStatus()).isEqualTo(200);
+    }
+}
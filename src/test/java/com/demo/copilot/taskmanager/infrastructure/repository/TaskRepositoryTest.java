@@ -2,10 +2,13 @@ package com.demo.copilot.taskmanager.infrastructure.repository;
 
 import com.demo.copilot.taskmanager.domain.entity.Task;
 import com.demo.copilot.taskmanager.domain.valueobject.*;
+import com.demo.copilot.taskmanager.infrastructure.config.JpaAuditingConfig;
+import com.demo.copilot.taskmanager.test.query.ExpectedQueries;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(JpaAuditingConfig.class)
 class TaskRepositoryTest {
 
     @Autowired
@@ -74,10 +78,12 @@ class TaskRepositoryTest {
                 .isArchived(false)
                 .build();
 
-        taskRepository.saveAll(List.of(task1, task2, task3));
+        // Flushed here so the inserts are not counted against the test's query budget
+        taskRepository.saveAllAndFlush(List.of(task1, task2, task3));
     }
 
     @Test
+    @ExpectedQueries(max = 1)
     void findByAssignedTo_ShouldReturnTasksAssignedToUser() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
@@ -92,6 +98,7 @@ class TaskRepositoryTest {
     }
 
     @Test
+    @ExpectedQueries(max = 2)
     void findByStatus_ShouldReturnTasksWithSpecificStatus() {
         // When
         List<Task> todoTasks = taskRepository.findByStatus(TaskStatus.TODO);
@@ -106,6 +113,7 @@ class TaskRepositoryTest {
     }
 
     @Test
+    @ExpectedQueries(max = 1)
     void findByCreatedBy_ShouldReturnTasksCreatedByUser() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
@@ -120,6 +128,7 @@ class TaskRepositoryTest {
     }
 
     @Test
+    @ExpectedQueries(max = 1)
     void findTasksAccessibleByUser_ShouldReturnTasksUserCanAccess() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
@@ -135,6 +144,7 @@ class TaskRepositoryTest {
     }
 
     @Test
+    @ExpectedQueries(max = 1)
     void findByAssignedToAndStatus_ShouldReturnFilteredTasks() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
@@ -148,6 +158,7 @@ class TaskRepositoryTest {
     }
 
     @Test
+    @ExpectedQueries(max = 3)
     void countByStatus_ShouldReturnCorrectCount() {
         // When
         long todoCount = taskRepository.countByStatus(TaskStatus.TODO);
@@ -161,6 +172,7 @@ class TaskRepositoryTest {
     }
 
     @Test
+    @ExpectedQueries(max = 2)
     void countByAssignedTo_ShouldReturnCorrectCount() {
         // When
         long user1Count = taskRepository.countByAssignedTo(userId1);
@@ -172,6 +184,7 @@ class TaskRepositoryTest {
     }
 
     @Test
+    @ExpectedQueries(max = 1)
     void findByIsArchivedFalse_ShouldReturnNonArchivedTasks() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
@@ -186,6 +199,7 @@ class TaskRepositoryTest {
     }
 
     @Test
+    @ExpectedQueries(selects = 0, inserts = 1)
     void save_ShouldPersistTask() {
         // Given
         Task newTask = new Task.Builder()
@@ -201,7 +215,7 @@ class TaskRepositoryTest {
                 .build();
 
         // When
-        Task savedTask = taskRepository.save(newTask);
+        Task savedTask = taskRepository.saveAndFlush(newTask);
 
         // Then
         assertThat(savedTask.getId()).isNotNull();
@@ -212,4 +226,42 @@ class TaskRepositoryTest {
         assertThat(foundTask).isPresent();
         assertThat(foundTask.get().getTitle()).isEqualTo("New Task");
     }
-}
\ No newline at end of file
+
+    @Test
+    @ExpectedQueries(max = 1)
+    void computeStatsForUser_ShouldCountAccessibleTasksOnce() {
+        // Given
+        OffsetDateTime now = OffsetDateTime.now();
+
+        // When
+        TaskStatsView stats = taskRepository.computeStatsForUser(userId1.getValue(), now, now.plusDays(4));
+
+        // Then
+        // userId1 is assigned to task1 and task2 and created task1 and task3
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getTodo()).isEqualTo(1);
+        assertThat(stats.getInProgress()).isEqualTo(1);
+        assertThat(stats.getCompleted()).isEqualTo(1);
+        assertThat(stats.getHighPriority()).isEqualTo(1);
+        assertThat(stats.getMediumPriority()).isEqualTo(1);
+        assertThat(stats.getLowPriority()).isEqualTo(1);
+        assertThat(stats.getOverdue()).isZero();
+        assertThat(stats.getDueSoon()).isEqualTo(1);
+    }
+
+    @Test
+    @ExpectedQueries(max = 1)
+    void computeStatsForOrganization_ShouldCountAllNonArchivedTasks() {
+        // Given
+        OffsetDateTime now = OffsetDateTime.now();
+
+        // When
+        TaskStatsView stats = taskRepository.computeStatsForOrganization(now, now.plusDays(8));
+
+        // Then
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getCancelled()).isZero();
+        assertThat(stats.getUrgentPriority()).isZero();
+        assertThat(stats.getDueSoon()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,69 @@
+package com.demo.copilot.taskmanager.infrastructure.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private HashedTimingWheel<String> wheel;
+
+    @AfterEach
+    void tearDown() {
+        if (wheel != null) {
+            wheel.close();
+        }
+    }
+
+    @Test
+    void schedule_ShouldExpireTimersInDeadlineOrder() throws InterruptedException {
+        // Given
+        CountDownLatch latch = new CountDownLatch(3);
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 8, batch -> {
+            batches.add(List.copyOf(batch));
+            batch.forEach(timer -> latch.countDown());
+        });
+        Instant now = Instant.now();
+
+        // When - the last timer is more than one revolution away
+        wheel.schedule("late", now.plusMillis(250));
+        wheel.schedule("early", now.plusMillis(20));
+        wheel.schedule("past", now.minusSeconds(1));
+
+        // Then
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        List<String> fired = batches.stream().flatMap(List::stream).toList();
+        assertThat(fired).containsExactly("past", "early", "late");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void schedule_ShouldDeliverSameTickTimersAsOneBatch() throws InterruptedException {
+        // Given
+        CountDownLatch latch = new CountDownLatch(1);
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(50), 4, batch -> {
+            batches.add(List.copyOf(batch));
+            latch.countDown();
+        });
+        Instant deadline = Instant.now().plusMillis(60);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            wheel.schedule("task-" + i, deadline);
+        }
+
+        // Then
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(100);
+    }
+}
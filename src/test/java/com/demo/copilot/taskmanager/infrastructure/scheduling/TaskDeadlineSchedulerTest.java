@@ -0,0 +1,85 @@
+package com.demo.copilot.taskmanager.infrastructure.scheduling;
+
+import com.demo.copilot.taskmanager.application.event.TaskChangedEvent;
+import com.demo.copilot.taskmanager.application.event.TaskDeadlineEvent;
+import com.demo.copilot.taskmanager.application.event.TaskSnapshot;
+import com.demo.copilot.taskmanager.domain.entity.Task;
+import com.demo.copilot.taskmanager.domain.valueobject.*;
+import com.demo.copilot.taskmanager.infrastructure.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class TaskDeadlineSchedulerTest {
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private TaskDeadlineScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new TaskDeadlineScheduler(mock(TaskRepository.class), eventPublisher,
+                Duration.ofMillis(100), 64, Duration.ofHours(1), 24, 500, false);
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void onTaskChanged_WhenCreatedInsideDueSoonWindow_ShouldFireDueSoonImmediately() {
+        // Given
+        Task task = task(OffsetDateTime.now().plusHours(3));
+
+        // When
+        scheduler.onTaskChanged(TaskChangedEvent.created(task));
+
+        // Then
+        ArgumentCaptor<TaskDeadlineEvent> event = ArgumentCaptor.forClass(TaskDeadlineEvent.class);
+        verify(eventPublisher, timeout(1000)).publishEvent(event.capture());
+        assertThat(event.getValue().getKind()).isEqualTo(TaskDeadlineEvent.Kind.DUE_SOON);
+        assertThat(event.getValue().getTaskIds()).containsExactly(task.getId().getValue());
+    }
+
+    @Test
+    void onTaskChanged_WhenAlreadyInsideDueSoonWindow_ShouldNotFireAgain() {
+        // Given
+        Task task = task(OffsetDateTime.now().plusHours(3));
+        TaskSnapshot previous = TaskSnapshot.of(task);
+        task.updateStatus(TaskStatus.IN_PROGRESS);
+
+        // When
+        scheduler.onTaskChanged(TaskChangedEvent.updated(previous, task));
+
+        // Then
+        verify(eventPublisher, after(300).never()).publishEvent(any(TaskDeadlineEvent.class));
+    }
+
+    private static Task task(OffsetDateTime dueDate) {
+        UserId userId = UserId.generate();
+        return new Task.Builder()
+                .id(TaskId.generate())
+                .title("Deadline task")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .category(TaskCategory.DEVELOPMENT)
+                .createdBy(userId)
+                .assignedTo(userId)
+                .dueDate(dueDate)
+                .isArchived(false)
+                .build();
+    }
+}
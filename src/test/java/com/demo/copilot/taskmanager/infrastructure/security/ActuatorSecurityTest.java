@@ -0,0 +1,44 @@
+package com.demo.copilot.taskmanager.infrastructure.security;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Diagnostic actuator endpoints expose internals and can reset their data,
+ * so only admins may use them; health stays public.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/actuator/sqlfingerprints", "/actuator/allocations"})
+    void diagnosticEndpoints_ShouldRequireAdmin(String path) throws Exception {
+        mockMvc.perform(get(path)).andExpect(status().isUnauthorized());
+        mockMvc.perform(delete(path).with(csrf())).andExpect(status().isUnauthorized());
+        mockMvc.perform(get(path).with(user("user").roles("USER"))).andExpect(status().isForbidden());
+        mockMvc.perform(delete(path).with(user("user").roles("USER")).with(csrf())).andExpect(status().isForbidden());
+        mockMvc.perform(get(path).with(user("admin").roles("ADMIN"))).andExpect(status().isOk());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/actuator/health"})
+    void health_ShouldStayPublic(String path) throws Exception {
+        mockMvc.perform(get(path)).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,54 @@
+package com.demo.copilot.taskmanager.infrastructure.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthenticationMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AuthenticationMetrics metrics = new AuthenticationMetrics(registry);
+
+    @Test
+    void failure_ShouldMapExceptionsToFixedReasons() {
+        // Given
+        long started = System.nanoTime();
+
+        // When
+        metrics.failure(AuthenticationMetrics.Method.LOGIN, new BadCredentialsException("alice@example.com"), started);
+        metrics.failure(AuthenticationMetrics.Method.LOGIN, new DisabledException("disabled"), started);
+        metrics.failure(AuthenticationMetrics.Method.TOKEN, new ExpiredJwtException(null, null, "expired"), started);
+        metrics.failure(AuthenticationMetrics.Method.TOKEN, new MalformedJwtException("garbage"), started);
+        metrics.failure(AuthenticationMetrics.Method.TOKEN, new IllegalStateException("boom"), started);
+
+        // Then
+        assertThat(count("login", "bad_credentials")).isEqualTo(1);
+        assertThat(count("login", "disabled")).isEqualTo(1);
+        assertThat(count("token", "expired_token")).isEqualTo(1);
+        assertThat(count("token", "invalid_token")).isEqualTo(1);
+        assertThat(count("token", "other")).isEqualTo(1);
+        assertThat(registry.get("taskmanager.auth.latency").tag("method", "token").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void meters_ShouldBeRegisteredUpFrontWithBoundedTags() {
+        // When
+        metrics.rejected(AuthenticationMetrics.RejectionReason.THROTTLED);
+        metrics.success(AuthenticationMetrics.Method.LOGIN, System.nanoTime());
+
+        // Then every series exists before traffic arrives, and traffic adds none
+        assertThat(registry.find("taskmanager.auth.failure").counters()).hasSize(3 * 6);
+        assertThat(registry.find("taskmanager.auth.rejected").counters()).hasSize(2);
+        assertThat(registry.get("taskmanager.auth.rejected").tag("reason", "throttled").counter().count()).isEqualTo(1);
+        assertThat(registry.get("taskmanager.auth.success").tag("method", "login").counter().count()).isEqualTo(1);
+    }
+
+    private double count(String method, String reason) {
+        return registry.get("taskmanager.auth.failure").tag("method", method).tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,45 @@
+package com.demo.copilot.taskmanager.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountMinSketchTest {
+
+    @Test
+    void increment_FromConcurrentThreads_ShouldNotLoseCounts() throws InterruptedException {
+        // Given
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                awaitQuietly(start);
+                for (int n = 0; n < 10_000; n++) {
+                    sketch.increment("10.0.0.1");
+                }
+            }));
+        }
+
+        // When
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(sketch.estimate("10.0.0.1")).isEqualTo(80_000);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
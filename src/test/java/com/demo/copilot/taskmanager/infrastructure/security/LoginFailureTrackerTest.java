@@ -0,0 +1,59 @@
+package com.demo.copilot.taskmanager.infrastructure.security;
+
+import com.demo.copilot.taskmanager.application.exception.LoginThrottledException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginFailureTrackerTest {
+
+    private final LoginFailureTracker tracker = new LoginFailureTracker(true, 1024, 4, 5, 3, 60_000);
+
+    @Test
+    void checkAllowed_AfterRepeatedFailuresForAccount_ShouldThrottleThatAccountOnly() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            tracker.recordFailure("10.0.0." + i, "Alice@Example.com");
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> tracker.checkAllowed("10.0.0.99", "alice@example.com"))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> tracker.checkAllowed("10.0.0.99", "bob@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void isIpBlocked_ShouldBlockAfterThresholdAndRecoverAfterDecay() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            tracker.recordFailure("192.168.1.10", "user" + i + "@example.com");
+        }
+
+        // When & Then
+        assertThat(tracker.isIpBlocked("192.168.1.10")).isTrue();
+        assertThat(tracker.isIpBlocked("192.168.1.11")).isFalse();
+        assertThatThrownBy(() -> tracker.checkAllowed("192.168.1.10", "new@example.com"))
+                .isInstanceOf(LoginThrottledException.class);
+
+        tracker.decay();
+        assertThat(tracker.isIpBlocked("192.168.1.10")).isFalse();
+    }
+
+    @Test
+    void countMinSketch_ShouldNeverUnderestimateWithManyKeys() {
+        // Given a sketch far smaller than the number of keys
+        CountMinSketch sketch = new CountMinSketch(256, 4);
+        for (int i = 0; i < 10_000; i++) {
+            sketch.increment("ip:" + i);
+        }
+        for (int i = 0; i < 20; i++) {
+            sketch.increment("ip:attacker");
+        }
+
+        // When & Then
+        assertThat(sketch.estimate("ip:attacker")).isGreaterThanOrEqualTo(20);
+        assertThat(sketch.estimate("ip:42")).isGreaterThanOrEqualTo(1);
+    }
+}
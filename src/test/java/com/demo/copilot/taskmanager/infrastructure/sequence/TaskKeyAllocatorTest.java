@@ -0,0 +1,70 @@
+package com.demo.copilot.taskmanager.infrastructure.sequence;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskKeyAllocatorTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void nextKey_ShouldNeverRepeatAcrossThreadsAndAllocators() throws Exception {
+        // Given - two allocators stand in for two nodes sharing the sequence row
+        TaskKeyAllocator node1 = new TaskKeyAllocator(dataSource, "TM", 64);
+        TaskKeyAllocator node2 = new TaskKeyAllocator(dataSource, "TM", 64);
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                TaskKeyAllocator allocator = t % 2 == 0 ? node1 : node2;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        keys.add(allocator.nextKey());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(keys).hasSize(4000);
+        assertThat(keys).allMatch(node1::isKey);
+    }
+
+    @Test
+    void isKey_ShouldAcceptOnlyPrefixedNumbers() {
+        TaskKeyAllocator allocator = new TaskKeyAllocator(dataSource, "TM", 10);
+
+        assertThat(allocator.isKey("TM-10423")).isTrue();
+        assertThat(allocator.isKey("TM-")).isFalse();
+        assertThat(allocator.isKey("TM-12a")).isFalse();
+        assertThat(allocator.isKey("XX-12")).isFalse();
+        assertThat(allocator.isKey(null)).isFalse();
+    }
+}
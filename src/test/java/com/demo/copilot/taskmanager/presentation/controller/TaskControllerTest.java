@@ -1,7 +1,9 @@
 package com.demo.copilot.taskmanager.presentation.controller;
 
 import com.demo.copilot.taskmanager.application.dto.task.CreateTaskRequest;
+import com.demo.copilot.taskmanager.application.dto.task.TaskCountersResponse;
 import com.demo.copilot.taskmanager.application.dto.task.TaskResponse;
+import com.demo.copilot.taskmanager.application.dto.task.TaskStatsResponse;
 import com.demo.copilot.taskmanager.application.dto.task.TaskSummaryResponse;
 import com.demo.copilot.taskmanager.application.service.TaskService;
 import com.demo.copilot.taskmanager.application.mapper.TaskMapper;
@@ -9,6 +11,7 @@ import com.demo.copilot.taskmanager.domain.valueobject.TaskCategory;
 import com.demo.copilot.taskmanager.domain.valueobject.TaskPriority;
 import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
 import com.demo.copilot.taskmanager.infrastructure.repository.TaskRepository;
+import com.demo.copilot.taskmanager.infrastructure.security.AuthenticationMetrics;
 import com.demo.copilot.taskmanager.infrastructure.security.JwtService;
 import com.demo.copilot.taskmanager.test.util.TestPage;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -23,6 +26,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -45,6 +49,9 @@ class TaskControllerTest {
     @MockBean
     private JwtService jwtService;
 
+    @MockBean
+    private AuthenticationMetrics authenticationMetrics;
+
     @MockBean 
     private TaskRepository taskRepository;
     
@@ -264,4 +271,47 @@ class TaskControllerTest {
 
         verify(taskService).getMyCreatedTasks(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(username = "550e8400-e29b-41d4-a716-446655440000", roles = "USER")
+    void getTaskStatistics_ShouldReturnStats() throws Exception {
+        // Given
+        TaskStatsResponse stats = new TaskStatsResponse();
+        stats.setScope(TaskStatsResponse.Scope.USER);
+        stats.setTotal(12);
+        stats.setByStatus(Map.of(TaskStatus.TODO, 7L));
+        stats.setOverdue(3);
+
+        when(taskService.getTaskStatistics()).thenReturn(stats);
+
+        // When & Then
+        mockMvc.perform(get("/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scope").value("USER"))
+                .andExpect(jsonPath("$.total").value(12))
+                .andExpect(jsonPath("$.byStatus.TODO").value(7))
+                .andExpect(jsonPath("$.overdue").value(3));
+
+        verify(taskService).getTaskStatistics();
+    }
+
+    @Test
+    @WithMockUser(username = "550e8400-e29b-41d4-a716-446655440000", roles = "USER")
+    void getMyTaskCounters_ShouldReturnCounters() throws Exception {
+        // Given
+        UUID userId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        TaskCountersResponse counters = new TaskCountersResponse(userId,
+                Map.of(TaskStatus.TODO, 4L, TaskStatus.IN_PROGRESS, 2L, TaskStatus.COMPLETED, 9L));
+
+        when(taskService.getMyTaskCounters()).thenReturn(counters);
+
+        // When & Then
+        mockMvc.perform(get("/tasks/my/counters"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(userId.toString()))
+                .andExpect(jsonPath("$.byStatus.TODO").value(4))
+                .andExpect(jsonPath("$.open").value(6));
+
+        verify(taskService).getMyTaskCounters();
+    }
+}
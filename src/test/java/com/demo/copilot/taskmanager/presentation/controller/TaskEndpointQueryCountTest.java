@@ -0,0 +1,196 @@
+package com.demo.copilot.taskmanager.presentation.controller;
+
+import com.demo.copilot.taskmanager.application.dto.task.CreateTaskRequest;
+import com.demo.copilot.taskmanager.application.dto.task.UpdateTaskRequest;
+import com.demo.copilot.taskmanager.domain.entity.Task;
+import com.demo.copilot.taskmanager.domain.valueobject.*;
+import com.demo.copilot.taskmanager.infrastructure.repository.TaskRepository;
+import com.demo.copilot.taskmanager.infrastructure.sequence.TaskKeyAllocator;
+import com.demo.copilot.taskmanager.test.query.ExpectedQueries;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Statements per task endpoint against the real stack, so an N+1 or a lost
+ * cache shows up as a budget failure and as a change in the query-count
+ * report. Each test runs as a fresh user owning {@link #TASKS} tasks, which
+ * keeps per-user caches cold and list endpoints returning more than one row.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskEndpointQueryCountTest {
+
+    private static final int TASKS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskKeyAllocator taskKeyAllocator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UserId userId;
+    private List<Task> tasks;
+
+    @BeforeEach
+    void setUp() {
+        userId = UserId.generate();
+        tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new Task.Builder()
+                    .id(TaskId.generate())
+                    .taskKey(taskKeyAllocator.nextKey())
+                    .title("Query count task " + i)
+                    .description("Seeded for query counting")
+                    .status(TaskStatus.TODO)
+                    .priority(TaskPriority.MEDIUM)
+                    .category(TaskCategory.DEVELOPMENT)
+                    .createdBy(userId)
+                    .assignedTo(userId)
+                    .dueDate(OffsetDateTime.now().plusDays(i + 1))
+                    .isArchived(false)
+                    .build());
+        }
+        tasks = taskRepository.saveAll(tasks);
+    }
+
+    @Test
+    @DisplayName("POST /tasks")
+    @ExpectedQueries(max = 1, selects = 0)
+    void createTask() throws Exception {
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setTitle("Created task");
+        request.setPriority(TaskPriority.HIGH);
+        request.setCategory(TaskCategory.DEVELOPMENT);
+
+        mockMvc.perform(post("/tasks").with(currentUser()).with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("GET /tasks/{id}")
+    @ExpectedQueries(max = 1)
+    void getTaskById() throws Exception {
+        mockMvc.perform(get("/tasks/{id}", tasks.get(0).getId().getValue()).with(currentUser()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /tasks/key/{key}")
+    @ExpectedQueries(max = 1)
+    void getTaskByKey() throws Exception {
+        mockMvc.perform(get("/tasks/key/{key}", tasks.get(0).getTaskKey()).with(currentUser()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /tasks")
+    @ExpectedQueries(max = 2)
+    void getAllTasks() throws Exception {
+        mockMvc.perform(get("/tasks").param("size", "2").with(currentUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /tasks?status")
+    @ExpectedQueries(max = 2)
+    void getTasksByStatus() throws Exception {
+        mockMvc.perform(get("/tasks").param("status", "TODO").param("size", "2").with(currentUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /tasks/stats")
+    @ExpectedQueries(max = 1)
+    void getTaskStatistics() throws Exception {
+        mockMvc.perform(get("/tasks/stats").with(currentUser()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /tasks/my/counters")
+    @ExpectedQueries(max = 1)
+    void getMyTaskCounters() throws Exception {
+        mockMvc.perform(get("/tasks/my/counters").with(currentUser()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /tasks/search")
+    @ExpectedQueries(max = 0)
+    void searchTasks() throws Exception {
+        mockMvc.perform(get("/tasks/search").param("q", "seeded").with(currentUser()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /tasks/my/assigned")
+    @ExpectedQueries(max = 1)
+    void getMyAssignedTasks() throws Exception {
+        mockMvc.perform(get("/tasks/my/assigned").with(currentUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(TASKS));
+    }
+
+    @Test
+    @DisplayName("GET /tasks/my/created")
+    @ExpectedQueries(max = 1)
+    void getMyCreatedTasks() throws Exception {
+        mockMvc.perform(get("/tasks/my/created").with(currentUser()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(TASKS));
+    }
+
+    @Test
+    @DisplayName("PUT /tasks/{id}")
+    @ExpectedQueries(max = 2)
+    void updateTask() throws Exception {
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setStatus(TaskStatus.IN_PROGRESS);
+
+        mockMvc.perform(put("/tasks/{id}", tasks.get(0).getId().getValue()).with(currentUser()).with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("DELETE /tasks/{id}")
+    @ExpectedQueries(max = 2)
+    void deleteTask() throws Exception {
+        mockMvc.perform(delete("/tasks/{id}", tasks.get(0).getId().getValue()).with(currentUser()).with(csrf()))
+                .andExpect(status().isNoContent());
+    }
+
+    private RequestPostProcessor currentUser() {
+        return user(userId.getValue().toString()).roles("USER");
+    }
+}
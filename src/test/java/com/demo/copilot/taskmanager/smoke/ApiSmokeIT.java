@@ -0,0 +1,203 @@
+package com.demo.copilot.taskmanager.smoke;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end smoke test of the packaged application: the native executable
+ * in the {@code native} profile, the executable jar in the {@code smoke}
+ * profile. The command comes from the {@code smoke.command} system property;
+ * the test adds a free port, starts the process and talks to it over HTTP.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ApiSmokeIT {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final String EMAIL = "smoke@example.com";
+    private static final String PASSWORD = "Smoke@Pass1";
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Process process;
+    private File log;
+    private String baseUrl;
+    private String token;
+    private String taskId;
+    private String taskKey;
+
+    @BeforeAll
+    void startApplication() throws Exception {
+        String command = System.getProperty("smoke.command");
+        assertThat(command).as("smoke.command system property").isNotBlank();
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> args = new ArrayList<>(Arrays.asList(command.trim().split("\\s+")));
+        args.add("--server.port=" + port);
+        baseUrl = "http://localhost:" + port + "/api";
+        log = File.createTempFile("smoke-", ".log");
+        process = new ProcessBuilder(args).redirectErrorStream(true).redirectOutput(log).start();
+
+        long started = System.nanoTime();
+        long deadline = started + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            assertThat(process.isAlive()).as("application exited during startup, see " + log).isTrue();
+            try {
+                if (get("/actuator/health", null).statusCode() == 200) {
+                    System.out.printf("Smoke target ready in %d ms%n", Duration.ofNanos(System.nanoTime() - started).toMillis());
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("Application not ready within " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    @AfterAll
+    void stopApplication() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    @Test
+    @Order(1)
+    void register_ShouldCreateUserAndReturnToken() throws Exception {
+        HttpResponse<String> response = post("/auth/register", null, Map.of(
+                "username", "smoke_user",
+                "email", EMAIL,
+                "password", PASSWORD,
+                "firstName", "Smoke",
+                "lastName", "Test",
+                "role", "USER"));
+
+        assertThat(response.statusCode()).isEqualTo(201);
+        assertThat(json(response).path("token").asText()).isNotBlank();
+    }
+
+    @Test
+    @Order(2)
+    void login_ShouldRejectWrongPasswordAndIssueTokenForRightOne() throws Exception {
+        assertThat(post("/auth/login", null, Map.of("email", EMAIL, "password", "Wrong@Pass1")).statusCode())
+                .isEqualTo(401);
+
+        HttpResponse<String> response = post("/auth/login", null, Map.of("email", EMAIL, "password", PASSWORD));
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        token = json(response).path("token").asText();
+        assertThat(token).isNotBlank();
+    }
+
+    @Test
+    @Order(3)
+    void tasks_WithoutToken_ShouldBeUnauthorized() throws Exception {
+        assertThat(get("/tasks", null).statusCode()).isEqualTo(401);
+    }
+
+    @Test
+    @Order(4)
+    void createTask_ShouldPersistAndAssignKey() throws Exception {
+        HttpResponse<String> response = post("/tasks", token, Map.of(
+                "title", "Smoke task",
+                "description", "Created by the smoke test",
+                "priority", "HIGH",
+                "category", "TESTING"));
+
+        assertThat(response.statusCode()).isEqualTo(201);
+        JsonNode task = json(response);
+        taskId = task.path("id").asText();
+        taskKey = task.path("taskKey").asText();
+        assertThat(taskKey).startsWith("TM-");
+    }
+
+    @Test
+    @Order(5)
+    void readEndpoints_ShouldReturnTheCreatedTask() throws Exception {
+        HttpResponse<String> byId = get("/tasks/" + taskId, token);
+        assertThat(byId.statusCode()).isEqualTo(200);
+        assertThat(json(byId).path("title").asText()).isEqualTo("Smoke task");
+
+        assertThat(get("/tasks/key/" + taskKey, token).statusCode()).isEqualTo(200);
+
+        HttpResponse<String> list = get("/tasks", token);
+        assertThat(list.statusCode()).isEqualTo(200);
+        assertThat(json(list).path("totalElements").asInt()).isEqualTo(1);
+
+        HttpResponse<String> stats = get("/tasks/stats", token);
+        assertThat(stats.statusCode()).isEqualTo(200);
+        assertThat(json(stats).path("byPriority").path("HIGH").asInt()).isEqualTo(1);
+
+        assertThat(get("/tasks/my/counters", token).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    @Order(6)
+    void deleteTask_ShouldRemoveIt() throws Exception {
+        HttpResponse<String> delete = client.send(request("/tasks/" + taskId, token).DELETE().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(delete.statusCode()).isEqualTo(204);
+        assertThat(get("/tasks/" + taskId, token).statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    @Order(7)
+    void apiDocs_ShouldBeServed() throws Exception {
+        HttpResponse<String> response = get("/v3/api-docs", null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(json(response).path("paths").has("/tasks/{id}")).isTrue();
+    }
+
+    private HttpResponse<String> get(String path, String bearer) throws IOException, InterruptedException {
+        return client.send(request(path, bearer).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String bearer, Object body) throws IOException, InterruptedException {
+        HttpRequest request = request(path, bearer)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path, String bearer) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        if (bearer != null) {
+            builder.header("Authorization", "Bearer " + bearer);
+        }
+        return builder;
+    }
+
+    private JsonNode json(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+}
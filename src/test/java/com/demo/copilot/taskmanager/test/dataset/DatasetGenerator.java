@@ -0,0 +1,485 @@
+package com.demo.copilot.taskmanager.test.dataset;
+
+import com.demo.copilot.taskmanager.domain.valueobject.TaskCategory;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskPriority;
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+import com.demo.copilot.taskmanager.domain.valueobject.UserRole;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Generates users and tasks following a {@link DatasetSpec} and loads them
+ * into an existing schema (Flyway on PostgreSQL, Hibernate on H2).
+ *
+ * Every row is derived from the seed and its index alone, so rows can be
+ * produced in any order by any number of workers. Tasks are loaded in
+ * chunks, each by one worker on its own connection and transaction:
+ * {@code COPY} on PostgreSQL, batched inserts elsewhere. Task keys are
+ * reserved from {@code key_blocks} like {@code TaskKeyAllocator} does, and
+ * {@code task_counters} is rebuilt afterwards, so the application can run
+ * against the result directly.
+ */
+public class DatasetGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final String KEY_SEQUENCE = "task";
+    private static final int USER_BATCH = 10_000;
+
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final double[] PRIORITY_WEIGHTS = {25, 45, 22, 8};
+    private static final TaskCategory[] CATEGORIES = TaskCategory.values();
+    private static final int[] ESTIMATES = {1, 2, 3, 4, 6, 8, 12, 16, 24, 40};
+    private static final String[] VERBS = {"Review", "Implement", "Fix", "Update", "Plan", "Test", "Document", "Prepare", "Migrate", "Investigate"};
+    private static final String[] SUBJECTS = {"login flow", "quarterly report", "billing export", "search index", "onboarding guide",
+        "release notes", "API pagination", "dashboard filters", "backup policy", "customer feedback", "payment retries", "audit log"};
+    private static final String[] DESCRIPTIONS = {
+        "Follow up with the team and agree on next steps.",
+        "Go through the document, leave comments on open questions and agree on owners for each follow-up item.",
+        "Reproduce the issue on staging, capture logs and attach them to the ticket. Check whether the latest "
+                + "release changed the affected code path and list the customers that reported it.",
+        "Draft a proposal, collect estimates from the people involved and schedule a review."
+    };
+    private static final String[] FIRST_NAMES = {"Alex", "Sam", "Jordan", "Taylor", "Morgan", "Casey", "Riley", "Jamie", "Robin", "Avery"};
+    private static final String[] LAST_NAMES = {"Smith", "Garcia", "Chen", "Müller", "Okafor", "Novak", "Silva", "Kowalski", "Haddad", "Tanaka"};
+
+    private final DatasetSpec spec;
+    private final ZipfDistribution assignees;
+    private final TaskStatus[] statuses;
+    private final double[] statusWeights;
+    private final double terminalShare;
+    private final LocalDateTime now;
+    private final LocalDateTime historyStart;
+    private final long historyMillis;
+
+    public DatasetGenerator(DatasetSpec spec) {
+        this.spec = spec;
+        this.assignees = new ZipfDistribution(spec.getUsers(), spec.getZipfExponent());
+        this.statuses = spec.getStatusMix().keySet().toArray(new TaskStatus[0]);
+        this.statusWeights = new double[statuses.length];
+        double total = 0;
+        double terminal = 0;
+        for (int i = 0; i < statuses.length; i++) {
+            statusWeights[i] = spec.getStatusMix().get(statuses[i]);
+            total += statusWeights[i];
+            if (isTerminal(statuses[i])) {
+                terminal += statusWeights[i];
+            }
+        }
+        this.terminalShare = terminal / total;
+        this.now = spec.getNow().withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+        this.historyStart = now.minusDays(spec.getHistoryDays());
+        this.historyMillis = Duration.ofDays(spec.getHistoryDays()).toMillis();
+    }
+
+    /**
+     * Generate and load the whole dataset.
+     *
+     * @param progress receives a line after users are loaded and after every
+     *                 tenth of the tasks
+     */
+    public Result load(DataSource dataSource, Consumer<String> progress)
+            throws SQLException, InterruptedException, ExecutionException {
+        long started = System.nanoTime();
+        DatasetLoader loader;
+        long firstKey;
+        List<String> deferredIndexes = List.of();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            loader = DatasetLoader.forConnection(connection);
+            firstKey = reserveKeys(connection, spec.getTasks());
+            String passwordHash = new BCryptPasswordEncoder(12).encode(spec.getUserPassword());
+            for (int from = 0; from < spec.getUsers(); from += USER_BATCH) {
+                List<UserRow> batch = new ArrayList<>();
+                for (int i = from; i < Math.min(from + USER_BATCH, spec.getUsers()); i++) {
+                    batch.add(user(i, passwordHash));
+                }
+                loader.insertUsers(connection, batch);
+            }
+            if (spec.isDeferIndexes()) {
+                deferredIndexes = loader.dropSecondaryTaskIndexes(connection);
+            }
+            connection.commit();
+        }
+        progress.accept(String.format("Loaded %d users with %s", spec.getUsers(), loader.getClass().getSimpleName()));
+
+        ExecutorService workers = Executors.newFixedThreadPool(spec.getWorkers());
+        List<Future<?>> chunks = new ArrayList<>();
+        boolean tasksLoaded = false;
+        try {
+            AtomicLong loaded = new AtomicLong();
+            long tenth = Math.max(1, spec.getTasks() / 10);
+            for (long from = 0; from < spec.getTasks(); from += spec.getChunkSize()) {
+                long chunkFrom = from;
+                long chunkTo = Math.min(from + spec.getChunkSize(), spec.getTasks());
+                chunks.add(workers.submit(() -> {
+                    try (Connection connection = dataSource.getConnection()) {
+                        connection.setAutoCommit(false);
+                        loader.insertTasks(connection, chunkFrom, chunkTo, index -> task(index, firstKey));
+                        connection.commit();
+                    }
+                    long before = loaded.getAndAdd(chunkTo - chunkFrom);
+                    if ((before + chunkTo - chunkFrom) / tenth > before / tenth) {
+                        progress.accept(String.format("Loaded %d of %d tasks", before + chunkTo - chunkFrom, spec.getTasks()));
+                    }
+                    return null;
+                }));
+            }
+            waitFor(chunks);
+            tasksLoaded = true;
+        } finally {
+            // The dropped indexes come back even if a chunk failed; chunks not started yet are skipped
+            chunks.forEach(chunk -> chunk.cancel(false));
+            try {
+                recreateIndexes(dataSource, workers, deferredIndexes);
+            } catch (SQLException | ExecutionException | InterruptedException e) {
+                if (tasksLoaded) {
+                    throw e;
+                }
+                progress.accept("Failed to rebuild task indexes after a failed load: " + e.getMessage());
+            } finally {
+                workers.shutdownNow();
+            }
+        }
+        if (!deferredIndexes.isEmpty()) {
+            progress.accept("Rebuilt " + deferredIndexes.size() + " task indexes");
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            rebuildCounters(connection);
+            connection.commit();
+            connection.setAutoCommit(true);
+            loader.analyze(connection);
+        }
+        return new Result(spec.getUsers(), spec.getTasks(), firstKey, Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    /**
+     * The user with the given index, {@code 0..users-1}. Lower indexes are
+     * assigned more tasks.
+     */
+    public UserRow user(int index, String passwordHash) {
+        SplittableRandom random = random(~index);
+        LocalDateTime createdAt = historyStart.minusMinutes(random.nextLong(Duration.ofDays(30).toMinutes()));
+        double roll = random.nextDouble();
+        UserRole role = roll < 0.002 ? UserRole.ADMIN : roll < 0.02 ? UserRole.MANAGER : UserRole.USER;
+        String handle = "u" + Long.toUnsignedString(spec.getSeed(), 36) + "_" + index;
+        return new UserRow(
+                userId(index),
+                handle,
+                handle.replace('_', '.') + "@dataset.example",
+                passwordHash,
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                role,
+                random.nextDouble() < 0.97,
+                createdAt);
+    }
+
+    /**
+     * The task with the given index, {@code 0..tasks-1}; creation time and
+     * key both increase with the index.
+     */
+    public TaskRow task(long index, long firstKey) {
+        SplittableRandom random = random(index);
+        long offsetMillis = spec.getTasks() == 0 ? 0 : historyMillis * index / spec.getTasks();
+        LocalDateTime createdAt = historyStart.plusNanos((offsetMillis + random.nextLong(60_000)) * 1_000_000);
+        if (createdAt.isAfter(now)) {
+            createdAt = now;
+        }
+
+        int assignee = assignees.sample(random);
+        int creator = random.nextDouble() < 0.6 ? assignee : assignees.sample(random);
+        TaskStatus status = statuses[pick(statusWeights, random)];
+
+        LocalDateTime dueDate = random.nextDouble() < spec.getDueDateRatio()
+                ? createdAt.plusMinutes(Math.max(60, (long) (logNormal(random, spec.getDueDateMedianDays(), 0.9) * 1440)))
+                : null;
+        LocalDateTime completedAt = null;
+        if (status == TaskStatus.COMPLETED) {
+            completedAt = createdAt.plusMinutes(Math.max(5, (long) (logNormal(random, 3, 1.0) * 1440)));
+            if (completedAt.isAfter(now)) {
+                completedAt = now;
+            }
+        }
+        LocalDateTime updatedAt = completedAt != null ? completedAt
+                : createdAt.plusMinutes(random.nextLong(Math.max(1, Math.min(
+                        Duration.between(createdAt, now).toMinutes(), Duration.ofDays(14).toMinutes()))));
+
+        boolean archived = isTerminal(status) && terminalShare > 0
+                && random.nextDouble() < spec.getArchivedRatio() / terminalShare;
+        Integer estimated = random.nextDouble() < 0.7 ? ESTIMATES[random.nextInt(ESTIMATES.length)] : null;
+        Integer actual = estimated != null && status == TaskStatus.COMPLETED
+                ? Math.max(1, (int) Math.round(estimated * (0.5 + 1.5 * random.nextDouble())))
+                : null;
+
+        return new TaskRow(
+                uuidV7(createdAt, random),
+                spec.getKeyPrefix() + "-" + (firstKey + index),
+                VERBS[random.nextInt(VERBS.length)] + " " + SUBJECTS[random.nextInt(SUBJECTS.length)],
+                random.nextDouble() < 0.6 ? DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)] : null,
+                status,
+                PRIORITIES[pick(PRIORITY_WEIGHTS, random)],
+                random.nextDouble() < 0.1 ? null : CATEGORIES[random.nextInt(CATEGORIES.length)],
+                userId(assignee),
+                userId(creator),
+                dueDate,
+                completedAt,
+                estimated,
+                actual,
+                archived,
+                createdAt,
+                updatedAt,
+                random.nextInt(4));
+    }
+
+    /**
+     * User ids are derived from the seed and index, so tasks can refer to
+     * users without looking them up.
+     */
+    UUID userId(int index) {
+        SplittableRandom random = random(~index);
+        LocalDateTime createdAt = historyStart.minusMinutes(random.nextLong(Duration.ofDays(30).toMinutes()));
+        return uuidV7(createdAt, random(Long.MIN_VALUE + index));
+    }
+
+    private SplittableRandom random(long index) {
+        return new SplittableRandom(spec.getSeed() * GOLDEN_GAMMA + index * GOLDEN_GAMMA + index);
+    }
+
+    /**
+     * Reserve {@code count} task keys by advancing the shared {@code key_blocks}
+     * row, returning the first reserved number.
+     */
+    private long reserveKeys(Connection connection, long count) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE key_blocks SET next_value = next_value + ? WHERE name = ?")) {
+            update.setLong(1, count);
+            update.setString(2, KEY_SEQUENCE);
+            if (update.executeUpdate() == 0) {
+                try (PreparedStatement insert = connection.prepareStatement(
+                        "INSERT INTO key_blocks (name, next_value) VALUES (?, ?)")) {
+                    insert.setString(1, KEY_SEQUENCE);
+                    insert.setLong(2, 1 + count);
+                    insert.executeUpdate();
+                }
+                return 1;
+            }
+        }
+        try (PreparedStatement select = connection.prepareStatement("SELECT next_value FROM key_blocks WHERE name = ?")) {
+            select.setString(1, KEY_SEQUENCE);
+            try (ResultSet rs = select.executeQuery()) {
+                rs.next();
+                return rs.getLong(1) - count;
+            }
+        }
+    }
+
+    private static void rebuildCounters(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM task_counters");
+            statement.executeUpdate("INSERT INTO task_counters (user_id, status, task_count, updated_at) "
+                    + "SELECT assigned_to_id, status, COUNT(*), CURRENT_TIMESTAMP FROM tasks "
+                    + "WHERE is_archived = false GROUP BY assigned_to_id, status");
+        }
+    }
+
+    private static void recreateIndexes(DataSource dataSource, ExecutorService workers, List<String> ddls)
+            throws SQLException, InterruptedException, ExecutionException {
+        List<Future<?>> indexes = new ArrayList<>();
+        for (String ddl : ddls) {
+            indexes.add(workers.submit(() -> {
+                try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                    statement.execute(ddl);
+                }
+                return null;
+            }));
+        }
+        waitFor(indexes);
+    }
+
+    private static void waitFor(List<Future<?>> futures) throws InterruptedException, ExecutionException {
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static boolean isTerminal(TaskStatus status) {
+        return status == TaskStatus.COMPLETED || status == TaskStatus.CANCELLED;
+    }
+
+    private static int pick(double[] weights, SplittableRandom random) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double roll = random.nextDouble() * total;
+        for (int i = 0; i < weights.length - 1; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static double logNormal(SplittableRandom random, double median, double sigma) {
+        return median * Math.exp(sigma * random.nextGaussian());
+    }
+
+    /**
+     * Version 7 UUID for the given creation time, matching the application's
+     * default id strategy and its index locality.
+     */
+    private static UUID uuidV7(LocalDateTime createdAt, SplittableRandom random) {
+        long millis = createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        long msb = (millis << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    public static class UserRow {
+        final UUID id;
+        final String username;
+        final String email;
+        final String passwordHash;
+        final String firstName;
+        final String lastName;
+        final UserRole role;
+        final boolean active;
+        final LocalDateTime createdAt;
+
+        UserRow(UUID id, String username, String email, String passwordHash, String firstName, String lastName,
+                UserRole role, boolean active, LocalDateTime createdAt) {
+            this.id = id;
+            this.username = username;
+            this.email = email;
+            this.passwordHash = passwordHash;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.role = role;
+            this.active = active;
+            this.createdAt = createdAt;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+    }
+
+    public static class TaskRow {
+        final UUID id;
+        final String taskKey;
+        final String title;
+        final String description;
+        final TaskStatus status;
+        final TaskPriority priority;
+        final TaskCategory category;
+        final UUID assignedTo;
+        final UUID createdBy;
+        final LocalDateTime dueDate;
+        final LocalDateTime completedAt;
+        final Integer estimatedHours;
+        final Integer actualHours;
+        final boolean archived;
+        final LocalDateTime createdAt;
+        final LocalDateTime updatedAt;
+        final long version;
+
+        TaskRow(UUID id, String taskKey, String title, String description, TaskStatus status, TaskPriority priority,
+                TaskCategory category, UUID assignedTo, UUID createdBy, LocalDateTime dueDate,
+                LocalDateTime completedAt, Integer estimatedHours, Integer actualHours, boolean archived,
+                LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
+            this.id = id;
+            this.taskKey = taskKey;
+            this.title = title;
+            this.description = description;
+            this.status = status;
+            this.priority = priority;
+            this.category = category;
+            this.assignedTo = assignedTo;
+            this.createdBy = createdBy;
+            this.dueDate = dueDate;
+            this.completedAt = completedAt;
+            this.estimatedHours = estimatedHours;
+            this.actualHours = actualHours;
+            this.archived = archived;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+            this.version = version;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public String getTaskKey() {
+            return taskKey;
+        }
+
+        public TaskStatus getStatus() {
+            return status;
+        }
+
+        public boolean isArchived() {
+            return archived;
+        }
+    }
+
+    public static class Result {
+        private final int users;
+        private final long tasks;
+        private final long firstKey;
+        private final Duration elapsed;
+
+        Result(int users, long tasks, long firstKey, Duration elapsed) {
+            this.users = users;
+            this.tasks = tasks;
+            this.firstKey = firstKey;
+            this.elapsed = elapsed;
+        }
+
+        public int getUsers() {
+            return users;
+        }
+
+        public long getTasks() {
+            return tasks;
+        }
+
+        public long getFirstKey() {
+            return firstKey;
+        }
+
+        public Duration getElapsed() {
+            return elapsed;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+            return String.format("%d users and %d tasks in %.1f s (%.0f tasks/s), keys from %d",
+                    users, tasks, seconds, tasks / seconds, firstKey);
+        }
+    }
+}
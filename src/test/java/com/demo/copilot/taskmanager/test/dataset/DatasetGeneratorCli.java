@@ -0,0 +1,77 @@
+package com.demo.copilot.taskmanager.test.dataset;
+
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Loads a generated dataset into a database whose schema already exists:
+ *
+ * <pre>
+ * mvn -Pdataset test-compile exec:java -Dexec.args="--url=jdbc:postgresql://localhost:5432/taskmanager_demo \
+ *     --user=taskmanager --password=taskmanager --users=100000 --tasks=10000000 --defer-indexes"
+ * </pre>
+ *
+ * Options mirror {@link DatasetSpec}: {@code --users}, {@code --tasks},
+ * {@code --zipf}, {@code --status-mix=TODO:30,IN_PROGRESS:20,...},
+ * {@code --archived}, {@code --due-dates}, {@code --due-median-days},
+ * {@code --history-days}, {@code --now}, {@code --seed}, {@code --workers},
+ * {@code --chunk-size}, {@code --defer-indexes}, {@code --key-prefix} and
+ * {@code --user-password}.
+ */
+public final class DatasetGeneratorCli {
+
+    private DatasetGeneratorCli() {}
+
+    public static void main(String[] args) throws Exception {
+        DatasetSpec.Builder spec = DatasetSpec.builder();
+        String url = null;
+        String user = null;
+        String password = null;
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String name = eq < 0 ? arg.substring(2) : arg.substring(2, eq);
+            String value = eq < 0 ? "true" : arg.substring(eq + 1);
+            switch (name) {
+                case "url" -> url = value;
+                case "user" -> user = value;
+                case "password" -> password = value;
+                case "users" -> spec.users(Integer.parseInt(value));
+                case "tasks" -> spec.tasks(Long.parseLong(value));
+                case "zipf" -> spec.zipfExponent(Double.parseDouble(value));
+                case "status-mix" -> spec.statusMix(statusMix(value));
+                case "archived" -> spec.archivedRatio(Double.parseDouble(value));
+                case "due-dates" -> spec.dueDateRatio(Double.parseDouble(value));
+                case "due-median-days" -> spec.dueDateMedianDays(Double.parseDouble(value));
+                case "history-days" -> spec.historyDays(Integer.parseInt(value));
+                case "now" -> spec.now(OffsetDateTime.parse(value));
+                case "seed" -> spec.seed(Long.parseLong(value));
+                case "workers" -> spec.workers(Integer.parseInt(value));
+                case "chunk-size" -> spec.chunkSize(Integer.parseInt(value));
+                case "defer-indexes" -> spec.deferIndexes(Boolean.parseBoolean(value));
+                case "key-prefix" -> spec.keyPrefix(value);
+                case "user-password" -> spec.userPassword(value);
+                default -> throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+        if (url == null) {
+            throw new IllegalArgumentException("--url is required");
+        }
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, user, password);
+        DatasetGenerator.Result result = new DatasetGenerator(spec.build()).load(dataSource, System.out::println);
+        System.out.println("Generated " + result);
+    }
+
+    private static Map<TaskStatus, Double> statusMix(String value) {
+        Map<TaskStatus, Double> mix = new EnumMap<>(TaskStatus.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.split(":");
+            mix.put(TaskStatus.valueOf(pair[0].trim()), Double.parseDouble(pair[1].trim()));
+        }
+        return mix;
+    }
+}
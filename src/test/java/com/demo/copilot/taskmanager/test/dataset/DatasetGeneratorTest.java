@@ -0,0 +1,96 @@
+package com.demo.copilot.taskmanager.test.dataset;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DatasetGeneratorTest {
+
+    private static final String GENERATED_TASKS =
+            "FROM tasks t JOIN users u ON u.id = t.assigned_to_id WHERE u.username LIKE 'u7\\_%'";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final DatasetSpec spec = DatasetSpec.builder()
+            .users(100)
+            .tasks(20_000)
+            .seed(7)
+            .workers(2)
+            .chunkSize(3_000)
+            .now(OffsetDateTime.of(2025, 6, 1, 12, 0, 0, 0, ZoneOffset.UTC))
+            .build();
+
+    @Test
+    void task_ShouldBeDeterministicPerIndex() {
+        DatasetGenerator first = new DatasetGenerator(spec);
+        DatasetGenerator second = new DatasetGenerator(spec);
+
+        for (long index : new long[] {0, 1, 12_345, 19_999}) {
+            DatasetGenerator.TaskRow a = first.task(index, 1);
+            DatasetGenerator.TaskRow b = second.task(index, 1);
+            assertThat(a.getId()).isEqualTo(b.getId());
+            assertThat(a.getTaskKey()).isEqualTo("TM-" + (index + 1));
+            assertThat(a.getStatus()).isEqualTo(b.getStatus());
+        }
+        assertThat(first.task(5, 1).getId().version()).isEqualTo(7);
+        assertThat(first.task(5, 1).getId()).isLessThan(first.task(6_000, 1).getId());
+    }
+
+    @Test
+    void load_ShouldWriteSkewedTasksAndConsistentCounters() throws Exception {
+        // When
+        DatasetGenerator.Result result = new DatasetGenerator(spec).load(dataSource, line -> { });
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE username LIKE 'u7\\_%'", Long.class))
+                .isEqualTo(100);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) " + GENERATED_TASKS, Long.class)).isEqualTo(20_000);
+
+        // Zipf(1) over 100 users gives the heaviest assignee about 19% of all tasks
+        List<Long> perAssignee = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) " + GENERATED_TASKS + " GROUP BY t.assigned_to_id ORDER BY COUNT(*) DESC", Long.class);
+        assertThat(perAssignee.get(0) / 20_000.0).isCloseTo(0.19, within(0.02));
+        assertThat(perAssignee.get(perAssignee.size() - 1)).isLessThan(perAssignee.get(0) / 50);
+
+        Map<String, Object> shares = jdbcTemplate.queryForMap("SELECT "
+                + "SUM(CASE WHEN t.status = 'COMPLETED' THEN 1 ELSE 0 END) / 20000.0 AS completed, "
+                + "SUM(CASE WHEN t.is_archived THEN 1 ELSE 0 END) / 20000.0 AS archived, "
+                + "SUM(CASE WHEN t.is_archived AND t.status NOT IN ('COMPLETED', 'CANCELLED') THEN 1 ELSE 0 END) AS archived_open, "
+                + "SUM(CASE WHEN t.due_date IS NULL THEN 1 ELSE 0 END) / 20000.0 AS no_due_date "
+                + GENERATED_TASKS);
+        assertThat(((Number) shares.get("COMPLETED")).doubleValue()).isCloseTo(0.37, within(0.02));
+        assertThat(((Number) shares.get("ARCHIVED")).doubleValue()).isCloseTo(0.15, within(0.02));
+        assertThat(((Number) shares.get("ARCHIVED_OPEN")).longValue()).isZero();
+        assertThat(((Number) shares.get("NO_DUE_DATE")).doubleValue()).isCloseTo(0.2, within(0.02));
+
+        Long active = jdbcTemplate.queryForObject("SELECT COUNT(*) " + GENERATED_TASKS + " AND t.is_archived = false", Long.class);
+        Long counted = jdbcTemplate.queryForObject("SELECT SUM(c.task_count) FROM task_counters c "
+                + "JOIN users u ON u.id = c.user_id WHERE u.username LIKE 'u7\\_%'", Long.class);
+        assertThat(counted).isEqualTo(active);
+
+        Long nextKey = jdbcTemplate.queryForObject("SELECT next_value FROM key_blocks WHERE name = 'task'", Long.class);
+        assertThat(nextKey).isGreaterThanOrEqualTo(result.getFirstKey() + 20_000);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE task_key = ?", Long.class,
+                "TM-" + result.getFirstKey())).isEqualTo(1);
+    }
+}
@@ -0,0 +1,49 @@
+package com.demo.copilot.taskmanager.test.dataset;
+
+import com.demo.copilot.taskmanager.test.dataset.DatasetGenerator.TaskRow;
+import com.demo.copilot.taskmanager.test.dataset.DatasetGenerator.UserRow;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Writes generated rows with the fastest bulk path of a database. Methods
+ * run inside the caller's transaction; the caller commits.
+ */
+interface DatasetLoader {
+
+    String USER_COLUMNS = "id, username, email, password_hash, first_name, last_name, role, is_active, "
+            + "created_at, updated_at, version";
+
+    String TASK_COLUMNS = "id, task_key, title, description, status, priority, category, assigned_to_id, "
+            + "created_by_id, due_date, completed_at, estimated_hours, actual_hours, is_archived, "
+            + "created_at, updated_at, version";
+
+    void insertUsers(Connection connection, List<UserRow> users) throws SQLException;
+
+    /**
+     * Insert the tasks with indexes {@code from} (inclusive) to {@code to}
+     * (exclusive), produced by {@code rows}.
+     */
+    void insertTasks(Connection connection, long from, long to, LongFunction<TaskRow> rows) throws SQLException;
+
+    /**
+     * Drop the indexes of {@code tasks} other than its primary key and return
+     * the statements that recreate them. Empty where not supported.
+     */
+    default List<String> dropSecondaryTaskIndexes(Connection connection) throws SQLException {
+        return List.of();
+    }
+
+    /**
+     * Refresh planner statistics after the load.
+     */
+    void analyze(Connection connection) throws SQLException;
+
+    static DatasetLoader forConnection(Connection connection) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName();
+        return "PostgreSQL".equals(product) ? new PostgresCopyLoader() : new JdbcBatchLoader(connection);
+    }
+}
@@ -0,0 +1,259 @@
+package com.demo.copilot.taskmanager.test.dataset;
+
+import com.demo.copilot.taskmanager.domain.valueobject.TaskStatus;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Shape of a generated dataset: how many users and tasks, and how tasks are
+ * spread over assignees, statuses, due dates and archiving.
+ *
+ * The same spec (including {@code seed} and {@code now}) always produces the
+ * same rows, whatever the number of workers.
+ */
+public class DatasetSpec {
+
+    private final int users;
+    private final long tasks;
+    private final double zipfExponent;
+    private final Map<TaskStatus, Double> statusMix;
+    private final double archivedRatio;
+    private final double dueDateRatio;
+    private final double dueDateMedianDays;
+    private final int historyDays;
+    private final OffsetDateTime now;
+    private final long seed;
+    private final int workers;
+    private final int chunkSize;
+    private final boolean deferIndexes;
+    private final String keyPrefix;
+    private final String userPassword;
+
+    private DatasetSpec(Builder builder) {
+        this.users = builder.users;
+        this.tasks = builder.tasks;
+        this.zipfExponent = builder.zipfExponent;
+        this.statusMix = Collections.unmodifiableMap(new EnumMap<>(builder.statusMix));
+        this.archivedRatio = builder.archivedRatio;
+        this.dueDateRatio = builder.dueDateRatio;
+        this.dueDateMedianDays = builder.dueDateMedianDays;
+        this.historyDays = builder.historyDays;
+        this.now = builder.now;
+        this.seed = builder.seed;
+        this.workers = builder.workers;
+        this.chunkSize = builder.chunkSize;
+        this.deferIndexes = builder.deferIndexes;
+        this.keyPrefix = builder.keyPrefix;
+        this.userPassword = builder.userPassword;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public long getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Exponent of the Zipf distribution of assignees: 0 spreads tasks evenly,
+     * 1 gives the first user about 1/H(n) of all tasks.
+     */
+    public double getZipfExponent() {
+        return zipfExponent;
+    }
+
+    /**
+     * Relative weight of each status; statuses not listed do not occur.
+     */
+    public Map<TaskStatus, Double> getStatusMix() {
+        return statusMix;
+    }
+
+    /**
+     * Share of all tasks that are archived. Only completed and cancelled
+     * tasks are archived, so it is capped by their share.
+     */
+    public double getArchivedRatio() {
+        return archivedRatio;
+    }
+
+    public double getDueDateRatio() {
+        return dueDateRatio;
+    }
+
+    /**
+     * Median time from creation to due date; the distribution is log-normal,
+     * so a minority of tasks are due months out.
+     */
+    public double getDueDateMedianDays() {
+        return dueDateMedianDays;
+    }
+
+    /**
+     * Tasks are created at an even rate over this many days before {@code now}.
+     */
+    public int getHistoryDays() {
+        return historyDays;
+    }
+
+    public OffsetDateTime getNow() {
+        return now;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * PostgreSQL only: drop the secondary indexes of {@code tasks} before
+     * loading and rebuild them in parallel afterwards.
+     */
+    public boolean isDeferIndexes() {
+        return deferIndexes;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    /**
+     * Password every generated user can log in with.
+     */
+    public String getUserPassword() {
+        return userPassword;
+    }
+
+    public static class Builder {
+        private int users = 1_000;
+        private long tasks = 100_000;
+        private double zipfExponent = 1.0;
+        private final Map<TaskStatus, Double> statusMix = new EnumMap<>(Map.of(
+                TaskStatus.TODO, 30.0,
+                TaskStatus.IN_PROGRESS, 20.0,
+                TaskStatus.IN_REVIEW, 8.0,
+                TaskStatus.COMPLETED, 37.0,
+                TaskStatus.CANCELLED, 5.0));
+        private double archivedRatio = 0.15;
+        private double dueDateRatio = 0.8;
+        private double dueDateMedianDays = 7;
+        private int historyDays = 365;
+        private OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+        private long seed = 42;
+        private int workers = Runtime.getRuntime().availableProcessors();
+        private int chunkSize = 50_000;
+        private boolean deferIndexes;
+        private String keyPrefix = "TM";
+        private String userPassword = "Password@1";
+
+        public Builder users(int users) {
+            this.users = users;
+            return this;
+        }
+
+        public Builder tasks(long tasks) {
+            this.tasks = tasks;
+            return this;
+        }
+
+        public Builder zipfExponent(double zipfExponent) {
+            this.zipfExponent = zipfExponent;
+            return this;
+        }
+
+        public Builder statusMix(Map<TaskStatus, Double> statusMix) {
+            this.statusMix.clear();
+            this.statusMix.putAll(statusMix);
+            return this;
+        }
+
+        public Builder archivedRatio(double archivedRatio) {
+            this.archivedRatio = archivedRatio;
+            return this;
+        }
+
+        public Builder dueDateRatio(double dueDateRatio) {
+            this.dueDateRatio = dueDateRatio;
+            return this;
+        }
+
+        public Builder dueDateMedianDays(double dueDateMedianDays) {
+            this.dueDateMedianDays = dueDateMedianDays;
+            return this;
+        }
+
+        public Builder historyDays(int historyDays) {
+            this.historyDays = historyDays;
+            return this;
+        }
+
+        public Builder now(OffsetDateTime now) {
+            this.now = now;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder workers(int workers) {
+            this.workers = workers;
+            return this;
+        }
+
+        public Builder chunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public Builder deferIndexes(boolean deferIndexes) {
+            this.deferIndexes = deferIndexes;
+            return this;
+        }
+
+        public Builder keyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+            return this;
+        }
+
+        public Builder userPassword(String userPassword) {
+            this.userPassword = userPassword;
+            return this;
+        }
+
+        public DatasetSpec build() {
+            if (users < 1 || tasks < 0) {
+                throw new IllegalArgumentException("Need at least one user and a non-negative task count");
+            }
+            if (statusMix.values().stream().mapToDouble(Double::doubleValue).sum() <= 0) {
+                throw new IllegalArgumentException("Status mix needs a positive weight");
+            }
+            if (archivedRatio < 0 || archivedRatio > 1 || dueDateRatio < 0 || dueDateRatio > 1) {
+                throw new IllegalArgumentException("Ratios must be between 0 and 1");
+            }
+            Objects.requireNonNull(now, "now");
+            workers = Math.max(1, workers);
+            chunkSize = Math.max(1, chunkSize);
+            return new DatasetSpec(this);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.demo.copilot.taskmanager.test.dataset;
+
+import com.demo.copilot.taskmanager.test.dataset.DatasetGenerator.TaskRow;
+import com.demo.copilot.taskmanager.test.dataset.DatasetGenerator.UserRow;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Batched {@code INSERT}s through plain JDBC, for H2 and any other database
+ * without a dedicated loader.
+ *
+ * Hibernate creates the H2 timestamp columns {@code WITH TIME ZONE} while
+ * Flyway creates plain {@code TIMESTAMP}s; the column type is checked once
+ * and timestamps are bound to match, always in UTC.
+ */
+class JdbcBatchLoader implements DatasetLoader {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final boolean timestampsWithZone;
+
+    JdbcBatchLoader(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT created_at FROM tasks WHERE 1 = 0")) {
+            this.timestampsWithZone = rs.getMetaData().getColumnType(1) == Types.TIMESTAMP_WITH_TIMEZONE;
+        }
+    }
+
+    @Override
+    public void insertUsers(Connection connection, List<UserRow> users) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO users (" + USER_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            int pending = 0;
+            for (UserRow user : users) {
+                insert.setObject(1, user.id);
+                insert.setString(2, user.username);
+                insert.setString(3, user.email);
+                insert.setString(4, user.passwordHash);
+                insert.setString(5, user.firstName);
+                insert.setString(6, user.lastName);
+                insert.setString(7, user.role.name());
+                insert.setBoolean(8, user.active);
+                setTimestamp(insert, 9, user.createdAt);
+                setTimestamp(insert, 10, user.createdAt);
+                insert.setLong(11, 0);
+                insert.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    insert.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                insert.executeBatch();
+            }
+        }
+    }
+
+    @Override
+    public void insertTasks(Connection connection, long from, long to, LongFunction<TaskRow> rows) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO tasks (" + TASK_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            int pending = 0;
+            for (long index = from; index < to; index++) {
+                TaskRow task = rows.apply(index);
+                insert.setObject(1, task.id);
+                insert.setString(2, task.taskKey);
+                insert.setString(3, task.title);
+                insert.setString(4, task.description);
+                insert.setString(5, task.status.name());
+                insert.setString(6, task.priority.name());
+                insert.setString(7, task.category == null ? null : task.category.name());
+                insert.setObject(8, task.assignedTo);
+                insert.setObject(9, task.createdBy);
+                setTimestamp(insert, 10, task.dueDate);
+                setTimestamp(insert, 11, task.completedAt);
+                insert.setObject(12, task.estimatedHours, Types.INTEGER);
+                insert.setObject(13, task.actualHours, Types.INTEGER);
+                insert.setBoolean(14, task.archived);
+                setTimestamp(insert, 15, task.createdAt);
+                setTimestamp(insert, 16, task.updatedAt);
+                insert.setLong(17, task.version);
+                insert.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    insert.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                insert.executeBatch();
+            }
+        }
+    }
+
+    @Override
+    public void analyze(Connection connection) throws SQLException {
+        if ("H2".equals(connection.getMetaData().getDatabaseProductName())) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+        }
+    }
+
+    private void setTimestamp(PreparedStatement statement, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, timestampsWithZone ? Types.TIMESTAMP_WITH_TIMEZONE : Types.TIMESTAMP);
+        } else if (timestampsWithZone) {
+            statement.setObject(index, value.atOffset(ZoneOffset.UTC));
+        } else {
+            statement.setObject(index, value);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.demo.copilot.taskmanager.test.dataset;
+
+import com.demo.copilot.taskmanager.test.dataset.DatasetGenerator.TaskRow;
+import com.demo.copilot.taskmanager.test.dataset.DatasetGenerator.UserRow;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * {@code COPY ... FROM STDIN} in CSV format, streamed in buffers of about
+ * 1 MB, roughly an order of magnitude faster than batched inserts.
+ */
+class PostgresCopyLoader implements DatasetLoader {
+
+    private static final int FLUSH_BYTES = 1 << 20;
+
+    @Override
+    public void insertUsers(Connection connection, List<UserRow> users) throws SQLException {
+        try (Copy copy = new Copy(connection, "users", USER_COLUMNS)) {
+            for (UserRow user : users) {
+                copy.value(user.id).text(user.username).text(user.email).text(user.passwordHash)
+                        .text(user.firstName).text(user.lastName).value(user.role).value(user.active)
+                        .value(user.createdAt).value(user.createdAt).last(0);
+            }
+            copy.finish();
+        }
+    }
+
+    @Override
+    public void insertTasks(Connection connection, long from, long to, LongFunction<TaskRow> rows) throws SQLException {
+        try (Copy copy = new Copy(connection, "tasks", TASK_COLUMNS)) {
+            for (long index = from; index < to; index++) {
+                TaskRow task = rows.apply(index);
+                copy.value(task.id).text(task.taskKey).text(task.title).text(task.description)
+                        .value(task.status).value(task.priority).value(task.category)
+                        .value(task.assignedTo).value(task.createdBy).value(task.dueDate).value(task.completedAt)
+                        .value(task.estimatedHours).value(task.actualHours).value(task.archived)
+                        .value(task.createdAt).value(task.updatedAt).last(task.version);
+            }
+            copy.finish();
+        }
+    }
+
+    @Override
+    public List<String> dropSecondaryTaskIndexes(Connection connection) throws SQLException {
+        List<String> recreate = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT i.indexname, i.indexdef FROM pg_indexes i "
+                        + "WHERE i.schemaname = current_schema() AND i.tablename = 'tasks' "
+                        + "AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conname = i.indexname)");
+             ResultSet rs = select.executeQuery()) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+                recreate.add(rs.getString(2));
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String name : names) {
+                statement.execute("DROP INDEX \"" + name.replace("\"", "\"\"") + "\"");
+            }
+        }
+        return recreate;
+    }
+
+    @Override
+    public void analyze(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE users");
+            statement.execute("ANALYZE tasks");
+        }
+    }
+
+    /**
+     * One {@code COPY} of CSV rows. Values are appended field by field; a
+     * {@code null} is an unquoted empty field, text is always quoted. Rows
+     * are only kept if {@link #finish()} is called; closing without it
+     * cancels the copy.
+     */
+    private static final class Copy implements AutoCloseable {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 4096);
+        private boolean done;
+
+        Copy(Connection connection, String table, String columns) throws SQLException {
+            this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)");
+        }
+
+        Copy text(String value) {
+            if (value != null) {
+                buffer.append('"');
+                for (int i = 0; i < value.length(); i++) {
+                    char c = value.charAt(i);
+                    if (c == '"') {
+                        buffer.append('"');
+                    }
+                    buffer.append(c);
+                }
+                buffer.append('"');
+            }
+            buffer.append(',');
+            return this;
+        }
+
+        Copy value(Object value) {
+            if (value instanceof LocalDateTime timestamp) {
+                buffer.append(timestamp);
+            } else if (value != null) {
+                buffer.append(value);
+            }
+            buffer.append(',');
+            return this;
+        }
+
+        void last(long value) throws SQLException {
+            buffer.append(value).append('\n');
+            if (buffer.length() >= FLUSH_BYTES) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        void finish() throws SQLException {
+            if (buffer.length() > 0) {
+                flush();
+            }
+            copyIn.endCopy();
+            done = true;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (!done && copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+}
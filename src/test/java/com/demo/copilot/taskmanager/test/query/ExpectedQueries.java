@@ -0,0 +1,37 @@
+package com.demo.copilot.taskmanager.test.query;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Statement budget for a test. JDBC statements the test method runs on its
+ * own thread are counted, excluding {@code @BeforeEach} and
+ * {@code @AfterEach}, and the test fails when any limit is exceeded. Every
+ * annotated test is also written to the query-count report.
+ *
+ * On a class, the budget applies to each test method that does not declare
+ * its own. Limits left at {@code -1} are not checked, so
+ * {@code @ExpectedQueries} alone only records counts for the report.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ExtendWith(ExpectedQueriesExtension.class)
+public @interface ExpectedQueries {
+
+    /** Maximum number of statements of any kind. */
+    int max() default -1;
+
+    int selects() default -1;
+
+    int inserts() default -1;
+
+    int updates() default -1;
+
+    int deletes() default -1;
+}
@@ -0,0 +1,65 @@
+package com.demo.copilot.taskmanager.test.query;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the statements of each {@link ExpectedQueries} test, adds them to
+ * the {@link QueryCountReport} and fails the test when it is over budget.
+ */
+public class ExpectedQueriesExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(ExpectedQueriesExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(QueryRecording.class, QueryCounter.start());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryRecording recording = context.getStore(NAMESPACE).remove(QueryRecording.class, QueryRecording.class);
+        if (recording == null) {
+            return;
+        }
+        QueryCounter.stop(recording);
+
+        String name = context.getRequiredTestClass().getSimpleName() + " > " + context.getDisplayName();
+        report(context).add(name, recording);
+
+        ExpectedQueries expected = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), ExpectedQueries.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), ExpectedQueries.class))
+                .orElse(null);
+        // A test that already failed is reported as such, not as a budget overrun
+        if (expected == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+        List<String> exceeded = new ArrayList<>();
+        check(exceeded, "statements", expected.max(), recording.getTotal());
+        check(exceeded, "selects", expected.selects(), recording.getSelects());
+        check(exceeded, "inserts", expected.inserts(), recording.getInserts());
+        check(exceeded, "updates", expected.updates(), recording.getUpdates());
+        check(exceeded, "deletes", expected.deletes(), recording.getDeletes());
+        if (!exceeded.isEmpty()) {
+            throw new AssertionError("Query budget exceeded: " + String.join(", ", exceeded)
+                    + "; executed:" + recording.describe());
+        }
+    }
+
+    private static void check(List<String> exceeded, String what, int limit, int actual) {
+        if (limit >= 0 && actual > limit) {
+            exceeded.add(actual + " " + what + " (expected at most " + limit + ")");
+        }
+    }
+
+    private static QueryCountReport report(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(QueryCountReport.class, key -> new QueryCountReport(), QueryCountReport.class);
+    }
+}
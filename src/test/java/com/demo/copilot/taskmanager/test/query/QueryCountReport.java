@@ -0,0 +1,51 @@
+package com.demo.copilot.taskmanager.test.query;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Statement counts of every {@link ExpectedQueries} test in the run,
+ * written as a sorted TSV when the run ends so CI can diff it against the
+ * committed baseline. The path defaults to {@code target/query-counts.tsv}
+ * and can be changed with the {@code query-counts.report} system property.
+ */
+class QueryCountReport implements ExtensionContext.Store.CloseableResource {
+
+    static final String PATH_PROPERTY = "query-counts.report";
+    static final String HEADER = "test\tstatements\tselects\tinserts\tupdates\tdeletes";
+
+    private final Map<String, String> rows = new ConcurrentSkipListMap<>();
+
+    void add(String test, QueryRecording recording) {
+        rows.put(test, String.join("\t", test,
+                String.valueOf(recording.getTotal()),
+                String.valueOf(recording.getSelects()),
+                String.valueOf(recording.getInserts()),
+                String.valueOf(recording.getUpdates()),
+                String.valueOf(recording.getDeletes())));
+    }
+
+    @Override
+    public void close() {
+        List<String> lines = new ArrayList<>(rows.size() + 1);
+        lines.add(HEADER);
+        lines.addAll(rows.values());
+        Path path = Path.of(System.getProperty(PATH_PROPERTY, "target/query-counts.tsv"));
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.write(path, lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write query count report to " + path, e);
+        }
+    }
+}
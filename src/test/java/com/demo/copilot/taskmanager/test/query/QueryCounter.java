@@ -0,0 +1,66 @@
+package com.demo.copilot.taskmanager.test.query;
+
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts the JDBC statements executed on the calling thread.
+ *
+ * Statements reach the counter through the proxy that
+ * {@link QueryCountingContextCustomizerFactory} puts around the
+ * {@code dataSource} of every Spring test context. Work handed to other
+ * threads is not counted; MockMvc requests run on the test thread, so
+ * controller tests see everything the request executes.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<List<QueryRecording>> ACTIVE = new ThreadLocal<>();
+
+    private QueryCounter() {}
+
+    /**
+     * Run {@code action} and return the statements it executed.
+     */
+    public static QueryRecording count(Executable action) throws Throwable {
+        QueryRecording recording = start();
+        try {
+            action.execute();
+        } finally {
+            stop(recording);
+        }
+        return recording;
+    }
+
+    static QueryRecording start() {
+        List<QueryRecording> active = ACTIVE.get();
+        if (active == null) {
+            active = new ArrayList<>(1);
+            ACTIVE.set(active);
+        }
+        QueryRecording recording = new QueryRecording();
+        active.add(recording);
+        return recording;
+    }
+
+    static void stop(QueryRecording recording) {
+        List<QueryRecording> active = ACTIVE.get();
+        if (active != null) {
+            active.remove(recording);
+            if (active.isEmpty()) {
+                ACTIVE.remove();
+            }
+        }
+    }
+
+    static void record(String sql) {
+        List<QueryRecording> active = ACTIVE.get();
+        if (active == null) {
+            return;
+        }
+        for (QueryRecording recording : active) {
+            recording.add(sql);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.demo.copilot.taskmanager.test.query;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ContextConfigurationAttributes;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.ContextCustomizerFactory;
+import org.springframework.test.context.MergedContextConfiguration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Wraps the {@code dataSource} bean of every Spring test context in a
+ * counting proxy, so {@link ExpectedQueries} works in {@code @DataJpaTest},
+ * {@code @SpringBootTest} and any other slice without extra configuration.
+ * Registered in {@code META-INF/spring.factories}.
+ */
+public class QueryCountingContextCustomizerFactory implements ContextCustomizerFactory {
+
+    @Override
+    public ContextCustomizer createContextCustomizer(Class<?> testClass,
+                                                     List<ContextConfigurationAttributes> configAttributes) {
+        return new QueryCountingContextCustomizer();
+    }
+
+    private static class QueryCountingContextCustomizer implements ContextCustomizer {
+
+        @Override
+        public void customizeContext(ConfigurableApplicationContext context, MergedContextConfiguration mergedConfig) {
+            context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(new QueryCountingListener())
+                            .build();
+                }
+            });
+        }
+
+        // Identical for every test class, so it never splits the context cache
+
+        @Override
+        public boolean equals(Object other) {
+            return other != null && other.getClass() == getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+}
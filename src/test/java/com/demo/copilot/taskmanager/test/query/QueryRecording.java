@@ -0,0 +1,94 @@
+package com.demo.copilot.taskmanager.test.query;
+
+import com.demo.copilot.taskmanager.infrastructure.diagnostics.SqlFingerprint;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Statements executed while a {@link QueryCounter} recording was open.
+ * Each execution counts once, so a JDBC batch is a single statement.
+ */
+public class QueryRecording {
+
+    public enum Kind {
+        SELECT, INSERT, UPDATE, DELETE, OTHER
+    }
+
+    private final List<String> statements = new ArrayList<>();
+    private final int[] counts = new int[Kind.values().length];
+
+    void add(String sql) {
+        statements.add(sql);
+        counts[kindOf(sql).ordinal()]++;
+    }
+
+    public int getTotal() {
+        return statements.size();
+    }
+
+    public int getSelects() {
+        return count(Kind.SELECT);
+    }
+
+    public int getInserts() {
+        return count(Kind.INSERT);
+    }
+
+    public int getUpdates() {
+        return count(Kind.UPDATE);
+    }
+
+    public int getDeletes() {
+        return count(Kind.DELETE);
+    }
+
+    public int count(Kind kind) {
+        return counts[kind.ordinal()];
+    }
+
+    public List<String> getStatements() {
+        return List.copyOf(statements);
+    }
+
+    /**
+     * The statements grouped by fingerprint in first-execution order, with
+     * repeats marked, which is usually enough to spot an N+1.
+     */
+    public String describe() {
+        Map<String, Integer> byFingerprint = new LinkedHashMap<>();
+        for (String sql : statements) {
+            byFingerprint.merge(SqlFingerprint.of(sql), 1, Integer::sum);
+        }
+        StringBuilder description = new StringBuilder();
+        byFingerprint.forEach((fingerprint, times) -> {
+            description.append("\n  ");
+            if (times > 1) {
+                description.append(times).append("x ");
+            }
+            description.append(fingerprint);
+        });
+        return description.toString();
+    }
+
+    static Kind kindOf(String sql) {
+        int start = 0;
+        while (start < sql.length() && (Character.isWhitespace(sql.charAt(start)) || sql.charAt(start) == '(')) {
+            start++;
+        }
+        int end = start;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return switch (sql.substring(start, end).toLowerCase(Locale.ROOT)) {
+            case "select", "with", "values" -> Kind.SELECT;
+            case "insert", "merge" -> Kind.INSERT;
+            case "update" -> Kind.UPDATE;
+            case "delete" -> Kind.DELETE;
+            default -> Kind.OTHER;
+        };
+    }
+}